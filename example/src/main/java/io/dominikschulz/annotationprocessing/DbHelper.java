@@ -6,28 +6,27 @@ import android.database.sqlite.SQLiteOpenHelper;
 
 public class DbHelper extends SQLiteOpenHelper {
 
-    private static final int DATABASE_VERSION = 1;
+    // 2: indices of PersonSchema, 3: avatar column
+    private static final int DATABASE_VERSION = 3;
     private static final String DATABASE_NAME = "example.db";
 
-    private static final String CREATE_TABLE_STUDENT = "CREATE TABLE " + PersonDBContract.TABLE + "("
-            + PersonDBContract.COLUMN_ID + " INTEGER PRIMARY KEY AUTOINCREMENT ,"
-            + PersonDBContract.COLUMN_NAME + " TEXT, "
-            + PersonDBContract.COLUMN_AGE + " INTEGER, "
-            + PersonDBContract.COLUMN_EMAIL + " TEXT )";
-
-
     public DbHelper(Context context) {
         super(context, DATABASE_NAME, null, DATABASE_VERSION);
     }
 
     @Override
     public void onCreate(SQLiteDatabase db) {
-        db.execSQL(CREATE_TABLE_STUDENT);
+        PersonSchema.create(db);
     }
 
     @Override
     public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
-
+        if (oldVersion < 2) {
+            PersonSchema.createIndices(db);
+        }
+        if (oldVersion < 3) {
+            db.execSQL("ALTER TABLE " + PersonDBContract.TABLE + " ADD COLUMN " + PersonDBContract.COLUMN_AVATAR + " BLOB");
+        }
     }
 
 }
@@ -1,10 +1,24 @@
 package io.dominikschulz.annotationprocessing;
 
 
+import io.dominikschulz.slimorm.DeferredBlob;
 import io.dominikschulz.slimorm.Field;
-
+import io.dominikschulz.slimorm.Index;
+import io.dominikschulz.slimorm.KeysetPage;
+import io.dominikschulz.slimorm.PrimaryKey;
+import io.dominikschulz.slimorm.Projection;
+import io.dominikschulz.slimorm.Table;
+
+@Table(name = PersonDBContract.TABLE, indices = {
+        @Index(columns = {PersonDBContract.COLUMN_EMAIL}, unique = true),
+        @Index(columns = {PersonDBContract.COLUMN_NAME, PersonDBContract.COLUMN_ID}),
+        @Index(columns = {PersonDBContract.COLUMN_NAME, PersonDBContract.COLUMN_AGE}, where = PersonDBContract.COLUMN_AGE + " IS NOT NULL")
+})
+@KeysetPage(name = "byName", column = PersonDBContract.COLUMN_NAME)
+@Projection(name = "summary", columns = {PersonDBContract.COLUMN_ID, PersonDBContract.COLUMN_NAME}, strict = true)
 public class Person {
 
+    @PrimaryKey(autoIncrement = true)
     @Field(PersonDBContract.COLUMN_ID)
     long id;
 
@@ -23,4 +37,9 @@ public class Person {
     @Field(PersonDBContract.COLUMN_AGE)
     boolean fakeData;
 
+    // Not read with the other columns, copied on demand with PersonConverter.copyAvatarTo
+    @DeferredBlob
+    @Field(PersonDBContract.COLUMN_AVATAR)
+    byte[] avatar;
+
 }
@@ -10,5 +10,6 @@ public class PersonDBContract {
     public static final String COLUMN_NAME = "name";
     public static final String COLUMN_EMAIL = "email";
     public static final String COLUMN_AGE = "age";
+    public static final String COLUMN_AVATAR = "avatar";
 
 }
\ No newline at end of file
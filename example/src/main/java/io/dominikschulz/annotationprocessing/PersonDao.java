@@ -3,10 +3,22 @@ package io.dominikschulz.annotationprocessing;
 import android.content.ContentValues;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
 
+import io.dominikschulz.slimorm.Page;
+import io.dominikschulz.slimorm.PageKey;
+import io.dominikschulz.slimorm.QueryCache;
+import io.dominikschulz.slimorm.SnapshotStore;
+import io.dominikschulz.slimorm.TableVersions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.List;
 
 public class PersonDao {
+    private static final QueryCache QUERY_CACHE = new QueryCache(1000);
+
     private DbHelper dbHelper;
 
     public PersonDao(DbHelper dbHelper) {
@@ -19,17 +31,38 @@ public class PersonDao {
 
         final ContentValues contentValues = PersonConverter.parseToContentValues(person);
         db.insert(PersonDBContract.TABLE, null, contentValues);
+        // Written without a generated method, the cached queries of the table have to be dropped by hand
+        TableVersions.invalidate(PersonDBContract.TABLE);
+
+        db.close();
+    }
+
+    public void insertAll(List<Person> persons) {
+
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+
+        PersonConverter.parseInsertAll(db, PersonDBContract.TABLE, persons);
+
+        db.close();
+    }
+
+    public void update(Person before, Person after) {
+
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+
+        // Only writes the columns which changed
+        PersonConverter.parseDiffUpdate(db, PersonDBContract.TABLE, before, after,
+                PersonDBContract.COLUMN_ID + " = ?", new String[]{String.valueOf(before.id)});
 
         db.close();
     }
 
     public ArrayList<Person> getPersonList() {
         SQLiteDatabase db = dbHelper.getReadableDatabase();
-        String selectQuery = "SELECT * FROM " + PersonDBContract.TABLE;
-
         ArrayList<Person> studentList = new ArrayList<>();
 
-        Cursor cursor = db.rawQuery(selectQuery, null);
+        // Leaves out the deferred avatar blobs
+        Cursor cursor = db.query(PersonDBContract.TABLE, PersonConverter.PROJECTION_READ, null, null, null, null, null);
 
         if (cursor != null) {
             studentList.addAll(PersonConverter.parseToList(cursor));
@@ -41,4 +74,71 @@ public class PersonDao {
 
     }
 
+    /**
+     * @return the cached persons until the next write to the table, the list is shared and must not be modified
+     */
+    public List<Person> getCachedPersonList() {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+
+        List<Person> persons = PersonConverter.parseQueryCachedList(QUERY_CACHE, db,
+                "SELECT * FROM " + PersonDBContract.TABLE, null, PersonDBContract.TABLE);
+
+        db.close();
+        return persons;
+    }
+
+    /**
+     * @return the persons of the last snapshot, the table is only queried if there is none
+     */
+    public List<Person> getStartupPersonList(SnapshotStore snapshotStore) throws IOException {
+        List<Person> persons = snapshotStore.read(PersonDBContract.TABLE, PersonConverter.SNAPSHOT_CODEC);
+        if (persons == null) {
+            persons = getPersonList();
+            snapshotStore.write(PersonDBContract.TABLE, persons, PersonConverter.SNAPSHOT_CODEC);
+        }
+        return persons;
+    }
+
+    public List<Person> getPersonSummaryList() {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+
+        // Only selects and reads the id and name columns
+        Cursor cursor = db.query(PersonDBContract.TABLE, PersonConverter.PROJECTION_SUMMARY, null, null, null, null, null);
+
+        List<Person> summaries = PersonSummaryConverter.parseToList(cursor);
+
+        cursor.close();
+        db.close();
+        return summaries;
+    }
+
+    /**
+     * @param target reused for the avatars of many persons, a direct buffer keeps them off the heap
+     * @return length of the avatar or -1 if the person has none
+     */
+    public int copyAvatar(long id, ByteBuffer target) throws IOException {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        SQLiteStatement statement = PersonConverter.compileAvatarStatement(db, PersonDBContract.TABLE);
+
+        try {
+            return PersonConverter.parseCopyAvatarTo(statement, id, target);
+        } finally {
+            statement.close();
+            db.close();
+        }
+    }
+
+    /**
+     * @param after {@code getNextKey()} of the previous page, null for the first page
+     */
+    public Page<Person> getPersonPage(PageKey after, int pageSize) {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+
+        // Continues after the last name and id instead of skipping rows with OFFSET
+        Page<Person> page = PersonConverter.parseQueryByNamePage(db, PersonDBContract.TABLE, after, pageSize);
+
+        db.close();
+        return page;
+    }
+
 }
\ No newline at end of file
@@ -3,7 +3,9 @@ package io.dominikschulz.annotationprocessing.full;
 import io.dominikschulz.slimorm.ColumnName;
 import io.dominikschulz.slimorm.Field;
 import io.dominikschulz.slimorm.PojoCreator;
+import io.dominikschulz.slimorm.Projection;
 
+@Projection(name = "idOnly", columns = {"_id"})
 public class PojoConstructor {
 
     private String id;
@@ -0,0 +1,25 @@
+package io.dominikschulz.annotationprocessing.full;
+
+import io.dominikschulz.slimorm.Field;
+import io.dominikschulz.slimorm.Lazy;
+import io.dominikschulz.slimorm.PrimaryKey;
+
+/**
+ * Only the id and title are read from the cursor, body and attachment are loaded by the id when they are read
+ */
+public class PojoLazy {
+
+    @PrimaryKey
+    @Field("_id")
+    long id;
+
+    @Field("title")
+    String title;
+
+    @Field("body")
+    Lazy<String> body;
+
+    @Field("attachment")
+    Lazy<byte[]> attachment;
+
+}
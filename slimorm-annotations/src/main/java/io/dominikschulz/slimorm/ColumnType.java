@@ -0,0 +1,16 @@
+package io.dominikschulz.slimorm;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Replaces the derived type of a column in the generated {@code CREATE TABLE} statement of a {@link Table},
+ * e.g. {@code "TEXT NOT NULL COLLATE NOCASE"}. Use it together with {@link Field}.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface ColumnType {
+    String value();
+}
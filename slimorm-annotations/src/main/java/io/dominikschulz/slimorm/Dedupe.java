@@ -0,0 +1,20 @@
+package io.dominikschulz.slimorm;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code String} member of a column with few distinct values, e.g. a status or country code,
+ * use it together with {@link Field} or on a {@link PojoCreator} constructor parameter.
+ * The converter then returns the same {@code String} instance for equal values instead of a new one per row.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+public @interface Dedupe {
+    /**
+     * Distinct values kept per converting thread, values beyond it are not deduplicated
+     */
+    int capacity() default 1024;
+}
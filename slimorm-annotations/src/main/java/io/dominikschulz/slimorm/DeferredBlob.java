@@ -0,0 +1,17 @@
+package io.dominikschulz.slimorm;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@code byte[]} member whose column is not read when converting a cursor, use it together with {@link Field}
+ * on a field or setter of a pojo with a {@link PrimaryKey}. The converter gets methods copying the blob of a single row
+ * into a {@code ByteBuffer} supplied by the caller instead, so scans over large blobs do not allocate them on the heap.
+ * The member is null after a conversion, {@code toContentValues} and the diff updates only write it if it is not null.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface DeferredBlob {
+}
@@ -0,0 +1,24 @@
+package io.dominikschulz.slimorm;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Index of a {@link Table} over one or more columns. Without a {@link #name()} the index is named
+ * {@code index_<table>_<columns>}, a {@link #where()} clause creates a partial index.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({})
+public @interface Index {
+    String[] columns();
+
+    String name() default "";
+
+    boolean unique() default false;
+
+    /**
+     * Condition of a partial index without the {@code WHERE} keyword, e.g. {@code "deleted = 0"}
+     */
+    String where() default "";
+}
@@ -0,0 +1,27 @@
+package io.dominikschulz.slimorm;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a page order of a pojo with a {@link PrimaryKey}. The rows are sorted by the {@link #column()} and the
+ * primary key, every page continues after the sort value and key of the previous page instead of skipping rows with
+ * an {@code OFFSET}, so deep pages cost the same as the first one. The converter gets {@code PAGE_<NAME>_ORDER_BY}
+ * and {@code PAGE_<NAME>_AFTER} constants, {@code parseQuery<Name>Page} and {@code parseTo<Name>Page}.
+ * Use {@link KeysetPages} to declare more than one page order.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.TYPE})
+public @interface KeysetPage {
+    String name();
+
+    /**
+     * Sort column, it has to be read by the converter. NULL values are sorted like SQLite does, before all values
+     * and after them in descending pages. Empty to page by the primary key only.
+     */
+    String column() default "";
+
+    boolean descending() default false;
+}
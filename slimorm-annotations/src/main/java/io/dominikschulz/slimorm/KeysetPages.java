@@ -0,0 +1,15 @@
+package io.dominikschulz.slimorm;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Container to declare several {@link KeysetPage}s on one pojo
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.TYPE})
+public @interface KeysetPages {
+    KeysetPage[] value();
+}
@@ -0,0 +1,22 @@
+package io.dominikschulz.slimorm;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the member mapped to the integral primary key column of the pojo, use it together with {@link Field}
+ * or on a {@link PojoCreator} constructor parameter. The converter then gets methods which return cached instances
+ * from a {@code LongLruCache} instead of converting rows which are already resident.
+ * In the schema of a {@link Table} the column becomes the {@code INTEGER PRIMARY KEY}.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+public @interface PrimaryKey {
+    /**
+     * Adds {@code AUTOINCREMENT} to the primary key of the generated {@code CREATE TABLE} statement.
+     * Rows with the key 0 are written without it by {@code toContentValues} and {@code bindTo}, SQLite assigns their key.
+     */
+    boolean autoIncrement() default false;
+}
@@ -0,0 +1,28 @@
+package io.dominikschulz.slimorm;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a named subset of the columns of a pojo. For every projection a {@code PROJECTION_<NAME>} constant
+ * to select the columns is added to the converter, and a {@code <Pojo><Name>Converter} which only reads these columns
+ * is generated. Members mapped to other columns keep their default values.
+ * A {@link #strict()} projection fixes the order of its columns, its converter reads them by position.
+ * Use {@link Projections} to declare more than one projection.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.TYPE})
+public @interface Projection {
+    String name();
+
+    String[] columns();
+
+    /**
+     * Generates the converter against the declared order of the {@link #columns()}, it checks once per cursor
+     * that the cursor starts with these columns and then reads them by position without checking for missing columns.
+     * The {@code PROJECTION_<NAME>} constant lists the columns in this order.
+     */
+    boolean strict() default false;
+}
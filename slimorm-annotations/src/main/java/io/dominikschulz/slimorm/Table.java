@@ -0,0 +1,20 @@
+package io.dominikschulz.slimorm;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the table a pojo is stored in. A {@code <Pojo>Schema} with the {@code CREATE TABLE} statement for the
+ * written columns and the {@code CREATE INDEX} statements of the {@link #indices()} is generated.
+ * The column types are derived from the member types unless a member declares a {@link ColumnType},
+ * the member annotated with {@link PrimaryKey} becomes the {@code INTEGER PRIMARY KEY}.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.TYPE})
+public @interface Table {
+    String name();
+
+    Index[] indices() default {};
+}
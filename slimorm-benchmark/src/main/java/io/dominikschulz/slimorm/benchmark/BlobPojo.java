@@ -0,0 +1,21 @@
+package io.dominikschulz.slimorm.benchmark;
+
+import io.dominikschulz.slimorm.Field;
+
+/**
+ * Rows dominated by blob columns, e.g. cached thumbnails
+ */
+public class BlobPojo {
+
+    @Field("_id")
+    long id;
+
+    @Field("thumbnail")
+    byte[] thumbnail;
+
+    @Field("preview")
+    byte[] preview;
+
+    @Field("checksum")
+    byte[] checksum;
+}
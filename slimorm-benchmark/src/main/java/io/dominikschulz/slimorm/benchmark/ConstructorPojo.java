@@ -0,0 +1,50 @@
+package io.dominikschulz.slimorm.benchmark;
+
+import io.dominikschulz.slimorm.ColumnName;
+import io.dominikschulz.slimorm.Field;
+import io.dominikschulz.slimorm.PojoCreator;
+
+/**
+ * Immutable pojo created through a {@link PojoCreator} constructor
+ */
+public class ConstructorPojo {
+
+    private final String id;
+
+    private final int anInt;
+
+    private final Integer niceValue;
+
+    private final boolean anBoolean;
+
+    @PojoCreator
+    public ConstructorPojo(@ColumnName("_id") String id,
+                           @ColumnName("timeStamp") int anInt,
+                           @ColumnName("value") Integer niceValue,
+                           boolean anBoolean) {
+        this.id = id;
+        this.anInt = anInt;
+        this.niceValue = niceValue;
+        this.anBoolean = anBoolean;
+    }
+
+    @Field("_id")
+    public String getId() {
+        return id;
+    }
+
+    @Field("timeStamp")
+    public int getAnInt() {
+        return anInt;
+    }
+
+    @Field("value")
+    public Integer getNiceValue() {
+        return niceValue;
+    }
+
+    @Field("anBoolean")
+    public boolean isAnBoolean() {
+        return anBoolean;
+    }
+}
@@ -0,0 +1,65 @@
+package io.dominikschulz.slimorm.benchmark;
+
+import io.dominikschulz.slimorm.ArrayCursor;
+
+import java.util.Random;
+
+/**
+ * Deterministic cursors and pojos for the benchmarks
+ */
+final class Fixtures {
+
+    private static final String[] NARROW_COLUMNS = {"_id", "name", "count"};
+    private static final String[] WIDE_COLUMNS = {"_id", "title", "description", "author", "url", "position", "priority",
+            "created", "modified", "rating", "score", "latitude", "longitude", "favorite", "archived", "views", "revision"};
+    private static final String[] BLOB_COLUMNS = {"_id", "thumbnail", "preview", "checksum"};
+    private static final String[] CONSTRUCTOR_COLUMNS = {"_id", "timeStamp", "value", "anBoolean"};
+
+    private Fixtures() {
+    }
+
+    static ArrayCursor narrowCursor(int rowCount) {
+        final Object[][] rows = new Object[rowCount][];
+        for (int i = 0; i < rowCount; i++) {
+            rows[i] = new Object[]{(long) i, "name " + i, i % 100};
+        }
+        return new ArrayCursor(NARROW_COLUMNS, rows);
+    }
+
+    static ArrayCursor wideCursor(int rowCount) {
+        final Object[][] rows = new Object[rowCount][];
+        for (int i = 0; i < rowCount; i++) {
+            // Every third row has null values in the nullable columns, booleans are stored as 0 and 1 like in SQLite
+            final boolean nulls = i % 3 == 0;
+            rows[i] = new Object[]{(long) i, "title " + i, "description of row " + i, "author " + (i % 50),
+                    "https://example.com/items/" + i, i, (short) (i % 5), 1500000000000L + i,
+                    nulls ? null : 1500000000000L + 2 * i, i * 0.5f, nulls ? null : i * 0.25f, 52.5 + i * 0.001,
+                    nulls ? null : 13.4 + i * 0.001, i % 2, nulls ? null : i % 4 / 3, nulls ? null : i * 10,
+                    nulls ? null : (short) (i % 7)};
+        }
+        return new ArrayCursor(WIDE_COLUMNS, rows);
+    }
+
+    static ArrayCursor blobCursor(int rowCount) {
+        final Random random = new Random(42);
+        final Object[][] rows = new Object[rowCount][];
+        for (int i = 0; i < rowCount; i++) {
+            rows[i] = new Object[]{(long) i, randomBytes(random, 4096), randomBytes(random, 1024), randomBytes(random, 32)};
+        }
+        return new ArrayCursor(BLOB_COLUMNS, rows);
+    }
+
+    static ArrayCursor constructorCursor(int rowCount) {
+        final Object[][] rows = new Object[rowCount][];
+        for (int i = 0; i < rowCount; i++) {
+            rows[i] = new Object[]{"id " + i, i, i % 3 == 0 ? null : i * 2, i % 2};
+        }
+        return new ArrayCursor(CONSTRUCTOR_COLUMNS, rows);
+    }
+
+    private static byte[] randomBytes(Random random, int length) {
+        final byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
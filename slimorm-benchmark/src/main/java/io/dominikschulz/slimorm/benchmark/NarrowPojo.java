@@ -0,0 +1,18 @@
+package io.dominikschulz.slimorm.benchmark;
+
+import io.dominikschulz.slimorm.Field;
+
+/**
+ * A few columns as typically shown in a list item
+ */
+public class NarrowPojo {
+
+    @Field("_id")
+    long id;
+
+    @Field("name")
+    String name;
+
+    @Field("count")
+    int count;
+}
@@ -0,0 +1,61 @@
+package io.dominikschulz.slimorm.benchmark;
+
+import android.content.ContentValues;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts one pojo with {@code parseToContentValues}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParseToContentValuesBenchmark {
+
+    private NarrowPojo narrowPojo;
+    private WidePojo widePojo;
+    private BlobPojo blobPojo;
+    private ConstructorPojo constructorPojo;
+
+    @Setup
+    public void setUp() {
+        narrowPojo = NarrowPojoConverter.parseToList(Fixtures.narrowCursor(2)).get(1);
+        widePojo = WidePojoConverter.parseToList(Fixtures.wideCursor(2)).get(1);
+        blobPojo = BlobPojoConverter.parseToList(Fixtures.blobCursor(2)).get(1);
+        constructorPojo = ConstructorPojoConverter.parseToList(Fixtures.constructorCursor(2)).get(1);
+    }
+
+    @Benchmark
+    public ContentValues narrow() {
+        return NarrowPojoConverter.parseToContentValues(narrowPojo);
+    }
+
+    @Benchmark
+    public ContentValues wide() {
+        return WidePojoConverter.parseToContentValues(widePojo);
+    }
+
+    @Benchmark
+    public ContentValues blob() {
+        return BlobPojoConverter.parseToContentValues(blobPojo);
+    }
+
+    @Benchmark
+    public ContentValues constructor() {
+        return ConstructorPojoConverter.parseToContentValues(constructorPojo);
+    }
+}
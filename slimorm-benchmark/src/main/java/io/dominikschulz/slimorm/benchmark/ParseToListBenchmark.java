@@ -0,0 +1,76 @@
+package io.dominikschulz.slimorm.benchmark;
+
+import io.dominikschulz.slimorm.ArrayCursor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts a whole cursor with {@code parseToList}, one operation is one complete cursor
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParseToListBenchmark {
+
+    @Param({"100", "10000"})
+    int rows;
+
+    private ArrayCursor narrowCursor;
+    private ArrayCursor wideCursor;
+    private ArrayCursor blobCursor;
+    private ArrayCursor constructorCursor;
+
+    @Setup
+    public void setUp() {
+        narrowCursor = Fixtures.narrowCursor(rows);
+        wideCursor = Fixtures.wideCursor(rows);
+        blobCursor = Fixtures.blobCursor(rows);
+        constructorCursor = Fixtures.constructorCursor(rows);
+    }
+
+    @Benchmark
+    public List<NarrowPojo> narrow() {
+        narrowCursor.moveToPosition(-1);
+        return NarrowPojoConverter.parseToList(narrowCursor);
+    }
+
+    @Benchmark
+    public List<WidePojo> wide() {
+        wideCursor.moveToPosition(-1);
+        return WidePojoConverter.parseToList(wideCursor);
+    }
+
+    @Benchmark
+    public List<WidePojo> wideStrict() {
+        wideCursor.moveToPosition(-1);
+        return WidePojoStrictConverter.parseToList(wideCursor);
+    }
+
+    @Benchmark
+    public List<BlobPojo> blob() {
+        blobCursor.moveToPosition(-1);
+        return BlobPojoConverter.parseToList(blobCursor);
+    }
+
+    @Benchmark
+    public List<ConstructorPojo> constructor() {
+        constructorCursor.moveToPosition(-1);
+        return ConstructorPojoConverter.parseToList(constructorCursor);
+    }
+}
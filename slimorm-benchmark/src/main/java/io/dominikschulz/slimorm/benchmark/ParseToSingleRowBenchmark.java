@@ -0,0 +1,75 @@
+package io.dominikschulz.slimorm.benchmark;
+
+import io.dominikschulz.slimorm.ArrayCursor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts the current row with {@code parseToSingleRow}, with and without resolving the column indices per call
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParseToSingleRowBenchmark {
+
+    private ArrayCursor narrowCursor;
+    private ArrayCursor wideCursor;
+    private ArrayCursor blobCursor;
+    private ArrayCursor constructorCursor;
+    private int[] wideColumnIndices;
+
+    @Setup
+    public void setUp() {
+        narrowCursor = Fixtures.narrowCursor(2);
+        wideCursor = Fixtures.wideCursor(2);
+        blobCursor = Fixtures.blobCursor(2);
+        constructorCursor = Fixtures.constructorCursor(2);
+
+        // The second row has values in all nullable columns
+        narrowCursor.moveToPosition(1);
+        wideCursor.moveToPosition(1);
+        blobCursor.moveToPosition(1);
+        constructorCursor.moveToPosition(1);
+
+        wideColumnIndices = WidePojoConverter.resolveColumnIndices(wideCursor);
+    }
+
+    @Benchmark
+    public NarrowPojo narrow() {
+        return NarrowPojoConverter.parseToSingleRow(narrowCursor);
+    }
+
+    @Benchmark
+    public WidePojo wide() {
+        return WidePojoConverter.parseToSingleRow(wideCursor);
+    }
+
+    @Benchmark
+    public WidePojo wideResolvedIndices() {
+        return WidePojoConverter.parseToSingleRow(wideCursor, wideColumnIndices);
+    }
+
+    @Benchmark
+    public BlobPojo blob() {
+        return BlobPojoConverter.parseToSingleRow(blobCursor);
+    }
+
+    @Benchmark
+    public ConstructorPojo constructor() {
+        return ConstructorPojoConverter.parseToSingleRow(constructorCursor);
+    }
+}
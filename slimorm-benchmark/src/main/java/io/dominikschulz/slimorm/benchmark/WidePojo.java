@@ -0,0 +1,67 @@
+package io.dominikschulz.slimorm.benchmark;
+
+import io.dominikschulz.slimorm.Dedupe;
+import io.dominikschulz.slimorm.Field;
+import io.dominikschulz.slimorm.Projection;
+
+/**
+ * Many columns of all supported types, nullable columns are mapped to boxed members.
+ * The strict projection reads all columns in the order of the fixture by position.
+ * The fixture has 50 distinct authors, they are deduplicated.
+ */
+@Projection(name = "strict", strict = true, columns = {"_id", "title", "description", "author", "url", "position", "priority",
+        "created", "modified", "rating", "score", "latitude", "longitude", "favorite", "archived", "views", "revision"})
+public class WidePojo {
+
+    @Field("_id")
+    long id;
+
+    @Field("title")
+    String title;
+
+    @Field("description")
+    String description;
+
+    @Dedupe
+    @Field("author")
+    String author;
+
+    @Field("url")
+    String url;
+
+    @Field("position")
+    int position;
+
+    @Field("priority")
+    short priority;
+
+    @Field("created")
+    long created;
+
+    @Field("modified")
+    Long modified;
+
+    @Field("rating")
+    float rating;
+
+    @Field("score")
+    Float score;
+
+    @Field("latitude")
+    double latitude;
+
+    @Field("longitude")
+    Double longitude;
+
+    @Field("favorite")
+    boolean favorite;
+
+    @Field("archived")
+    Boolean archived;
+
+    @Field("views")
+    Integer views;
+
+    @Field("revision")
+    Short revision;
+}
@@ -0,0 +1,86 @@
+package io.dominikschulz.slimorm;
+
+
+import com.squareup.javapoet.TypeName;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The distinct columns a converter reads and the columns which are read once per row
+ * because several members are mapped to them. Strict reads expect the columns at their position in the cursor.
+ */
+public class ColumnReads {
+    private final List<String> columnNames;
+    private final Map<Integer, TypeName> sharedColumns;
+    private final Set<Integer> nullableSharedColumns;
+    private final boolean strict;
+    private final int lazyKeyIndex;
+    private final Map<Integer, Integer> dedupedColumns;
+
+    public ColumnReads(List<String> columnNames,
+                       Map<Integer, TypeName> sharedColumns,
+                       Set<Integer> nullableSharedColumns,
+                       boolean strict,
+                       int lazyKeyIndex,
+                       Map<Integer, Integer> dedupedColumns) {
+        this.columnNames = columnNames;
+        this.sharedColumns = sharedColumns;
+        this.nullableSharedColumns = nullableSharedColumns;
+        this.strict = strict;
+        this.lazyKeyIndex = lazyKeyIndex;
+        this.dedupedColumns = dedupedColumns;
+    }
+
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    public int indexOf(String columnName) {
+        return columnNames.indexOf(columnName);
+    }
+
+    /**
+     * @return column index mapped to the type of the local the column is read into once per row
+     */
+    public Map<Integer, TypeName> getSharedColumns() {
+        return sharedColumns;
+    }
+
+    public boolean isShared(int columnIndex) {
+        return sharedColumns.containsKey(columnIndex);
+    }
+
+    /**
+     * @return shared columns with at least one boxed member, these need a null check
+     */
+    public Set<Integer> getNullableSharedColumns() {
+        return nullableSharedColumns;
+    }
+
+    /**
+     * @return true if every column is read from its index in {@link #getColumnNames()} instead of the column index table
+     */
+    public boolean isStrict() {
+        return strict;
+    }
+
+    /**
+     * @return index of the primary key column the lazy members are created with, -1 if there are none
+     */
+    public int getLazyKeyIndex() {
+        return lazyKeyIndex;
+    }
+
+    /**
+     * @return string column index mapped to the capacity of the pool its values are deduplicated with
+     */
+    public Map<Integer, Integer> getDedupedColumns() {
+        return dedupedColumns;
+    }
+
+    public boolean isDeduped(int columnIndex) {
+        return dedupedColumns.containsKey(columnIndex);
+    }
+}
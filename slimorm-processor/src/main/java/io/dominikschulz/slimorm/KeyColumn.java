@@ -0,0 +1,31 @@
+package io.dominikschulz.slimorm;
+
+
+import com.squareup.javapoet.TypeName;
+
+/**
+ * The column of the member annotated with {@link PrimaryKey} and its primitive type
+ */
+public class KeyColumn {
+    private final String columnName;
+    private final TypeName typeName;
+    private final boolean autoIncrement;
+
+    public KeyColumn(String columnName, TypeName typeName, boolean autoIncrement) {
+        this.columnName = columnName;
+        this.typeName = typeName;
+        this.autoIncrement = autoIncrement;
+    }
+
+    public String getColumnName() {
+        return columnName;
+    }
+
+    public TypeName getTypeName() {
+        return typeName;
+    }
+
+    public boolean isAutoIncrement() {
+        return autoIncrement;
+    }
+}
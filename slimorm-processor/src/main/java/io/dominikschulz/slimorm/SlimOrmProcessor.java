@@ -1,17 +1,27 @@
 package io.dominikschulz.slimorm;
 
 
+import com.google.common.collect.Iterables;
 import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,15 +46,60 @@ import javax.tools.Diagnostic;
 @SupportedAnnotationTypes({
         "io.dominikschulz.slimorm.PojoCreator",
         "io.dominikschulz.slimorm.Field",
-        "io.dominikschulz.slimorm.ColumnName"
+        "io.dominikschulz.slimorm.ColumnName",
+        "io.dominikschulz.slimorm.PrimaryKey",
+        "io.dominikschulz.slimorm.Projection",
+        "io.dominikschulz.slimorm.Projections",
+        "io.dominikschulz.slimorm.KeysetPage",
+        "io.dominikschulz.slimorm.KeysetPages",
+        "io.dominikschulz.slimorm.Table",
+        "io.dominikschulz.slimorm.ColumnType",
+        "io.dominikschulz.slimorm.DeferredBlob",
+        "io.dominikschulz.slimorm.Dedupe"
 })
 @SupportedSourceVersion(SourceVersion.RELEASE_7)
 public class SlimOrmProcessor extends AbstractProcessor {
 
     private static final ClassName LIST_TYPE = ClassName.get("java.util", "List");
     private static final ClassName ARRAY_LIST_TYPE = ClassName.get("java.util", "ArrayList");
+    private static final ClassName ITERABLE_TYPE = ClassName.get("java.lang", "Iterable");
+    private static final ClassName ITERATOR_TYPE = ClassName.get("java.util", "Iterator");
     private static final ArrayTypeName BYTE_ARRAY_TYPE = ArrayTypeName.of(TypeName.BYTE);
     private static final ClassName STRING_TYPE = ClassName.get(String.class);
+    private static final ClassName CURSOR_TYPE = ClassName.get("android.database", "Cursor");
+    private static final ClassName SQLITE_DATABASE_TYPE = ClassName.get("android.database.sqlite", "SQLiteDatabase");
+    private static final ClassName SQLITE_STATEMENT_TYPE = ClassName.get("android.database.sqlite", "SQLiteStatement");
+    private static final ClassName CURSOR_READS_TYPE = ClassName.get("io.dominikschulz.slimorm", "CursorReads");
+    private static final String[] CURSOR_READ_METHODS = {
+            "readInt", "readFloat", "readDouble", "readShort", "readLong", "readBoolean",
+            "readBoxedInt", "readBoxedFloat", "readBoxedDouble", "readBoxedShort", "readBoxedLong", "readBoxedBoolean",
+            "readString", "readBlob"
+    };
+    private static final ClassName ROW_CONSUMER_TYPE = ClassName.get("io.dominikschulz.slimorm", "RowConsumer");
+    private static final ClassName ROW_ITERATOR_TYPE = ClassName.get("io.dominikschulz.slimorm", "RowIterator");
+    private static final ClassName CHANGES_TYPE = ClassName.get("io.dominikschulz.slimorm", "Changes");
+    private static final ClassName LONG_LRU_CACHE_TYPE = ClassName.get("io.dominikschulz.slimorm", "LongLruCache");
+    private static final ClassName LONG_OBJECT_MAP_TYPE = ClassName.get("io.dominikschulz.slimorm", "LongObjectMap");
+    private static final ClassName INT_OBJECT_MAP_TYPE = ClassName.get("io.dominikschulz.slimorm", "IntObjectMap");
+    private static final ClassName BATCH_CONSUMER_TYPE = ClassName.get("io.dominikschulz.slimorm", "BatchConsumer");
+    private static final ClassName PIPELINED_LOADER_TYPE = ClassName.get("io.dominikschulz.slimorm", "PipelinedLoader");
+    private static final ClassName CALLABLE_TYPE = ClassName.get("java.util.concurrent", "Callable");
+    private static final ClassName EXECUTOR_TYPE = ClassName.get("java.util.concurrent", "Executor");
+    private static final ClassName QUERY_CACHE_TYPE = ClassName.get("io.dominikschulz.slimorm", "QueryCache");
+    private static final ClassName TABLE_VERSIONS_TYPE = ClassName.get("io.dominikschulz.slimorm", "TableVersions");
+    private static final ClassName PAGE_TYPE = ClassName.get("io.dominikschulz.slimorm", "Page");
+    private static final ClassName PAGE_KEY_TYPE = ClassName.get("io.dominikschulz.slimorm", "PageKey");
+    private static final ClassName SNAPSHOT_CODEC_TYPE = ClassName.get("io.dominikschulz.slimorm", "SnapshotCodec");
+    private static final ClassName BUFFER_CODECS_TYPE = ClassName.get("io.dominikschulz.slimorm", "BufferCodecs");
+    private static final ClassName STRING_POOL_TYPE = ClassName.get("io.dominikschulz.slimorm", "StringPool");
+    private static final ClassName LAZY_TYPE = ClassName.get("io.dominikschulz.slimorm", "Lazy");
+    private static final ClassName LAZY_COLUMN_TYPE = ClassName.get("io.dominikschulz.slimorm", "LazyColumn");
+    private static final ClassName BLOB_BUFFERS_TYPE = ClassName.get("io.dominikschulz.slimorm", "BlobBuffers");
+    private static final ClassName BYTE_BUFFER_TYPE = ClassName.get("java.nio", "ByteBuffer");
+    private static final ClassName LAZY_ROW_LIST_TYPE = ClassName.get("io.dominikschulz.slimorm", "LazyRowList");
+    private static final ArrayTypeName INT_ARRAY_TYPE = ArrayTypeName.of(TypeName.INT);
+    private static final ArrayTypeName LONG_ARRAY_TYPE = ArrayTypeName.of(TypeName.LONG);
+    private static final ArrayTypeName STRING_ARRAY_TYPE = ArrayTypeName.of(STRING_TYPE);
 
     private Messager messager;
     private Filer filer;
@@ -59,49 +114,34 @@ public class SlimOrmProcessor extends AbstractProcessor {
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
 
-        Map<TypeElement, ProcessPojo> toBeProcessed = new HashMap<>();
+        // Ordered to generate the converters in the same order on every run
+        Map<TypeElement, ProcessPojo> toBeProcessed = new LinkedHashMap<>();
 
-        for (Element element : roundEnv.getElementsAnnotatedWith(PojoCreator.class)) {
+        final Iterable<? extends Element> annotatedElements = Iterables.concat(
+                roundEnv.getElementsAnnotatedWith(PojoCreator.class),
+                roundEnv.getElementsAnnotatedWith(Field.class));
+
+        for (Element element : annotatedElements) {
 
-            ProcessPojo currentProcessPojo = null;
             final Element enclosingElement = element.getEnclosingElement();
-            if (enclosingElement.getKind() == ElementKind.CLASS) {
-                final TypeElement classElement = (TypeElement) enclosingElement;
-
-                if (!toBeProcessed.containsKey(classElement)) {
-                    toBeProcessed.put(classElement, new ProcessPojo(new ArrayList<VariableElement>(),
-                            new ArrayList<ExecutableElement>(),
-                            new ArrayList<ExecutableElement>(),
-                            new ArrayList<ExecutableElement>()));
-                }
+            if (enclosingElement.getKind() != ElementKind.CLASS) {
+                continue;
+            }
 
-                currentProcessPojo = toBeProcessed.get(classElement);
+            final TypeElement classElement = (TypeElement) enclosingElement;
+            ProcessPojo currentProcessPojo = toBeProcessed.get(classElement);
+            if (currentProcessPojo == null) {
+                currentProcessPojo = new ProcessPojo(new ArrayList<VariableElement>(),
+                        new ArrayList<ExecutableElement>(),
+                        new ArrayList<ExecutableElement>(),
+                        new ArrayList<ExecutableElement>());
+                toBeProcessed.put(classElement, currentProcessPojo);
             }
 
             if (element.getKind() == ElementKind.CONSTRUCTOR) {
                 currentProcessPojo.getAnnotatedConstructors().add((ExecutableElement) element);
-            }
-
-        }
-
-        for (Element element : roundEnv.getElementsAnnotatedWith(Field.class)) {
-
-            ProcessPojo currentProcessPojo = null;
-            final Element enclosingElement = element.getEnclosingElement();
-            if (enclosingElement.getKind() == ElementKind.CLASS) {
-                final TypeElement classElement = (TypeElement) enclosingElement;
-
-                if (!toBeProcessed.containsKey(classElement)) {
-                    toBeProcessed.put(classElement, new ProcessPojo(new ArrayList<VariableElement>(),
-                            new ArrayList<ExecutableElement>(),
-                            new ArrayList<ExecutableElement>(),
-                            new ArrayList<ExecutableElement>()));
-                }
-
-                currentProcessPojo = toBeProcessed.get(classElement);
-            }
 
-            if (element.getKind() == ElementKind.FIELD) {
+            } else if (element.getKind() == ElementKind.FIELD) {
 
                 if (element.getModifiers().contains(Modifier.PRIVATE)) {
                     throwError("SlimOrm can only work with package protected fields");
@@ -126,263 +166,2346 @@ public class SlimOrmProcessor extends AbstractProcessor {
             }
         }
 
-        for (Map.Entry<TypeElement, ProcessPojo> entry : toBeProcessed.entrySet()) {
-            generateClass(entry.getKey(), entry.getValue());
+        for (Map.Entry<TypeElement, ProcessPojo> entry : toBeProcessed.entrySet()) {
+            generateClass(entry.getKey(), entry.getValue());
+        }
+
+        return false;
+    }
+
+    private void log(String message) {
+        messager.printMessage(Diagnostic.Kind.WARNING, message);
+    }
+
+    private void generateClass(TypeElement typeElement, ProcessPojo processPojo) {
+
+        final ClassName pojoType = ClassName.get(typeElement);
+        final ClassName converterType = ClassName.get(pojoType.packageName(), typeElement.getSimpleName() + "Converter");
+
+        // Every generated file only depends on its pojo, which keeps the processor isolating for incremental builds
+        TypeSpec.Builder classBuilder = TypeSpec.
+                classBuilder(converterType.simpleName())
+                .addModifiers(Modifier.PUBLIC)
+                .addOriginatingElement(typeElement);
+
+        // Deferred blobs are only written, they are copied on demand instead of being read from the cursor
+        final List<Element> deferredBlobs = collectDeferredBlobs(processPojo);
+        final ProcessPojo readPojo = deferredBlobs.isEmpty() ? processPojo : withoutDeferredBlobs(processPojo);
+        // Null after a conversion, so null values are not written to keep the stored blobs
+        final Set<String> deferredColumns = new HashSet<>();
+        for (Element deferredBlob : deferredBlobs) {
+            deferredColumns.add(deferredBlob.getAnnotation(Field.class).value());
+        }
+
+        final KeyColumn keyColumn = findKeyColumn(typeElement, processPojo);
+        final List<Element> lazyMembers = collectLazyMembers(readPojo);
+        if (!lazyMembers.isEmpty() && keyColumn == null) {
+            throwError("SlimOrm: Lazy members of " + typeElement.getSimpleName() + " need a @PrimaryKey");
+        }
+
+        final ColumnReads columnReads = collectColumnReads(readPojo, null, false, keyColumn);
+        for (Element lazyMember : lazyMembers) {
+            classBuilder.addField(generateLazyColumnField(lazyMember, keyColumn));
+        }
+        if (!lazyMembers.isEmpty()) {
+            classBuilder.addMethod(generateBindLazyColumnsMethod(lazyMembers));
+        }
+        addRowReadMethods(classBuilder, converterType, typeElement, readPojo, columnReads);
+
+        if (keyColumn != null) {
+            final int keyIndex = columnReads.indexOf(keyColumn.getColumnName());
+            if (keyIndex < 0) {
+                throwError("SlimOrm: The @PrimaryKey column " + keyColumn.getColumnName() + " of " + typeElement.getSimpleName() + " has to be read from the cursor");
+            }
+            addMethodPair(classBuilder, generateCachedSingleRowDelegateMethod(pojoType, "parseToSingleRow", Modifier.PUBLIC, Modifier.STATIC));
+            addMethodPair(classBuilder, generateCachedSingleRowMethod(pojoType, keyIndex, "parseToSingleRow", Modifier.PUBLIC, Modifier.STATIC));
+            addMethodPair(classBuilder, generateCachedListMethod(pojoType, "parseToList", "parseToSingleRow", Modifier.PUBLIC, Modifier.STATIC));
+            addMethodPair(classBuilder, generateMapByKeyMethod(pojoType, keyColumn, keyIndex, "parseToMapByKey", Modifier.PUBLIC, Modifier.STATIC));
+        }
+
+        final List<KeysetPage> keysetPages = collectKeysetPages(typeElement);
+        if (!keysetPages.isEmpty()) {
+            if (keyColumn == null) {
+                throwError("SlimOrm: Keyset pages of " + typeElement.getSimpleName() + " need a @PrimaryKey");
+            }
+            classBuilder.addField(FieldSpec.builder(STRING_TYPE, "PAGE_SELECT", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$S", "SELECT " + joinColumns(columnReads.getColumnNames().toArray(new String[0]), ", ") + " FROM ")
+                    .build());
+        }
+        for (KeysetPage keysetPage : keysetPages) {
+            addKeysetPageMethods(classBuilder, typeElement, readPojo, columnReads, keyColumn, keysetPage);
+        }
+
+        final List<Projection> projections = collectProjections(typeElement);
+        final List<TypeSpec> projectionConverters = new ArrayList<>();
+        for (Projection projection : projections) {
+            // Ordered as declared, strict projections read the columns in this order
+            final Set<String> projectedColumns = new LinkedHashSet<>(Arrays.asList(projection.columns()));
+            for (String column : projectedColumns) {
+                if (columnReads.indexOf(column) < 0) {
+                    throwError("SlimOrm: Projection " + projection.name() + " of " + typeElement.getSimpleName() + " contains the unknown column " + column);
+                }
+            }
+
+            final ProcessPojo projectedPojo = filterProjection(readPojo, projectedColumns);
+            final ColumnReads projectionReads = collectColumnReads(projectedPojo, projectedColumns, projection.strict(), null);
+            final String projectionConverterName = typeElement.getSimpleName() + capitalize(projection.name()) + "Converter";
+            classBuilder.addField(generateProjectionField(projection, projectionConverterName, projectionReads.getColumnNames()));
+            projectionConverters.add(generateProjectionConverterClass(typeElement, projection, projectionConverterName, projectedPojo, projectionReads));
+        }
+
+        final ClassName columnsType = ClassName.get(pojoType.packageName(), typeElement.getSimpleName() + "Columns");
+        final Map<String, VariableElement> columnarMembers = collectColumnarMembers(readPojo);
+        addMethodPair(classBuilder, generateToColumnsMethod(columnsType, columnarMembers, columnReads, "parseToColumns", Modifier.PUBLIC, Modifier.STATIC));
+
+        addMethodPair(classBuilder, generateToContentValuesMethod(typeElement, processPojo, keyColumn, deferredColumns, "parseToContentValues", Modifier.PUBLIC, Modifier.STATIC));
+
+        final Map<String, Element> writeColumns = collectWriteColumns(processPojo);
+        classBuilder.addField(FieldSpec.builder(TypeName.INT, "DEFAULT_INSERT_CHUNK_SIZE", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$L", 500)
+                .build());
+        classBuilder.addField(generateInsertColumnsField(writeColumns));
+        classBuilder.addMethod(generateCompileInsertStatementMethod());
+        addMethodPair(classBuilder, generateBindToStatementMethod(typeElement, writeColumns, keyColumn, "parseBindTo", Modifier.PUBLIC, Modifier.STATIC));
+        addMethodPair(classBuilder, generateInsertAllDelegateMethod(pojoType, "parseInsertAll", Modifier.PUBLIC, Modifier.STATIC));
+        addMethodPair(classBuilder, generateInsertAllMethod(pojoType, "parseInsertAll", "parseBindTo", Modifier.PUBLIC, Modifier.STATIC));
+
+        addMethodPair(classBuilder, generateDiffToContentValuesMethod(pojoType, writeColumns, deferredColumns, "parseDiffToContentValues", Modifier.PUBLIC, Modifier.STATIC));
+        addMethodPair(classBuilder, generateDiffUpdateMethod(pojoType, writeColumns, deferredColumns, "parseDiffUpdate", Modifier.PUBLIC, Modifier.STATIC));
+        addMethodPair(classBuilder, generateDeleteMethod("parseDelete", Modifier.PUBLIC, Modifier.STATIC));
+
+        // Pojos with a member which can not be read back for the encoding have no codec
+        final List<SnapshotMember> snapshotMembers = collectSnapshotMembers(readPojo);
+        if (snapshotMembers != null) {
+            classBuilder.addField(generateSnapshotCodecField(pojoType, snapshotMembers));
+            addMethodPair(classBuilder, generateEncodeToMethod(pojoType, snapshotMembers, "parseEncodeTo", Modifier.PUBLIC, Modifier.STATIC));
+            addMethodPair(classBuilder, generateDecodeFromMethod(pojoType, processPojo, snapshotMembers, "parseDecodeFrom", Modifier.PUBLIC, Modifier.STATIC));
+        }
+
+        if (!deferredBlobs.isEmpty()) {
+            if (keyColumn == null) {
+                throwError("SlimOrm: Deferred blobs of " + typeElement.getSimpleName() + " need a @PrimaryKey");
+            }
+            classBuilder.addField(FieldSpec.builder(STRING_ARRAY_TYPE, "PROJECTION_READ", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                    .initializer(generateStringArrayInitializer(columnReads.getColumnNames()))
+                    .addJavadoc("Columns read by the converter, query them to keep the deferred blobs out of the cursor window\n")
+                    .build());
+        }
+        for (Element deferredBlob : deferredBlobs) {
+            final String columnName = deferredBlob.getAnnotation(Field.class).value();
+            final String propertyName = capitalize(getPropertyName(deferredBlob));
+            classBuilder.addMethod(generateCompileBlobStatementMethod(keyColumn, columnName, "compile" + propertyName + "Statement"));
+            addMethodPair(classBuilder, generateCopyBlobMethod(columnName, "parseCopy" + propertyName + "To", Modifier.PUBLIC, Modifier.STATIC));
+        }
+
+        final Table table = typeElement.getAnnotation(Table.class);
+        final TypeSpec schemaClass = table != null ? generateSchemaClass(typeElement, table, writeColumns, keyColumn) : null;
+
+        try {
+            // The read methods are shared by all converters through the runtime
+            JavaFile.builder(pojoType.packageName(), classBuilder.build())
+                    .addStaticImport(CURSOR_READS_TYPE, CURSOR_READ_METHODS)
+                    .build()
+                    .writeTo(filer);
+            JavaFile.builder(pojoType.packageName(), generateColumnsClass(typeElement, columnsType, columnarMembers))
+                    .build()
+                    .writeTo(filer);
+            if (schemaClass != null) {
+                JavaFile.builder(pojoType.packageName(), schemaClass)
+                        .build()
+                        .writeTo(filer);
+            }
+            for (int i = 0; i < projectionConverters.size(); i++) {
+                final JavaFile.Builder projectionFile = JavaFile.builder(pojoType.packageName(), projectionConverters.get(i));
+                // Strict converters read from the cursor directly
+                if (!projections.get(i).strict()) {
+                    projectionFile.addStaticImport(CURSOR_READS_TYPE, CURSOR_READ_METHODS);
+                }
+                projectionFile.build().writeTo(filer);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+    }
+
+    /**
+     * Adds the column index table and all methods converting rows of a cursor, shared by the converter and the projection converters
+     */
+    private void addRowReadMethods(TypeSpec.Builder classBuilder, ClassName converterType, TypeElement typeElement, ProcessPojo processPojo, ColumnReads columnReads) {
+        final ClassName pojoType = ClassName.get(typeElement);
+
+        classBuilder.addField(generateColumnsField(columnReads.getColumnNames()));
+        classBuilder.addMethod(columnReads.isStrict() ? generateRequireColumnLayoutMethod() : generateResolveColumnIndicesMethod());
+        // Every converter has its own pools, projections do not share the strings of the pojo converter
+        for (Map.Entry<Integer, Integer> dedupedColumn : columnReads.getDedupedColumns().entrySet()) {
+            classBuilder.addField(FieldSpec.builder(STRING_POOL_TYPE, getStringPoolName(columnReads, dedupedColumn.getKey()), Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("new $T($L)", STRING_POOL_TYPE, dedupedColumn.getValue())
+                    .build());
+        }
+
+        addMethodPair(classBuilder, generateSingleRowDelegateMethod(typeElement, "parseToSingleRow", Modifier.PUBLIC, Modifier.STATIC));
+        addMethodPair(classBuilder, generateSingleRowParseMethod(typeElement, processPojo, columnReads, "parseToSingleRow", "parseFillRow", Modifier.PUBLIC, Modifier.STATIC));
+
+        // Instances can only be refilled if they are not created through a @PojoCreator constructor
+        final boolean fillable = processPojo.getAnnotatedConstructors().isEmpty();
+        if (fillable) {
+            addMethodPair(classBuilder, generateFillRowDelegateMethod(typeElement, "parseFillRow", Modifier.PUBLIC, Modifier.STATIC));
+            addMethodPair(classBuilder, generateFillRowMethod(typeElement, processPojo, columnReads, "parseFillRow", Modifier.PUBLIC, Modifier.STATIC));
+        }
+
+        addMethodPair(classBuilder, generateListParseMethod(pojoType, "parseToList", "parseToSingleRow", Modifier.PUBLIC, Modifier.STATIC));
+        addMethodPair(classBuilder, generateQueryCachedListMethod(converterType, pojoType, "parseQueryCachedList", "parseToList", Modifier.PUBLIC, Modifier.STATIC));
+        addMethodPair(classBuilder, generateLazyListDelegateMethod(pojoType, "parseToLazyList", Modifier.PUBLIC, Modifier.STATIC));
+        addMethodPair(classBuilder, generateLazyListMethod(pojoType, "parseToLazyList", Modifier.PUBLIC, Modifier.STATIC));
+
+        addMethodPair(classBuilder, generateForEachMethod(pojoType, "parseForEach", "parseToSingleRow", Modifier.PUBLIC, Modifier.STATIC));
+        addMethodPair(classBuilder, generateIterableMethod(pojoType, "parseToIterable", Modifier.PUBLIC, Modifier.STATIC));
+        if (fillable) {
+            addMethodPair(classBuilder, generateReusingForEachMethod(pojoType, "parseForEach", "parseFillRow", Modifier.PUBLIC, Modifier.STATIC));
+            addMethodPair(classBuilder, generateReusingIterableMethod(pojoType, "parseToIterable", Modifier.PUBLIC, Modifier.STATIC));
+            addMethodPair(classBuilder, generateForEachBatchDelegateMethod(pojoType, "parseForEachBatch", Modifier.PUBLIC, Modifier.STATIC));
+        }
+        addMethodPair(classBuilder, generateForEachBatchMethod(pojoType, fillable, "parseForEachBatch", Modifier.PUBLIC, Modifier.STATIC));
+
+        addMethodPair(classBuilder, generatePipelinedLoaderMethod(converterType, pojoType, "parseToPipelinedLoader", Modifier.PUBLIC, Modifier.STATIC));
+        addMethodPair(classBuilder, generateLoadPipelinedMethod(pojoType, "parseLoadPipelined", "parseToPipelinedLoader", Modifier.PUBLIC, Modifier.STATIC));
+    }
+
+    /**
+     * @return the column of the member annotated with {@link PrimaryKey} or null if there is none
+     */
+    private KeyColumn findKeyColumn(TypeElement typeElement, ProcessPojo processPojo) {
+        final List<KeyColumn> keyColumns = new ArrayList<>();
+
+        final List<ExecutableElement> annotatedConstructors = processPojo.getAnnotatedConstructors();
+        if (annotatedConstructors.size() == 1) {
+            for (VariableElement parameter : annotatedConstructors.get(0).getParameters()) {
+                if (parameter.getAnnotation(PrimaryKey.class) != null) {
+                    keyColumns.add(new KeyColumn(getColumnName(parameter), ClassName.get(parameter.asType()), parameter.getAnnotation(PrimaryKey.class).autoIncrement()));
+                }
+            }
+        }
+
+        for (VariableElement variableElement : processPojo.getAnnotatedFields()) {
+            if (variableElement.getAnnotation(PrimaryKey.class) != null) {
+                keyColumns.add(new KeyColumn(variableElement.getAnnotation(Field.class).value(), ClassName.get(variableElement.asType()), variableElement.getAnnotation(PrimaryKey.class).autoIncrement()));
+            }
+        }
+
+        for (ExecutableElement setter : processPojo.getAnnotatedSetters()) {
+            if (setter.getAnnotation(PrimaryKey.class) != null) {
+                keyColumns.add(new KeyColumn(setter.getAnnotation(Field.class).value(), ClassName.get(setter.getParameters().get(0).asType()), setter.getAnnotation(PrimaryKey.class).autoIncrement()));
+            }
+        }
+
+        for (ExecutableElement getter : processPojo.getAnnotatedGetters()) {
+            if (getter.getAnnotation(PrimaryKey.class) != null) {
+                keyColumns.add(new KeyColumn(getter.getAnnotation(Field.class).value(), ClassName.get(getter.getReturnType()), getter.getAnnotation(PrimaryKey.class).autoIncrement()));
+            }
+        }
+
+        if (keyColumns.isEmpty()) {
+            return null;
+        }
+
+        final KeyColumn keyColumn = keyColumns.get(0);
+        for (KeyColumn other : keyColumns) {
+            if (!other.getColumnName().equals(keyColumn.getColumnName())) {
+                throwError("SlimOrm: Only one @PrimaryKey column is allowed in " + typeElement.getSimpleName());
+            }
+        }
+
+        final TypeName keyType = keyColumn.getTypeName();
+        if (keyType != TypeName.LONG && keyType != TypeName.INT && keyType != TypeName.SHORT) {
+            throwError("SlimOrm: The @PrimaryKey of " + typeElement.getSimpleName() + " has to be a long, int or short but was " + keyType);
+        }
+
+        return keyColumn;
+    }
+
+    private MethodSpec generateCachedSingleRowDelegateMethod(ClassName pojoType, String methodName, Modifier... modifier) {
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(pojoType)
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addParameter(ParameterizedTypeName.get(LONG_LRU_CACHE_TYPE, pojoType), "cache")
+                .addStatement("return $L(cursor, resolveColumnIndices(cursor), cache)", methodName)
+                .addJavadoc("Returns the cached $T with the primary key of the {@code cursor} in its current position, \nonly converts and caches the row if it is not cached yet", pojoType)
+                .addJavadoc("\n@param cursor to convert values from")
+                .addJavadoc("\n@param cache of already converted rows, remove changed rows from it after writing them")
+                .addJavadoc("\n@returns cached or newly converted $T", pojoType)
+                .build();
+    }
+
+    private MethodSpec generateCachedSingleRowMethod(ClassName pojoType, int keyIndex, String methodName, Modifier... modifier) {
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(pojoType)
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addParameter(INT_ARRAY_TYPE, "columnIndices")
+                .addParameter(ParameterizedTypeName.get(LONG_LRU_CACHE_TYPE, pojoType), "cache")
+                .addStatement("$T keyIndex = columnIndices[$L]", TypeName.INT, keyIndex)
+                .addCode("if (keyIndex < 0 || cursor.isNull(keyIndex)) {\n")
+                .addStatement("\treturn $L(cursor, columnIndices)", methodName)
+                .addCode("}\n")
+                // Only the key is read for rows which are already cached
+                .addStatement("$T key = cursor.getLong(keyIndex)", TypeName.LONG)
+                .addStatement("$T row = cache.get(key)", pojoType)
+                .addCode("if (row == null) {\n")
+                .addStatement("\trow = $L(cursor, columnIndices)", methodName)
+                .addStatement("\tcache.put(key, row)")
+                .addCode("}\n")
+                .addStatement("return row")
+                .addJavadoc("Returns the cached $T with the primary key of the {@code cursor} in its current position, \nonly converts and caches the row if it is not cached yet", pojoType)
+                .addJavadoc("\n@param cursor to convert values from")
+                .addJavadoc("\n@param columnIndices resolved once per cursor with {@code resolveColumnIndices}")
+                .addJavadoc("\n@param cache of already converted rows, remove changed rows from it after writing them")
+                .addJavadoc("\n@returns cached or newly converted $T", pojoType)
+                .build();
+    }
+
+    private MethodSpec generateCachedListMethod(ClassName pojoType, String methodName, String singleParseMethodName, Modifier... modifier) {
+        final TypeName listOfPojo = ParameterizedTypeName.get(LIST_TYPE, pojoType);
+
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(listOfPojo)
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addParameter(ParameterizedTypeName.get(LONG_LRU_CACHE_TYPE, pojoType), "cache")
+                .addStatement("$T list = new $T<>()", listOfPojo, ARRAY_LIST_TYPE)
+                .addStatement("$T columnIndices = resolveColumnIndices(cursor)", INT_ARRAY_TYPE)
+                .addCode("while (cursor.moveToNext()) {\n")
+                .addStatement("     list.add($L(cursor, columnIndices, cache))", singleParseMethodName)
+                .addCode("}\n")
+                .addStatement("return list")
+                .addJavadoc("Converts the {@code cursor} to {@code $T} reusing the cached instances of resident rows, \nmake sure the cursor is in the correct initial position", listOfPojo)
+                .addJavadoc("\n@param cursor to convert values from")
+                .addJavadoc("\n@param cache of already converted rows, remove changed rows from it after writing them")
+                .addJavadoc("\n@returns {@code $T} with cached or newly converted values", listOfPojo)
+                .build();
+    }
+
+    private MethodSpec generateMapByKeyMethod(ClassName pojoType, KeyColumn keyColumn, int keyIndex, String methodName, Modifier... modifier) {
+        // Keys fitting into an int use the smaller map
+        final boolean longKey = keyColumn.getTypeName() == TypeName.LONG;
+        final TypeName mapType = ParameterizedTypeName.get(longKey ? LONG_OBJECT_MAP_TYPE : INT_OBJECT_MAP_TYPE, pojoType);
+
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(mapType)
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addStatement("$T columnIndices = resolveColumnIndices(cursor)", INT_ARRAY_TYPE)
+                .addStatement("$T keyIndex = columnIndices[$L]", TypeName.INT, keyIndex)
+                .addCode("if (keyIndex < 0) {\n")
+                .addStatement("\tthrow new $T($S)", IllegalArgumentException.class, "The cursor does not contain the key column " + keyColumn.getColumnName())
+                .addCode("}\n")
+                .addStatement("$T map = new $T<>($T.max(cursor.getCount() - cursor.getPosition() - 1, 0))", mapType, longKey ? LONG_OBJECT_MAP_TYPE : INT_OBJECT_MAP_TYPE, Math.class)
+                .addCode("while (cursor.moveToNext()) {\n")
+                .addCode("\tif (!cursor.isNull(keyIndex)) {\n")
+                .addStatement("\t\tmap.put(cursor.$L(keyIndex), parseToSingleRow(cursor, columnIndices))", longKey ? "getLong" : "getInt")
+                .addCode("\t}\n")
+                .addCode("}\n")
+                .addStatement("return map")
+                .addJavadoc("Converts the {@code cursor} to a map keyed by the primary key without boxing the keys, \nthe map is sized from {@code cursor.getCount()} and filled in the same pass as the conversion")
+                .addJavadoc("\n@param cursor to convert values from, rows with a NULL key are skipped")
+                .addJavadoc("\n@returns {@code $T} from the {@code $L} column to the converted $T", mapType, keyColumn.getColumnName(), pojoType)
+                .build();
+    }
+
+    private List<KeysetPage> collectKeysetPages(TypeElement typeElement) {
+        final List<KeysetPage> keysetPages = new ArrayList<>();
+
+        final KeysetPage keysetPage = typeElement.getAnnotation(KeysetPage.class);
+        if (keysetPage != null) {
+            keysetPages.add(keysetPage);
+        }
+
+        final KeysetPages container = typeElement.getAnnotation(KeysetPages.class);
+        if (container != null) {
+            keysetPages.addAll(Arrays.asList(container.value()));
+        }
+
+        return keysetPages;
+    }
+
+    /**
+     * Adds the {@code PAGE_<NAME>_ORDER_BY} and {@code PAGE_<NAME>_AFTER} constants of the {@code keysetPage}
+     * and the methods querying and converting a page. Rows with the same sort value are ordered by the primary key,
+     * the condition is expanded instead of using a row value comparison, which needs SQLite 3.15.
+     * SQLite sorts NULL before every value, a page ending with a NULL sort value continues with {@code PAGE_<NAME>_AFTER_NULL}
+     */
+    private void addKeysetPageMethods(TypeSpec.Builder classBuilder, TypeElement typeElement, ProcessPojo processPojo, ColumnReads columnReads,
+                                      KeyColumn keyColumn, KeysetPage keysetPage) {
+        final ClassName pojoType = ClassName.get(typeElement);
+        final String keyName = keyColumn.getColumnName();
+        final String sortColumn = keysetPage.column().isEmpty() || keysetPage.column().equals(keyName) ? null : keysetPage.column();
+        final int sortIndex = sortColumn != null ? columnReads.indexOf(sortColumn) : -1;
+        if (sortColumn != null && sortIndex < 0) {
+            throwError("SlimOrm: The keyset page " + keysetPage.name() + " of " + typeElement.getSimpleName() + " is sorted by the unknown column " + sortColumn);
+        }
+
+        final String direction = keysetPage.descending() ? " DESC" : "";
+        final String comparison = keysetPage.descending() ? "<" : ">";
+        final String orderBy = sortColumn != null ? sortColumn + direction + ", " + keyName + direction : keyName + direction;
+        final String after;
+        final String afterNull;
+        if (sortColumn == null) {
+            after = keyName + " " + comparison + " ?";
+            afterNull = null;
+        } else if (keysetPage.descending()) {
+            // The NULL sort values come last
+            after = "((" + sortColumn + " <= ? AND (" + sortColumn + " < ? OR " + keyName + " < ?)) OR " + sortColumn + " IS NULL)";
+            afterNull = sortColumn + " IS NULL AND " + keyName + " < ?";
+        } else {
+            // The NULL sort values come first, comparing them with a value is never true
+            after = sortColumn + " >= ? AND (" + sortColumn + " > ? OR " + keyName + " > ?)";
+            afterNull = "((" + sortColumn + " IS NULL AND " + keyName + " > ?) OR " + sortColumn + " IS NOT NULL)";
+        }
+
+        final String constantPrefix = "PAGE_" + toConstantName(keysetPage.name());
+        classBuilder.addField(FieldSpec.builder(STRING_TYPE, constantPrefix + "_ORDER_BY", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$S", orderBy)
+                .addJavadoc("Order of the keyset page {@code $L}\n", keysetPage.name())
+                .build());
+        classBuilder.addField(FieldSpec.builder(STRING_TYPE, constantPrefix + "_AFTER", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$S", after)
+                .addJavadoc("Selects the rows after a {@link $T} of the keyset page {@code $L}, bind {@code PageKey.toSelectionArgs()}\n", PAGE_KEY_TYPE, keysetPage.name())
+                .build());
+        if (afterNull != null) {
+            classBuilder.addField(FieldSpec.builder(STRING_TYPE, constantPrefix + "_AFTER_NULL", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$S", afterNull)
+                    .addJavadoc("Selects the rows after a {@link $T} of the keyset page {@code $L} whose sort value is NULL, bind {@code PageKey.toSelectionArgs()}\n", PAGE_KEY_TYPE, keysetPage.name())
+                    .build());
+        }
+
+        final CodeBlock sortValue;
+        if (sortColumn == null) {
+            sortValue = CodeBlock.of("null");
+        } else if (isFloatingPointColumn(processPojo, sortColumn)) {
+            // Keeps every digit, the text of getString is rounded to 15 digits
+            sortValue = CodeBlock.of("cursor.isNull(sortIndex) ? null : $T.valueOf(cursor.getDouble(sortIndex))", STRING_TYPE);
+        } else {
+            sortValue = CodeBlock.of("cursor.getString(sortIndex)");
+        }
+
+        final String pageName = capitalize(keysetPage.name());
+        final TypeName pageType = ParameterizedTypeName.get(PAGE_TYPE, pojoType);
+        final TypeName listOfPojo = ParameterizedTypeName.get(LIST_TYPE, pojoType);
+        final MethodSpec.Builder toPageBuilder = MethodSpec.methodBuilder("parseTo" + pageName + "Page")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(pageType)
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addParameter(TypeName.INT, "pageSize")
+                .addStatement("$T columnIndices = resolveColumnIndices(cursor)", INT_ARRAY_TYPE)
+                .addStatement("$T keyIndex = columnIndices[$L]", TypeName.INT, columnReads.indexOf(keyName));
+        if (sortColumn != null) {
+            toPageBuilder.addStatement("$T sortIndex = columnIndices[$L]", TypeName.INT, sortIndex)
+                    .addCode("if (keyIndex < 0 || sortIndex < 0) {\n")
+                    .addStatement("\tthrow new $T($S)", IllegalArgumentException.class, "The cursor does not contain the columns " + keyName + " and " + sortColumn);
+        } else {
+            toPageBuilder.addCode("if (keyIndex < 0) {\n")
+                    .addStatement("\tthrow new $T($S)", IllegalArgumentException.class, "The cursor does not contain the key column " + keyName);
+        }
+        addMethodPair(classBuilder, toPageBuilder
+                .addCode("}\n")
+                .addStatement("$T rows = new $T<>($T.min(pageSize, $T.max(cursor.getCount() - cursor.getPosition() - 1, 0)))", listOfPojo, ARRAY_LIST_TYPE, Math.class, Math.class)
+                .addCode("while (rows.size() < pageSize && cursor.moveToNext()) {\n")
+                .addStatement("\trows.add(parseToSingleRow(cursor, columnIndices))")
+                .addCode("}\n")
+                .addComment("The page query selects one row more than the page, it is only there to tell whether another page follows")
+                .addCode("if (rows.isEmpty() || rows.size() < pageSize || cursor.getPosition() >= cursor.getCount() - 1) {\n")
+                .addStatement("\treturn new $T<>(rows, null)", PAGE_TYPE)
+                .addCode("}\n")
+                .addStatement("return new $T<>(rows, new $T($L, cursor.getLong(keyIndex)))", PAGE_TYPE, PAGE_KEY_TYPE, sortValue)
+                .addJavadoc("Converts at most {@code pageSize} rows of the {@code cursor} to a page of the keyset page {@code $L}, \n", keysetPage.name())
+                .addJavadoc("the next key is set if the cursor contains another row after the page")
+                .addJavadoc("\n@param cursor selecting the rows with {@code LIMIT pageSize + 1} ordered by {@code $L_ORDER_BY}", constantPrefix)
+                .addJavadoc("\n@param pageSize maximum number of rows in the page")
+                .addJavadoc("\n@returns {@code $T} with the converted rows and the key of the next page", pageType)
+                .build());
+
+        final CodeBlock where = afterNull != null
+                ? CodeBlock.of("after == null ? $S : $S + (after.getSortValue() != null ? $L_AFTER : $L_AFTER_NULL)", "", " WHERE ", constantPrefix, constantPrefix)
+                : CodeBlock.of("after != null ? $S + $L_AFTER : $S", " WHERE ", constantPrefix, "");
+        addMethodPair(classBuilder, MethodSpec.methodBuilder("parseQuery" + pageName + "Page")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(pageType)
+                .addParameter(SQLITE_DATABASE_TYPE, "db")
+                .addParameter(STRING_TYPE, "table")
+                .addParameter(PAGE_KEY_TYPE, "after")
+                .addParameter(TypeName.INT, "pageSize")
+                .addCode("if (pageSize <= 0) {\n")
+                .addStatement("\tthrow new $T($S + pageSize)", IllegalArgumentException.class, "pageSize has to be positive but was ")
+                .addCode("}\n")
+                .addStatement("final $T where = $L", STRING_TYPE, where)
+                .addStatement("final $T cursor = db.rawQuery(PAGE_SELECT + table + where + $S + $L_ORDER_BY + $S + (pageSize + 1), \nafter != null ? after.toSelectionArgs() : null)",
+                        CURSOR_TYPE, " ORDER BY ", constantPrefix, " LIMIT ")
+                .beginControlFlow("try")
+                .addStatement("return $L(cursor, pageSize)", "parseTo" + pageName + "Page")
+                .nextControlFlow("finally")
+                .addStatement("cursor.close()")
+                .endControlFlow()
+                .addJavadoc("Queries the page of the keyset page {@code $L} following {@code after}, \n", keysetPage.name())
+                .addJavadoc("the cost of a page does not depend on its depth if an index covers {@code $L}", orderBy.replace(" DESC", ""))
+                .addJavadoc("\n@param db to query")
+                .addJavadoc("\n@param table containing the rows")
+                .addJavadoc("\n@param after {@code getNextKey()} of the previous page, null for the first page")
+                .addJavadoc("\n@param pageSize maximum number of rows in the page")
+                .addJavadoc("\n@returns {@code $T} with the converted rows and the key of the next page", pageType)
+                .build());
+    }
+
+    /**
+     * @return true if a member reading the {@code columnName} is a float or a double
+     */
+    private boolean isFloatingPointColumn(ProcessPojo processPojo, String columnName) {
+        final List<VariableElement> members = new ArrayList<>();
+        for (VariableElement variableElement : processPojo.getAnnotatedFields()) {
+            if (variableElement.getAnnotation(Field.class).value().equals(columnName)) {
+                members.add(variableElement);
+            }
+        }
+        for (ExecutableElement setter : processPojo.getAnnotatedSetters()) {
+            if (setter.getAnnotation(Field.class).value().equals(columnName)) {
+                members.add(setter.getParameters().get(0));
+            }
+        }
+        if (processPojo.getAnnotatedConstructors().size() == 1) {
+            for (VariableElement parameter : processPojo.getAnnotatedConstructors().get(0).getParameters()) {
+                if (getColumnName(parameter).equals(columnName)) {
+                    members.add(parameter);
+                }
+            }
+        }
+
+        for (VariableElement member : members) {
+            final TypeName typeName = ClassName.get(member.asType());
+            final TypeName primitiveType = typeName.isBoxedPrimitive() ? typeName.unbox() : typeName;
+            if (primitiveType == TypeName.FLOAT || primitiveType == TypeName.DOUBLE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Projection> collectProjections(TypeElement typeElement) {
+        final List<Projection> projections = new ArrayList<>();
+
+        final Projection projection = typeElement.getAnnotation(Projection.class);
+        if (projection != null) {
+            projections.add(projection);
+        }
+
+        final Projections container = typeElement.getAnnotation(Projections.class);
+        if (container != null) {
+            projections.addAll(Arrays.asList(container.value()));
+        }
+
+        return projections;
+    }
+
+    /**
+     * @return the members mapped to one of the {@code projectedColumns}, the constructor is kept
+     * and gets default values for parameters outside of the projection
+     */
+    private ProcessPojo filterProjection(ProcessPojo processPojo, Set<String> projectedColumns) {
+        final List<VariableElement> annotatedFields = new ArrayList<>();
+        for (VariableElement variableElement : processPojo.getAnnotatedFields()) {
+            if (projectedColumns.contains(variableElement.getAnnotation(Field.class).value())) {
+                annotatedFields.add(variableElement);
+            }
+        }
+
+        final List<ExecutableElement> annotatedSetters = new ArrayList<>();
+        for (ExecutableElement executableElement : processPojo.getAnnotatedSetters()) {
+            if (projectedColumns.contains(executableElement.getAnnotation(Field.class).value())) {
+                annotatedSetters.add(executableElement);
+            }
+        }
+
+        return new ProcessPojo(annotatedFields,
+                annotatedSetters,
+                new ArrayList<ExecutableElement>(),
+                processPojo.getAnnotatedConstructors());
+    }
+
+    private FieldSpec generateProjectionField(Projection projection, String projectionConverterName, List<String> columnNames) {
+        return FieldSpec.builder(STRING_ARRAY_TYPE, "PROJECTION_" + toConstantName(projection.name()), Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer(generateStringArrayInitializer(columnNames))
+                .addJavadoc("Columns of the projection {@code $L}, select these and convert the cursor with {@code $L}\n", projection.name(), projectionConverterName)
+                .build();
+    }
+
+    private TypeSpec generateProjectionConverterClass(TypeElement typeElement, Projection projection, String projectionConverterName, ProcessPojo projectedPojo, ColumnReads projectionReads) {
+        final TypeSpec.Builder classBuilder = TypeSpec.classBuilder(projectionConverterName)
+                .addModifiers(Modifier.PUBLIC)
+                .addOriginatingElement(typeElement)
+                .addJavadoc("Converts cursors selecting the projection {@code $L} of {@link $T}, \nmembers mapped to other columns are not read\n", projection.name(), typeElement);
+
+        addRowReadMethods(classBuilder, ClassName.get(ClassName.get(typeElement).packageName(), projectionConverterName), typeElement, projectedPojo, projectionReads);
+
+        return classBuilder.build();
+    }
+
+    /**
+     * @return name in upper snake case, e.g. {@code LIST_ITEM} for {@code listItem}
+     */
+    private String toConstantName(String name) {
+        final StringBuilder constantName = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            final char character = name.charAt(i);
+            if (Character.isUpperCase(character) && i > 0 && !Character.isUpperCase(name.charAt(i - 1))) {
+                constantName.append('_');
+            }
+            constantName.append(Character.toUpperCase(character));
+        }
+        return constantName.toString();
+    }
+
+    /**
+     * Adds the static {@code parse...} method and an instance method delegating to it,
+     * the instance methods keep the converters easy to mock without duplicating the code
+     */
+    private void addMethodPair(TypeSpec.Builder classBuilder, MethodSpec staticMethod) {
+        final String instanceName = staticMethod.name.substring(5, 6).toLowerCase() + staticMethod.name.substring(6);
+
+        final StringBuilder arguments = new StringBuilder();
+        for (ParameterSpec parameter : staticMethod.parameters) {
+            if (arguments.length() > 0) {
+                arguments.append(", ");
+            }
+            arguments.append(parameter.name);
+        }
+
+        final MethodSpec.Builder instanceMethodBuilder = MethodSpec.methodBuilder(instanceName)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(staticMethod.returnType)
+                .addParameters(staticMethod.parameters)
+                .addExceptions(staticMethod.exceptions)
+                .varargs(staticMethod.varargs)
+                .addJavadoc(staticMethod.javadoc);
+
+        if (staticMethod.returnType.equals(TypeName.VOID)) {
+            instanceMethodBuilder.addStatement("$L($L)", staticMethod.name, arguments);
+        } else {
+            instanceMethodBuilder.addStatement("return $L($L)", staticMethod.name, arguments);
+        }
+
+        classBuilder.addMethod(instanceMethodBuilder.build());
+        classBuilder.addMethod(staticMethod);
+    }
+
+    /**
+     * Every member read from the cursor keyed by the name of its array in the columns class,
+     * the value is the field, setter parameter or constructor parameter defining the type
+     */
+    private Map<String, VariableElement> collectColumnarMembers(ProcessPojo processPojo) {
+        final Map<String, VariableElement> columnarMembers = new LinkedHashMap<>();
+
+        final List<ExecutableElement> annotatedConstructors = processPojo.getAnnotatedConstructors();
+        if (annotatedConstructors.size() == 1) {
+            for (VariableElement parameter : annotatedConstructors.get(0).getParameters()) {
+                columnarMembers.put(parameter.getSimpleName().toString(), parameter);
+            }
+        }
+
+        // Lazy values are not kept in columns
+        for (VariableElement variableElement : processPojo.getAnnotatedFields()) {
+            if (!isLazy(ClassName.get(variableElement.asType()))) {
+                columnarMembers.put(variableElement.getSimpleName().toString(), variableElement);
+            }
+        }
+
+        for (ExecutableElement executableElement : processPojo.getAnnotatedSetters()) {
+            if (!isLazy(ClassName.get(executableElement.getParameters().get(0).asType()))) {
+                columnarMembers.put(getPropertyName(executableElement), executableElement.getParameters().get(0));
+            }
+        }
+
+        return columnarMembers;
+    }
+
+    private String getColumnarMemberColumnName(VariableElement member) {
+        final Field field = member.getAnnotation(Field.class);
+        if (field != null) {
+            return field.value();
+        }
+
+        final Element enclosingElement = member.getEnclosingElement();
+        if (enclosingElement.getKind() == ElementKind.METHOD) {
+            final Field setterField = enclosingElement.getAnnotation(Field.class);
+            if (setterField != null) {
+                return setterField.value();
+            }
+        }
+
+        return getColumnName(member);
+    }
+
+    private TypeSpec generateColumnsClass(TypeElement typeElement, ClassName columnsType, Map<String, VariableElement> columnarMembers) {
+        final MethodSpec.Builder constructorBuilder = MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(TypeName.INT, "size")
+                .addStatement("this.size = size");
+
+        final TypeSpec.Builder classBuilder = TypeSpec.classBuilder(columnsType.simpleName())
+                .addModifiers(Modifier.PUBLIC)
+                .addOriginatingElement(typeElement)
+                .addJavadoc("Columnar result of {@code $LConverter.parseToColumns}, \none array per member of {@link $T} indexed by row\n", typeElement.getSimpleName(), typeElement)
+                .addField(FieldSpec.builder(TypeName.INT, "size", Modifier.PUBLIC, Modifier.FINAL)
+                        .addJavadoc("Number of rows\n")
+                        .build());
+
+        for (Map.Entry<String, VariableElement> entry : columnarMembers.entrySet()) {
+            final String memberName = entry.getKey();
+            final TypeName typeName = ClassName.get(entry.getValue().asType());
+            final TypeName componentType = typeName.isBoxedPrimitive() ? typeName.unbox() : typeName;
+
+            classBuilder.addField(ArrayTypeName.of(componentType), memberName, Modifier.PUBLIC, Modifier.FINAL);
+            if (componentType.equals(BYTE_ARRAY_TYPE)) {
+                constructorBuilder.addStatement("this.$L = new $T[size][]", memberName, TypeName.BYTE);
+            } else {
+                constructorBuilder.addStatement("this.$L = new $T[size]", memberName, componentType);
+            }
+
+            if (typeName.isBoxedPrimitive()) {
+                final String nullsName = memberName + "Nulls";
+                classBuilder.addField(FieldSpec.builder(LONG_ARRAY_TYPE, nullsName, Modifier.PUBLIC, Modifier.FINAL)
+                        .addJavadoc("Bitmap of the rows where {@code $L} is null\n", memberName)
+                        .build());
+                constructorBuilder.addStatement("this.$L = new $T[(size + 63) >> 6]", nullsName, TypeName.LONG);
+                classBuilder.addMethod(MethodSpec.methodBuilder("is" + capitalize(memberName) + "Null")
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(TypeName.BOOLEAN)
+                        .addParameter(TypeName.INT, "row")
+                        .addStatement("return ($L[row >> 6] & (1L << row)) != 0", nullsName)
+                        .addJavadoc("@returns true if {@code $L} was null in the given {@code row}\n", memberName)
+                        .build());
+            }
+        }
+
+        return classBuilder.addMethod(constructorBuilder.build()).build();
+    }
+
+    private MethodSpec generateToColumnsMethod(ClassName columnsType, Map<String, VariableElement> columnarMembers, ColumnReads columnReads, String methodName, Modifier... modifier) {
+        final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(columnsType)
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addStatement("$T columnIndices = resolveColumnIndices(cursor)", INT_ARRAY_TYPE)
+                .addStatement("$T columns = new $T($T.max(cursor.getCount() - cursor.getPosition() - 1, 0))", columnsType, columnsType, Math.class)
+                .addStatement("$T row = 0", TypeName.INT)
+                .addCode("while (row < columns.size && cursor.moveToNext()) {\n");
+
+        addSharedColumnReads(methodBuilder, columnReads, "\t");
+
+        for (Map.Entry<String, VariableElement> entry : columnarMembers.entrySet()) {
+            final String memberName = entry.getKey();
+            final TypeName typeName = ClassName.get(entry.getValue().asType());
+            final int columnIndex = columnReads.indexOf(getColumnarMemberColumnName(entry.getValue()));
+
+            if (typeName.isBoxedPrimitive()) {
+                if (columnReads.isShared(columnIndex)) {
+                    methodBuilder.addCode("\tif (column$LNull) {\n", columnIndex);
+                } else {
+                    methodBuilder.addCode("\tif (columnIndices[$L] < 0 || cursor.isNull(columnIndices[$L])) {\n", columnIndex, columnIndex);
+                }
+                methodBuilder.addStatement("\t\tcolumns.$LNulls[row >> 6] |= 1L << row", memberName);
+                methodBuilder.addCode("\t} else {\n");
+                methodBuilder.addStatement("\t\tcolumns.$L[row] = $L", memberName, readExpression(typeName.unbox(), columnIndex, columnReads));
+                methodBuilder.addCode("\t}\n");
+            } else {
+                methodBuilder.addStatement("\tcolumns.$L[row] = $L", memberName, readExpression(typeName, columnIndex, columnReads));
+            }
+        }
+
+        return methodBuilder.addStatement("\trow++")
+                .addCode("}\n")
+                .addStatement("return columns")
+                .addJavadoc("Converts the remaining rows of the {@code cursor} to one primitive array per member without boxing, \nmake sure the cursor is in the correct initial position")
+                .addJavadoc("\n@param cursor to convert values from")
+                .addJavadoc("\n@returns {@code $T} sized from {@code cursor.getCount()}", columnsType)
+                .build();
+    }
+
+    private MethodSpec generateToContentValuesMethod(TypeElement typeElement, ProcessPojo processPojo, KeyColumn keyColumn, Set<String> deferredColumns, String methodName, Modifier... modifier) {
+        final String parameterName = typeElement.getSimpleName().toString().toLowerCase();
+        final ClassName contentValuesClassName = ClassName.get("android.content", "ContentValues");
+
+        final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(contentValuesClassName)
+                .addParameter(ClassName.get(typeElement), parameterName)
+                .addStatement("$T contentValues = new $T()", contentValuesClassName, contentValuesClassName);
+
+        for (VariableElement variableElement : processPojo.getAnnotatedFields()) {
+            addContentValuesPut(methodBuilder, variableElement, keyColumn, deferredColumns, parameterName);
+        }
+
+        for (ExecutableElement getter : processPojo.getAnnotatedGetters()) {
+            addContentValuesPut(methodBuilder, getter, keyColumn, deferredColumns, parameterName);
+        }
+
+        methodBuilder.addStatement("return contentValues");
+        methodBuilder.addJavadoc("Converts the provided " + parameterName + " to ContentValues");
+        methodBuilder.addJavadoc("\n@param " + parameterName + " to convert values from");
+        methodBuilder.addJavadoc("\n@returns {@code $T} with values converted from {@code $T}", contentValuesClassName, typeElement);
+
+        return methodBuilder.build();
+    }
+
+    private void addContentValuesPut(MethodSpec.Builder methodBuilder, Element element, KeyColumn keyColumn, Set<String> deferredColumns, String parameterName) {
+        final String columnName = element.getAnnotation(Field.class).value();
+        final CodeBlock accessor = getWriteColumnAccessor(element, parameterName);
+        if (deferredColumns.contains(columnName)) {
+            methodBuilder.addCode("if ($L != null) {\n", accessor);
+            methodBuilder.addStatement("\tcontentValues.put($S, $L)", columnName, accessor);
+            methodBuilder.addCode("}\n");
+            return;
+        }
+        if (isGeneratedKey(keyColumn, columnName, element)) {
+            // Left out for new rows, SQLite assigns the key
+            methodBuilder.addCode("if ($L != 0) {\n", accessor);
+            methodBuilder.addStatement("\tcontentValues.put($S, $L)", columnName, accessor);
+            methodBuilder.addCode("}\n");
+            return;
+        }
+        methodBuilder.addStatement("contentValues.put($S, $L)", columnName, accessor);
+    }
+
+    /**
+     * @return true if the column is the {@code autoIncrement} key written by the primitive {@code element},
+     * its value 0 marks a new row whose key is assigned by SQLite
+     */
+    private boolean isGeneratedKey(KeyColumn keyColumn, String columnName, Element element) {
+        return keyColumn != null && keyColumn.isAutoIncrement()
+                && keyColumn.getColumnName().equals(columnName)
+                && getWriteColumnType(element).isPrimitive();
+    }
+
+    /**
+     * @param projectedColumns columns to read, null to read all columns of the {@code processPojo}
+     * @param strict read the {@code projectedColumns} by their position in the declared order
+     */
+    private ColumnReads collectColumnReads(ProcessPojo processPojo, Set<String> projectedColumns, boolean strict, KeyColumn keyColumn) {
+        // Column name to the types of all members reading it
+        final Map<String, List<TypeName>> readsByColumn = new LinkedHashMap<>();
+        // Column name to the largest pool capacity of its @Dedupe members
+        final Map<String, Integer> dedupeByColumn = new HashMap<>();
+
+        final List<ExecutableElement> annotatedConstructors = processPojo.getAnnotatedConstructors();
+        if (annotatedConstructors.size() == 1) {
+            for (VariableElement parameter : annotatedConstructors.get(0).getParameters()) {
+                final String columnName = getColumnName(parameter);
+                if (projectedColumns == null || projectedColumns.contains(columnName)) {
+                    addColumnRead(readsByColumn, columnName, parameter);
+                    addDedupe(dedupeByColumn, columnName, parameter, parameter.getAnnotation(Dedupe.class));
+                }
+            }
+        }
+
+        // Lazy members only need the primary key
+        boolean lazy = false;
+        for (VariableElement variableElement : processPojo.getAnnotatedFields()) {
+            if (isLazy(ClassName.get(variableElement.asType()))) {
+                lazy = true;
+            } else {
+                addColumnRead(readsByColumn, variableElement.getAnnotation(Field.class).value(), variableElement);
+                addDedupe(dedupeByColumn, variableElement.getAnnotation(Field.class).value(), variableElement, variableElement.getAnnotation(Dedupe.class));
+            }
+        }
+
+        for (ExecutableElement executableElement : processPojo.getAnnotatedSetters()) {
+            if (isLazy(ClassName.get(executableElement.getParameters().get(0).asType()))) {
+                lazy = true;
+            } else {
+                addColumnRead(readsByColumn, executableElement.getAnnotation(Field.class).value(), executableElement.getParameters().get(0));
+                addDedupe(dedupeByColumn, executableElement.getAnnotation(Field.class).value(), executableElement.getParameters().get(0), executableElement.getAnnotation(Dedupe.class));
+            }
+        }
+
+        final List<String> columnNames = new ArrayList<>(strict ? projectedColumns : readsByColumn.keySet());
+        final Map<Integer, TypeName> sharedColumns = new LinkedHashMap<>();
+        final Set<Integer> nullableSharedColumns = new HashSet<>();
+
+        for (int columnIndex = 0; columnIndex < columnNames.size(); columnIndex++) {
+            final List<TypeName> memberTypes = readsByColumn.get(columnNames.get(columnIndex));
+            final TypeName sharedType = getSharedReadType(memberTypes);
+            if (memberTypes.size() > 1 && sharedType != null) {
+                sharedColumns.put(columnIndex, sharedType);
+                for (TypeName memberType : memberTypes) {
+                    if (memberType.isBoxedPrimitive()) {
+                        nullableSharedColumns.add(columnIndex);
+                    }
+                }
+            }
+        }
+
+        final int lazyKeyIndex = lazy && keyColumn != null ? columnNames.indexOf(keyColumn.getColumnName()) : -1;
+        if (lazy && lazyKeyIndex < 0) {
+            throwError("SlimOrm: Lazy members need the @PrimaryKey column to be read");
+        }
+        final Map<Integer, Integer> dedupedColumns = new LinkedHashMap<>();
+        for (int columnIndex = 0; columnIndex < columnNames.size(); columnIndex++) {
+            final Integer capacity = dedupeByColumn.get(columnNames.get(columnIndex));
+            if (capacity != null) {
+                dedupedColumns.put(columnIndex, capacity);
+            }
+        }
+        return new ColumnReads(columnNames, sharedColumns, nullableSharedColumns, strict, lazyKeyIndex, dedupedColumns);
+    }
+
+    private void addDedupe(Map<String, Integer> dedupeByColumn, String columnName, VariableElement member, Dedupe dedupe) {
+        if (dedupe == null) {
+            return;
+        }
+        if (!ClassName.get(member.asType()).equals(STRING_TYPE)) {
+            throwError("SlimOrm: @Dedupe " + member.getSimpleName() + " has to be a String");
+        }
+        if (dedupe.capacity() <= 0) {
+            throwError("SlimOrm: The @Dedupe capacity of " + member.getSimpleName() + " has to be positive");
+        }
+        final Integer capacity = dedupeByColumn.get(columnName);
+        dedupeByColumn.put(columnName, capacity == null ? dedupe.capacity() : Math.max(capacity, dedupe.capacity()));
+    }
+
+    private void addColumnRead(Map<String, List<TypeName>> readsByColumn, String columnName, VariableElement member) {
+        if (!readsByColumn.containsKey(columnName)) {
+            readsByColumn.put(columnName, new ArrayList<TypeName>());
+        }
+        readsByColumn.get(columnName).add(ClassName.get(member.asType()));
+    }
+
+    /**
+     * Several members can share one read of a column if they convert the same cursor value,
+     * all integral members share {@code getLong}, floating point members share {@code getDouble}
+     * and strings share {@code getString}. Blobs are never shared to not alias the arrays.
+     *
+     * @return type of the shared read or null if the members can not share it
+     */
+    private TypeName getSharedReadType(List<TypeName> memberTypes) {
+        TypeName sharedType = null;
+        for (TypeName memberType : memberTypes) {
+            final TypeName readType;
+            if (memberType.equals(STRING_TYPE)) {
+                readType = STRING_TYPE;
+            } else if (memberType.isPrimitive() || memberType.isBoxedPrimitive()) {
+                final TypeName primitiveType = memberType.isBoxedPrimitive() ? memberType.unbox() : memberType;
+                if (primitiveType == TypeName.FLOAT || primitiveType == TypeName.DOUBLE) {
+                    readType = TypeName.DOUBLE;
+                } else if (primitiveType == TypeName.BOOLEAN || primitiveType == TypeName.SHORT
+                        || primitiveType == TypeName.INT || primitiveType == TypeName.LONG) {
+                    readType = TypeName.LONG;
+                } else {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+
+            if (sharedType != null && !sharedType.equals(readType)) {
+                return null;
+            }
+            sharedType = readType;
+        }
+        return sharedType;
+    }
+
+    /**
+     * Reads every shared column once into locals named {@code column<index>}
+     */
+    private void addSharedColumnReads(MethodSpec.Builder methodBuilder, ColumnReads columnReads, String indent) {
+        for (Map.Entry<Integer, TypeName> entry : columnReads.getSharedColumns().entrySet()) {
+            final int columnIndex = entry.getKey();
+            final TypeName sharedType = entry.getValue();
+
+            if (columnReads.isStrict()) {
+                if (columnReads.getNullableSharedColumns().contains(columnIndex)) {
+                    methodBuilder.addStatement(indent + "$T column$LNull = cursor.isNull($L)", TypeName.BOOLEAN, columnIndex, columnIndex);
+                    methodBuilder.addStatement(indent + "$T column$L = column$LNull ? 0 : cursor." + mapTypeToCursorGetMethod(sharedType) + "($L)", sharedType, columnIndex, columnIndex, columnIndex);
+                } else if (columnReads.isDeduped(columnIndex)) {
+                    methodBuilder.addStatement(indent + "$T column$L = $L.readString(cursor, $L)", sharedType, columnIndex, getStringPoolName(columnReads, columnIndex), columnIndex);
+                } else {
+                    methodBuilder.addStatement(indent + "$T column$L = cursor." + mapTypeToCursorGetMethod(sharedType) + "($L)", sharedType, columnIndex, columnIndex);
+                }
+            } else if (columnReads.getNullableSharedColumns().contains(columnIndex)) {
+                methodBuilder.addStatement(indent + "$T column$LNull = columnIndices[$L] < 0 || cursor.isNull(columnIndices[$L])", TypeName.BOOLEAN, columnIndex, columnIndex, columnIndex);
+                methodBuilder.addStatement(indent + "$T column$L = column$LNull ? 0 : cursor." + mapTypeToCursorGetMethod(sharedType) + "(columnIndices[$L])", sharedType, columnIndex, columnIndex, columnIndex);
+            } else if (columnReads.isDeduped(columnIndex)) {
+                methodBuilder.addStatement(indent + "$T column$L = $L.readString(cursor, columnIndices[$L])", sharedType, columnIndex, getStringPoolName(columnReads, columnIndex), columnIndex);
+            } else if (sharedType.equals(STRING_TYPE)) {
+                methodBuilder.addStatement(indent + "$T column$L = " + mapTypeToCursorUtilNonPrimitiveReadMethod(sharedType) + "(cursor, columnIndices[$L])", sharedType, columnIndex, columnIndex);
+            } else {
+                methodBuilder.addStatement(indent + "$T column$L = " + mapTypeToCursorUtilReadMethod(sharedType) + "(cursor, columnIndices[$L])", sharedType, columnIndex, columnIndex);
+            }
+        }
+    }
+
+    /**
+     * @return expression reading a value of {@code typeName} from the column, either through the read methods
+     * or converted from the local of a shared column
+     */
+    private CodeBlock readExpression(TypeName typeName, int columnIndex, ColumnReads columnReads) {
+        if (!columnReads.isShared(columnIndex) && columnReads.isDeduped(columnIndex) && typeName.equals(STRING_TYPE)) {
+            return CodeBlock.of("$L.readString(cursor, $L)", getStringPoolName(columnReads, columnIndex),
+                    CodeBlock.of(columnReads.isStrict() ? "$L" : "columnIndices[$L]", columnIndex));
+        } else if (!columnReads.isShared(columnIndex) && columnReads.isStrict()) {
+            return strictReadExpression(typeName, columnIndex);
+        } else if (!columnReads.isShared(columnIndex)) {
+            if (typeName.isPrimitive()) {
+                return CodeBlock.of(mapTypeToCursorUtilReadMethod(typeName) + "(cursor, columnIndices[$L])", columnIndex);
+            } else if (typeName.isBoxedPrimitive()) {
+                return CodeBlock.of(mapTypeToCursorUtilNonPrimitiveReadMethod(typeName.unbox()) + "(cursor, columnIndices[$L])", columnIndex);
+            }
+            return CodeBlock.of(mapTypeToCursorUtilNonPrimitiveReadMethod(typeName) + "(cursor, columnIndices[$L])", columnIndex);
+        }
+
+        if (typeName.equals(STRING_TYPE)) {
+            return CodeBlock.of("column$L", columnIndex);
+        } else if (typeName.isBoxedPrimitive()) {
+            return CodeBlock.of("column$LNull ? null : $T.valueOf($L)", columnIndex, typeName, convertSharedColumn(typeName.unbox(), columnIndex));
+        }
+        return convertSharedColumn(typeName, columnIndex);
+    }
+
+    private String getStringPoolName(ColumnReads columnReads, int columnIndex) {
+        return "STRING_POOL_" + toConstantName(columnReads.getColumnNames().get(columnIndex));
+    }
+
+    /**
+     * @return expression reading the column at {@code columnIndex} straight from the cursor, only null values need a check
+     */
+    private CodeBlock strictReadExpression(TypeName typeName, int columnIndex) {
+        if (typeName.isBoxedPrimitive()) {
+            return CodeBlock.of("cursor.isNull($L) ? null : $T.valueOf($L)", columnIndex, typeName, strictReadExpression(typeName.unbox(), columnIndex));
+        } else if (typeName == TypeName.BOOLEAN) {
+            return CodeBlock.of("cursor.getInt($L) == 1", columnIndex);
+        }
+        return CodeBlock.of("cursor." + mapTypeToCursorGetMethod(typeName) + "($L)", columnIndex);
+    }
+
+    private CodeBlock convertSharedColumn(TypeName primitiveType, int columnIndex) {
+        if (primitiveType == TypeName.BOOLEAN) {
+            return CodeBlock.of("column$L == 1", columnIndex);
+        } else if (primitiveType == TypeName.LONG || primitiveType == TypeName.DOUBLE) {
+            return CodeBlock.of("column$L", columnIndex);
+        }
+        return CodeBlock.of("($T) column$L", primitiveType, columnIndex);
+    }
+
+    private String getColumnName(VariableElement constructorParameter) {
+        final ColumnName columnName = constructorParameter.getAnnotation(ColumnName.class);
+        if (columnName != null) {
+            return columnName.value();
+        }
+        return constructorParameter.getSimpleName().toString();
+    }
+
+    private FieldSpec generateColumnsField(List<String> columnNames) {
+        return FieldSpec.builder(STRING_ARRAY_TYPE, "COLUMNS", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer(generateStringArrayInitializer(columnNames))
+                .build();
+    }
+
+    private CodeBlock generateStringArrayInitializer(List<String> values) {
+        final CodeBlock.Builder initializer = CodeBlock.builder().add("{");
+        for (int i = 0; i < values.size(); i++) {
+            initializer.add(i == 0 ? "$S" : ", $S", values.get(i));
+        }
+        return initializer.add("}").build();
+    }
+
+    private MethodSpec generateResolveColumnIndicesMethod() {
+        return MethodSpec.methodBuilder("resolveColumnIndices")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(INT_ARRAY_TYPE)
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addStatement("return $T.resolveColumnIndices(cursor, COLUMNS)", CURSOR_READS_TYPE)
+                .addJavadoc("Resolves the column indices of the {@code cursor} once, \nthe result can be reused for every row of the same {@code cursor}")
+                .addJavadoc("\n@param cursor to resolve the column indices from")
+                .addJavadoc("\n@returns column index table to be passed to the single row methods, {@code -1} for missing columns")
+                .build();
+    }
+
+    private MethodSpec generateRequireColumnLayoutMethod() {
+        return MethodSpec.methodBuilder("resolveColumnIndices")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(INT_ARRAY_TYPE)
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addStatement("return $T.requireColumnLayout(cursor, COLUMNS)", CURSOR_READS_TYPE)
+                .addJavadoc("Checks once that the {@code cursor} starts with the columns of the projection in their declared order, \nthe rows are read by column position afterwards")
+                .addJavadoc("\n@param cursor to check the column layout of")
+                .addJavadoc("\n@returns column positions to be passed to the single row methods")
+                .addJavadoc("\n@throws IllegalArgumentException if the {@code cursor} selects other columns")
+                .build();
+    }
+
+    private Map<String, Element> collectWriteColumns(ProcessPojo processPojo) {
+        // Same as ContentValues: the last member annotated with a column wins
+        final Map<String, Element> writeColumns = new LinkedHashMap<>();
+
+        for (VariableElement variableElement : processPojo.getAnnotatedFields()) {
+            writeColumns.put(variableElement.getAnnotation(Field.class).value(), variableElement);
+        }
+
+        for (ExecutableElement getter : processPojo.getAnnotatedGetters()) {
+            writeColumns.put(getter.getAnnotation(Field.class).value(), getter);
+        }
+
+        return writeColumns;
+    }
+
+    private FieldSpec generateInsertColumnsField(Map<String, Element> writeColumns) {
+        final StringBuilder columns = new StringBuilder();
+        final StringBuilder placeholders = new StringBuilder();
+        for (String columnName : writeColumns.keySet()) {
+            if (columns.length() > 0) {
+                columns.append(", ");
+                placeholders.append(", ");
+            }
+            columns.append(columnName);
+            placeholders.append("?");
+        }
+
+        return FieldSpec.builder(STRING_TYPE, "INSERT_COLUMNS", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$S", " (" + columns + ") VALUES (" + placeholders + ")")
+                .build();
+    }
+
+    private MethodSpec generateCompileInsertStatementMethod() {
+        return MethodSpec.methodBuilder("compileInsertStatement")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(SQLITE_STATEMENT_TYPE)
+                .addParameter(SQLITE_DATABASE_TYPE, "db")
+                .addParameter(STRING_TYPE, "table")
+                .addStatement("return db.compileStatement($S + table + INSERT_COLUMNS)", "INSERT INTO ")
+                .addJavadoc("Compiles an INSERT statement for all columns written by {@code bindTo}, \nthe statement can be reused for any number of rows")
+                .addJavadoc("\n@param db to compile the statement for")
+                .addJavadoc("\n@param table to insert into")
+                .addJavadoc("\n@returns {@code SQLiteStatement} which has to be closed by the caller")
+                .build();
+    }
+
+    private MethodSpec generateBindToStatementMethod(TypeElement typeElement, Map<String, Element> writeColumns, KeyColumn keyColumn, String methodName, Modifier... modifier) {
+        final String parameterName = typeElement.getSimpleName().toString().toLowerCase();
+
+        final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .addParameter(SQLITE_STATEMENT_TYPE, "statement")
+                .addParameter(ClassName.get(typeElement), parameterName);
+
+        int bindIndex = 1;
+        for (Map.Entry<String, Element> entry : writeColumns.entrySet()) {
+            final Element element = entry.getValue();
+            final TypeName typeName = getWriteColumnType(element);
+            final CodeBlock accessor = getWriteColumnAccessor(element, parameterName);
+            if (isGeneratedKey(keyColumn, entry.getKey(), element)) {
+                // NULL lets SQLite assign the key of a new row, the statement is reused for rows with and without keys
+                methodBuilder.addCode("if ($L != 0) {\n", accessor);
+                addBindStatement(methodBuilder, typeName, accessor, bindIndex, "value" + bindIndex, "\t");
+                methodBuilder.addCode("} else {\n");
+                methodBuilder.addStatement("\tstatement.bindNull($L)", bindIndex);
+                methodBuilder.addCode("}\n");
+            } else {
+                addBindStatement(methodBuilder, typeName, accessor, bindIndex, "value" + bindIndex, "");
+            }
+            bindIndex++;
+        }
+
+        methodBuilder.addJavadoc("Binds the values of the provided " + parameterName + " to a statement from {@code compileInsertStatement} without boxing");
+        if (keyColumn != null && keyColumn.isAutoIncrement()) {
+            methodBuilder.addJavadoc(",\nthe key {@code $L} is bound as NULL if it is 0 to insert a new row", keyColumn.getColumnName());
+        }
+        methodBuilder.addJavadoc("\n@param statement to bind the values to");
+        methodBuilder.addJavadoc("\n@param " + parameterName + " to convert values from");
+
+        return methodBuilder.build();
+    }
+
+    /**
+     * @param bindIndex literal index or expression evaluating to the index, it is only evaluated once
+     */
+    private void addBindStatement(MethodSpec.Builder methodBuilder, TypeName typeName, CodeBlock accessor, Object bindIndex, String valueName, String indent) {
+        if (typeName.isPrimitive()) {
+            methodBuilder.addStatement(indent + "statement." + mapTypeToStatementBindMethod(typeName) + "($L, " + mapTypeToStatementBindValue(typeName, "$L") + ")", bindIndex, accessor);
+            return;
+        }
+
+        final TypeName bindType = typeName.isBoxedPrimitive() ? typeName.unbox() : typeName;
+        methodBuilder.addStatement(indent + "$T $L = $L", typeName, valueName, accessor);
+        methodBuilder.addCode(indent + "if ($L != null) {\n", valueName);
+        methodBuilder.addStatement(indent + "\tstatement." + mapTypeToStatementBindMethod(bindType) + "($L, " + mapTypeToStatementBindValue(bindType, "$L") + ")", bindIndex, valueName);
+        methodBuilder.addCode(indent + "} else {\n");
+        methodBuilder.addStatement(indent + "\tstatement.bindNull($L)", bindIndex);
+        methodBuilder.addCode(indent + "}\n");
+    }
+
+    /**
+     * Generates {@code <Pojo>Schema} with the DDL of the {@code table}, the columns are the columns written by the converter
+     */
+    private TypeSpec generateSchemaClass(TypeElement typeElement, Table table, Map<String, Element> writeColumns, KeyColumn keyColumn) {
+        if (keyColumn != null && !writeColumns.containsKey(keyColumn.getColumnName())) {
+            throwError("SlimOrm: The @PrimaryKey column " + keyColumn.getColumnName() + " of the table " + table.name() + " has to be written by " + typeElement.getSimpleName());
+        }
+
+        final StringBuilder createTable = new StringBuilder("CREATE TABLE ").append(table.name()).append(" (");
+        for (Map.Entry<String, Element> entry : writeColumns.entrySet()) {
+            if (createTable.charAt(createTable.length() - 1) != '(') {
+                createTable.append(", ");
+            }
+            createTable.append(entry.getKey()).append(' ');
+
+            if (keyColumn != null && keyColumn.getColumnName().equals(entry.getKey())) {
+                createTable.append(keyColumn.isAutoIncrement() ? "INTEGER PRIMARY KEY AUTOINCREMENT" : "INTEGER PRIMARY KEY");
+            } else {
+                createTable.append(getColumnDefinition(entry.getKey(), entry.getValue()));
+            }
+        }
+        createTable.append(')');
+
+        final List<String> createIndices = new ArrayList<>();
+        final Set<String> indexNames = new HashSet<>();
+        for (Index index : table.indices()) {
+            if (index.columns().length == 0) {
+                throwError("SlimOrm: An index of the table " + table.name() + " has no columns");
+            }
+            for (String column : index.columns()) {
+                if (!writeColumns.containsKey(column)) {
+                    throwError("SlimOrm: The index of the table " + table.name() + " contains the unknown column " + column);
+                }
+            }
+
+            final String indexName = index.name().isEmpty()
+                    ? "index_" + table.name() + "_" + joinColumns(index.columns(), "_")
+                    : index.name();
+            if (!indexNames.add(indexName)) {
+                throwError("SlimOrm: The table " + table.name() + " declares the index " + indexName + " twice");
+            }
+
+            final StringBuilder createIndex = new StringBuilder(index.unique() ? "CREATE UNIQUE INDEX" : "CREATE INDEX")
+                    .append(" IF NOT EXISTS ").append(indexName)
+                    .append(" ON ").append(table.name())
+                    .append(" (").append(joinColumns(index.columns(), ", ")).append(')');
+            if (!index.where().isEmpty()) {
+                createIndex.append(" WHERE ").append(index.where());
+            }
+            createIndices.add(createIndex.toString());
+        }
+
+        final ClassName schemaType = ClassName.get(ClassName.get(typeElement).packageName(), typeElement.getSimpleName() + "Schema");
+        return TypeSpec.classBuilder(schemaType.simpleName())
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addOriginatingElement(typeElement)
+                .addJavadoc("Schema of the table {@code $L} declared on {@link $T}\n", table.name(), typeElement)
+                .addField(FieldSpec.builder(STRING_TYPE, "TABLE", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$S", table.name())
+                        .build())
+                .addField(FieldSpec.builder(STRING_TYPE, "CREATE_TABLE", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$S", createTable.toString())
+                        .build())
+                .addField(FieldSpec.builder(STRING_ARRAY_TYPE, "CREATE_INDICES", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer(generateStringArrayInitializer(createIndices))
+                        .build())
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addModifiers(Modifier.PRIVATE)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("create")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .addParameter(SQLITE_DATABASE_TYPE, "db")
+                        .addStatement("db.execSQL(CREATE_TABLE)")
+                        .addStatement("createIndices(db)")
+                        .addJavadoc("Creates the table and its indices, call it from {@code onCreate}\n")
+                        .addJavadoc("@param db to create the table in\n")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("createIndices")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .addParameter(SQLITE_DATABASE_TYPE, "db")
+                        .beginControlFlow("for ($T createIndex : CREATE_INDICES)", STRING_TYPE)
+                        .addStatement("db.execSQL(createIndex)")
+                        .endControlFlow()
+                        .addJavadoc("Creates the indices which do not exist yet, call it from {@code onUpgrade} after adding an index\n")
+                        .addJavadoc("@param db containing the table\n")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("getCreateIndices")
+                        .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                        .returns(STRING_ARRAY_TYPE)
+                        .addStatement("return CREATE_INDICES.clone()")
+                        .addJavadoc("@returns the {@code CREATE INDEX} statements in declaration order\n")
+                        .build())
+                .build();
+    }
+
+    /**
+     * @return the declared {@link ColumnType} of the column or the type derived from the member
+     */
+    private String getColumnDefinition(String columnName, Element element) {
+        final ColumnType columnType = element.getAnnotation(ColumnType.class);
+        if (columnType != null) {
+            return columnType.value();
+        }
+
+        final TypeName typeName = getWriteColumnType(element);
+        final TypeName primitiveType = typeName.isBoxedPrimitive() ? typeName.unbox() : typeName;
+        if (primitiveType == TypeName.FLOAT || primitiveType == TypeName.DOUBLE) {
+            return "REAL";
+        } else if (primitiveType.isPrimitive()) {
+            return "INTEGER";
+        } else if (typeName.equals(STRING_TYPE)) {
+            return "TEXT";
+        } else if (typeName.equals(BYTE_ARRAY_TYPE)) {
+            return "BLOB";
+        }
+        throwError("SlimOrm: Can not derive the type of the column " + columnName + ", declare it with @ColumnType");
+        return null;
+    }
+
+    private String joinColumns(String[] columns, String separator) {
+        final StringBuilder joined = new StringBuilder();
+        for (String column : columns) {
+            if (joined.length() > 0) {
+                joined.append(separator);
+            }
+            joined.append(column);
+        }
+        return joined.toString();
+    }
+
+    /**
+     * @return type of the member, the value type for lazy members
+     */
+    private TypeName getWriteColumnType(Element element) {
+        final TypeName typeName = getMemberType(element);
+        if (isLazy(typeName)) {
+            return ((ParameterizedTypeName) typeName).typeArguments.get(0);
+        }
+        return typeName;
+    }
+
+    private TypeName getMemberType(Element element) {
+        if (element.getKind() == ElementKind.FIELD) {
+            return ClassName.get(element.asType());
+        }
+        return ClassName.get(((ExecutableElement) element).getReturnType());
+    }
+
+    /**
+     * @return expression reading the value of the member, lazy members are loaded
+     */
+    private CodeBlock getWriteColumnAccessor(Element element, String parameterName) {
+        final CodeBlock member = getMemberAccessor(element, parameterName);
+        if (isLazy(getMemberType(element))) {
+            return CodeBlock.of("$T.valueOf($L)", LAZY_TYPE, member);
+        }
+        return member;
+    }
+
+    private CodeBlock getMemberAccessor(Element element, String parameterName) {
+        if (element.getKind() == ElementKind.FIELD) {
+            return CodeBlock.of("$L.$L", parameterName, element.getSimpleName());
+        }
+        return CodeBlock.of("$L.$L()", parameterName, element.getSimpleName());
+    }
+
+    /**
+     * @return condition which is true if the column has to be written, deferred blobs only if {@code after} holds one
+     */
+    private CodeBlock generateWriteCondition(String columnName, Element element, Set<String> deferredColumns) {
+        if (deferredColumns.contains(columnName)) {
+            return CodeBlock.of("$L != null && $L", getWriteColumnAccessor(element, "after"), generateChangedCondition(element));
+        }
+        return generateChangedCondition(element);
+    }
+
+    /**
+     * @return condition which is true if the column differs between {@code before} and {@code after}
+     */
+    private CodeBlock generateChangedCondition(Element element) {
+        if (isLazy(getMemberType(element))) {
+            // Lazies of the same row are not loaded to compare them
+            return CodeBlock.of("$T.changed($L, $L)", CHANGES_TYPE, getMemberAccessor(element, "before"), getMemberAccessor(element, "after"));
+        }
+
+        final TypeName typeName = getWriteColumnType(element);
+        final CodeBlock before = getWriteColumnAccessor(element, "before");
+        final CodeBlock after = getWriteColumnAccessor(element, "after");
+
+        if (typeName.isPrimitive() && typeName != TypeName.FLOAT && typeName != TypeName.DOUBLE) {
+            return CodeBlock.of("$L != $L", before, after);
+        }
+        return CodeBlock.of("$T.changed($L, $L)", CHANGES_TYPE, before, after);
+    }
+
+    private MethodSpec generateDiffToContentValuesMethod(ClassName pojoType, Map<String, Element> writeColumns, Set<String> deferredColumns, String methodName, Modifier... modifier) {
+        final ClassName contentValuesClassName = ClassName.get("android.content", "ContentValues");
+
+        final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(contentValuesClassName)
+                .addParameter(pojoType, "before")
+                .addParameter(pojoType, "after")
+                .addStatement("$T contentValues = new $T()", contentValuesClassName, contentValuesClassName);
+
+        for (Map.Entry<String, Element> entry : writeColumns.entrySet()) {
+            methodBuilder.addCode("if ($L) {\n", generateWriteCondition(entry.getKey(), entry.getValue(), deferredColumns));
+            methodBuilder.addStatement("\tcontentValues.put($S, $L)", entry.getKey(), getWriteColumnAccessor(entry.getValue(), "after"));
+            methodBuilder.addCode("}\n");
+        }
+
+        return methodBuilder.addStatement("return contentValues")
+                .addJavadoc("Converts only the columns whose values differ between {@code before} and {@code after} to ContentValues, \nblobs are compared by content")
+                .addJavadoc("\n@param before state of the row as it is stored")
+                .addJavadoc("\n@param after state of the row to write")
+                .addJavadoc("\n@returns {@code ContentValues} with the changed values of {@code after}, empty if nothing changed")
+                .build();
+    }
+
+    private MethodSpec generateDiffUpdateMethod(ClassName pojoType, Map<String, Element> writeColumns, Set<String> deferredColumns, String methodName, Modifier... modifier) {
+        final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(TypeName.INT)
+                .addParameter(SQLITE_DATABASE_TYPE, "db")
+                .addParameter(STRING_TYPE, "table")
+                .addParameter(pojoType, "before")
+                .addParameter(pojoType, "after")
+                .addParameter(STRING_TYPE, "whereClause")
+                .addParameter(STRING_ARRAY_TYPE, "whereArgs")
+                .addStatement("$T sql = new $T($S).append(table).append($S)", StringBuilder.class, StringBuilder.class, "UPDATE ", " SET ")
+                .addStatement("$T changedColumns = 0", TypeName.INT);
+
+        int columnIndex = 0;
+        for (Map.Entry<String, Element> entry : writeColumns.entrySet()) {
+            methodBuilder.addStatement("$T changed$L = $L", TypeName.BOOLEAN, columnIndex, generateWriteCondition(entry.getKey(), entry.getValue(), deferredColumns));
+            methodBuilder.addCode("if (changed$L) {\n", columnIndex);
+            methodBuilder.addStatement("\tsql.append(changedColumns++ == 0 ? $S : $S)", entry.getKey() + " = ?", ", " + entry.getKey() + " = ?");
+            methodBuilder.addCode("}\n");
+            columnIndex++;
+        }
+
+        methodBuilder.addCode("if (changedColumns == 0) {\n")
+                .addStatement("\treturn 0")
+                .addCode("}\n")
+                .addCode("if (whereClause != null) {\n")
+                .addStatement("\tsql.append($S).append(whereClause)", " WHERE ")
+                .addCode("}\n")
+                .addStatement("$T statement = db.compileStatement(sql.toString())", SQLITE_STATEMENT_TYPE)
+                .addCode("try {\n")
+                .addStatement("\t$T bindIndex = 1", TypeName.INT);
+
+        columnIndex = 0;
+        for (Element element : writeColumns.values()) {
+            methodBuilder.addCode("\tif (changed$L) {\n", columnIndex);
+            addBindStatement(methodBuilder, getWriteColumnType(element), getWriteColumnAccessor(element, "after"), "bindIndex++", "value" + columnIndex, "\t\t");
+            methodBuilder.addCode("\t}\n");
+            columnIndex++;
+        }
+
+        return methodBuilder.addCode("\tif (whereArgs != null) {\n")
+                .addCode("\t\tfor ($T whereArg : whereArgs) {\n", STRING_TYPE)
+                .addCode("\t\t\tif (whereArg != null) {\n")
+                .addStatement("\t\t\t\tstatement.bindString(bindIndex++, whereArg)")
+                .addCode("\t\t\t} else {\n")
+                .addStatement("\t\t\t\tstatement.bindNull(bindIndex++)")
+                .addCode("\t\t\t}\n")
+                .addCode("\t\t}\n")
+                .addCode("\t}\n")
+                .addStatement("\treturn statement.executeUpdateDelete()")
+                .addCode("} finally {\n")
+                .addStatement("\tstatement.close()")
+                .addStatement("\t$T.invalidate(db, table)", TABLE_VERSIONS_TYPE)
+                .addCode("}\n")
+                .addJavadoc("Updates only the columns whose values differ between {@code before} and {@code after}, \nthe changed values are bound to the statement without boxing and no statement is executed if nothing changed")
+                .addJavadoc("\n@param db to update")
+                .addJavadoc("\n@param table to update")
+                .addJavadoc("\n@param before state of the row as it is stored")
+                .addJavadoc("\n@param after state of the row to write")
+                .addJavadoc("\n@param whereClause optional WHERE clause without the WHERE keyword, e.g. {@code \"_id = ?\"}")
+                .addJavadoc("\n@param whereArgs bound to the {@code ?} of the {@code whereClause}")
+                .addJavadoc("\n@returns number of updated rows, 0 if nothing changed")
+                .build();
+    }
+
+    private MethodSpec generateDeleteMethod(String methodName, Modifier... modifier) {
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(TypeName.INT)
+                .addParameter(SQLITE_DATABASE_TYPE, "db")
+                .addParameter(STRING_TYPE, "table")
+                .addParameter(STRING_TYPE, "whereClause")
+                .addParameter(STRING_ARRAY_TYPE, "whereArgs")
+                .addCode("try {\n")
+                .addStatement("\treturn db.delete(table, whereClause, whereArgs)")
+                .addCode("} finally {\n")
+                .addStatement("\t$T.invalidate(db, table)", TABLE_VERSIONS_TYPE)
+                .addCode("}\n")
+                .addJavadoc("Deletes the rows matching the {@code whereClause} and invalidates the cached queries of the {@code table}")
+                .addJavadoc("\n@param db to delete from")
+                .addJavadoc("\n@param table to delete from")
+                .addJavadoc("\n@param whereClause optional WHERE clause without the WHERE keyword, null deletes all rows")
+                .addJavadoc("\n@param whereArgs bound to the {@code ?} of the {@code whereClause}")
+                .addJavadoc("\n@returns number of deleted rows")
+                .build();
+    }
+
+    /**
+     * Pairs every member read from a cursor with a field or getter of the same column and type,
+     * constructor parameters first in their order, then fields and setters
+     *
+     * @return the members or null if one of them can not be read from a row
+     */
+    private List<SnapshotMember> collectSnapshotMembers(ProcessPojo processPojo) {
+        final List<SnapshotMember> snapshotMembers = new ArrayList<>();
+
+        final List<ExecutableElement> annotatedConstructors = processPojo.getAnnotatedConstructors();
+        if (annotatedConstructors.size() == 1) {
+            for (VariableElement parameter : annotatedConstructors.get(0).getParameters()) {
+                final TypeName typeName = ClassName.get(parameter.asType());
+                final String accessor = findSnapshotAccessor(processPojo, getColumnName(parameter), typeName);
+                if (accessor == null) {
+                    return null;
+                }
+                snapshotMembers.add(new SnapshotMember(typeName, accessor, null, false));
+            }
+        }
+
+        for (VariableElement variableElement : processPojo.getAnnotatedFields()) {
+            final String fieldName = variableElement.getSimpleName().toString();
+            snapshotMembers.add(new SnapshotMember(ClassName.get(variableElement.asType()), "row." + fieldName, fieldName, false));
+        }
+
+        for (ExecutableElement setter : processPojo.getAnnotatedSetters()) {
+            final TypeName typeName = ClassName.get(setter.getParameters().get(0).asType());
+            final String accessor = findSnapshotAccessor(processPojo, setter.getAnnotation(Field.class).value(), typeName);
+            if (accessor == null) {
+                return null;
+            }
+            snapshotMembers.add(new SnapshotMember(typeName, accessor, setter.getSimpleName().toString(), true));
+        }
+
+        for (SnapshotMember snapshotMember : snapshotMembers) {
+            final TypeName typeName = snapshotMember.getTypeName();
+            if (!typeName.equals(STRING_TYPE) && !typeName.equals(BYTE_ARRAY_TYPE) && !typeName.isPrimitive() && !typeName.isBoxedPrimitive()) {
+                return null;
+            }
+        }
+
+        return snapshotMembers;
+    }
+
+    private String findSnapshotAccessor(ProcessPojo processPojo, String columnName, TypeName typeName) {
+        for (VariableElement variableElement : processPojo.getAnnotatedFields()) {
+            if (variableElement.getAnnotation(Field.class).value().equals(columnName) && ClassName.get(variableElement.asType()).equals(typeName)) {
+                return "row." + variableElement.getSimpleName();
+            }
+        }
+        for (ExecutableElement getter : processPojo.getAnnotatedGetters()) {
+            if (getter.getAnnotation(Field.class).value().equals(columnName) && ClassName.get(getter.getReturnType()).equals(typeName)) {
+                return "row." + getter.getSimpleName() + "()";
+            }
+        }
+        return null;
+    }
+
+    private boolean isLazy(TypeName typeName) {
+        return typeName instanceof ParameterizedTypeName && ((ParameterizedTypeName) typeName).rawType.equals(LAZY_TYPE);
+    }
+
+    /**
+     * @return fields and setters of a {@code Lazy<byte[]>} or {@code Lazy<String>}
+     */
+    private List<Element> collectLazyMembers(ProcessPojo processPojo) {
+        final List<Element> lazyMembers = new ArrayList<>();
+        for (VariableElement variableElement : processPojo.getAnnotatedFields()) {
+            if (isLazy(ClassName.get(variableElement.asType()))) {
+                lazyMembers.add(variableElement);
+            }
+        }
+        for (ExecutableElement setter : processPojo.getAnnotatedSetters()) {
+            if (isLazy(ClassName.get(setter.getParameters().get(0).asType()))) {
+                lazyMembers.add(setter);
+            }
+        }
+        return lazyMembers;
+    }
+
+    private String getLazyColumnName(Element lazyMember) {
+        return "LAZY_" + toConstantName(lazyMember.getAnnotation(Field.class).value());
+    }
+
+    private FieldSpec generateLazyColumnField(Element lazyMember, KeyColumn keyColumn) {
+        final TypeName typeName = lazyMember.getKind() == ElementKind.FIELD
+                ? ClassName.get(lazyMember.asType())
+                : ClassName.get(((ExecutableElement) lazyMember).getParameters().get(0).asType());
+        final TypeName valueType = ((ParameterizedTypeName) typeName).typeArguments.get(0);
+        final String factoryMethod;
+        if (valueType.equals(BYTE_ARRAY_TYPE)) {
+            factoryMethod = "blob";
+        } else if (valueType.equals(STRING_TYPE)) {
+            factoryMethod = "text";
+        } else {
+            throwError("SlimOrm: Lazy members have to be a Lazy<byte[]> or Lazy<String>, " + lazyMember.getSimpleName() + " is a " + typeName);
+            return null;
+        }
+
+        final String columnName = lazyMember.getAnnotation(Field.class).value();
+        return FieldSpec.builder(ParameterizedTypeName.get(LAZY_COLUMN_TYPE, valueType), getLazyColumnName(lazyMember), Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$T.$L($S, $S)", LAZY_COLUMN_TYPE, factoryMethod, columnName, keyColumn.getColumnName())
+                .addJavadoc("Loads the $L values of the converted rows, bind it before converting them\n", columnName)
+                .build();
+    }
+
+    private MethodSpec generateBindLazyColumnsMethod(List<Element> lazyMembers) {
+        final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("bindLazyColumns")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addParameter(SQLITE_DATABASE_TYPE, "db")
+                .addParameter(STRING_TYPE, "table");
+        for (Element lazyMember : lazyMembers) {
+            methodBuilder.addStatement("$L.bind(db, table)", getLazyColumnName(lazyMember));
+        }
+        return methodBuilder
+                .addJavadoc("Binds all lazy columns, the values of rows converted afterwards are loaded from the {@code table} of {@code db} when they are read")
+                .addJavadoc("\n@param db to load the values from, has to stay open while lazy values are read")
+                .addJavadoc("\n@param table to load the values from")
+                .build();
+    }
+
+    /**
+     * @return expression creating the lazy value of the row from the {@code lazyKey} read by {@link #addMemberReads}
+     */
+    private CodeBlock lazyReadExpression(Element lazyMember) {
+        return CodeBlock.of("$L.forKey(lazyKey)", getLazyColumnName(lazyMember));
+    }
+
+    private List<Element> collectDeferredBlobs(ProcessPojo processPojo) {
+        final List<Element> deferredBlobs = new ArrayList<>();
+        for (VariableElement variableElement : processPojo.getAnnotatedFields()) {
+            if (variableElement.getAnnotation(DeferredBlob.class) != null) {
+                checkIfDeferredBlobType(variableElement);
+                deferredBlobs.add(variableElement);
+            }
+        }
+        for (ExecutableElement setter : processPojo.getAnnotatedSetters()) {
+            if (setter.getAnnotation(DeferredBlob.class) != null) {
+                checkIfDeferredBlobType(setter.getParameters().get(0));
+                deferredBlobs.add(setter);
+            }
+        }
+        return deferredBlobs;
+    }
+
+    private void checkIfDeferredBlobType(VariableElement variableElement) {
+        if (!ClassName.get(variableElement.asType()).equals(BYTE_ARRAY_TYPE)) {
+            throwError("SlimOrm: @DeferredBlob " + variableElement.getSimpleName() + " has to be a byte[]");
+        }
+    }
+
+    private ProcessPojo withoutDeferredBlobs(ProcessPojo processPojo) {
+        final List<VariableElement> annotatedFields = new ArrayList<>();
+        for (VariableElement variableElement : processPojo.getAnnotatedFields()) {
+            if (variableElement.getAnnotation(DeferredBlob.class) == null) {
+                annotatedFields.add(variableElement);
+            }
+        }
+
+        final List<ExecutableElement> annotatedSetters = new ArrayList<>();
+        for (ExecutableElement executableElement : processPojo.getAnnotatedSetters()) {
+            if (executableElement.getAnnotation(DeferredBlob.class) == null) {
+                annotatedSetters.add(executableElement);
+            }
         }
 
-        return false;
+        return new ProcessPojo(annotatedFields,
+                annotatedSetters,
+                processPojo.getAnnotatedGetters(),
+                processPojo.getAnnotatedConstructors());
     }
 
-    private void addBlobReadMethod(TypeSpec.Builder classBuilder, String methodName) {
-        final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(methodName)
-                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
-                .returns(BYTE_ARRAY_TYPE)
-                .addParameter(ClassName.get("android.database", "Cursor"), "cursor")
-                .addParameter(STRING_TYPE, "columnName");
-
-        methodBuilder.addStatement("$T columnIndex = cursor.getColumnIndex(columnName)", TypeName.INT);
-        methodBuilder.addCode("if (columnIndex >= 0) {\n");
+    /**
+     * @return name of the field or of the property of the setter
+     */
+    private String getPropertyName(Element element) {
+        String propertyName = element.getSimpleName().toString();
+        if (element.getKind() == ElementKind.METHOD && propertyName.startsWith("set") && propertyName.length() > 3) {
+            propertyName = propertyName.substring(3, 4).toLowerCase() + propertyName.substring(4);
+        }
+        return propertyName;
+    }
 
-        methodBuilder.addCode("\tif (!cursor.isNull(columnIndex)) {\n");
+    private MethodSpec generateCompileBlobStatementMethod(KeyColumn keyColumn, String columnName, String methodName) {
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(SQLITE_STATEMENT_TYPE)
+                .addParameter(SQLITE_DATABASE_TYPE, "db")
+                .addParameter(STRING_TYPE, "table")
+                .addStatement("return db.compileStatement($S + table + $S)", "SELECT " + columnName + " FROM ", " WHERE " + keyColumn.getColumnName() + " = ?")
+                .addJavadoc("Compiles the statement selecting the $L blob of a single row, \nthe statement can be reused for any number of rows", columnName)
+                .addJavadoc("\n@param db to compile the statement for")
+                .addJavadoc("\n@param table to select from")
+                .addJavadoc("\n@returns {@code SQLiteStatement} which has to be closed by the caller")
+                .build();
+    }
 
-        methodBuilder.addStatement("\t\treturn cursor.getBlob(columnIndex)");
+    private MethodSpec generateCopyBlobMethod(String columnName, String methodName, Modifier... modifier) {
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(TypeName.INT)
+                .addException(IOException.class)
+                .addParameter(SQLITE_STATEMENT_TYPE, "statement")
+                .addParameter(TypeName.LONG, "key")
+                .addParameter(BYTE_BUFFER_TYPE, "target")
+                .addStatement("statement.bindLong(1, key)")
+                .addStatement("return $T.copyTo(statement, target)", BLOB_BUFFERS_TYPE)
+                .addJavadoc("Copies the $L blob of the row with the primary {@code key} at the position of {@code target} \nwithout allocating it on the heap", columnName)
+                .addJavadoc("\n@param statement compiled for the blob of this column")
+                .addJavadoc("\n@param key of the row")
+                .addJavadoc("\n@param target to copy to, reuse it for many rows")
+                .addJavadoc("\n@returns length of the blob or {@code -1} if it is null or there is no row")
+                .addJavadoc("\n@throws java.nio.BufferOverflowException if the blob does not fit into the remaining {@code target}")
+                .build();
+    }
 
-        methodBuilder.addCode("\t} else {\n");
-        methodBuilder.addStatement("\t\treturn $L", "null");
-        methodBuilder.addCode("\t}\n");
+    private FieldSpec generateSnapshotCodecField(ClassName pojoType, List<SnapshotMember> snapshotMembers) {
+        // Changes with every member type or accessor, old snapshots are dropped after such a change
+        final StringBuilder layout = new StringBuilder();
+        for (SnapshotMember snapshotMember : snapshotMembers) {
+            layout.append(snapshotMember.getTypeName()).append(' ').append(snapshotMember.getAccessor()).append(';');
+        }
 
-        methodBuilder.addCode("} else {\n");
-        methodBuilder.addStatement("\treturn $L", "null");
-        methodBuilder.addCode("}\n");
+        final TypeSpec codec = TypeSpec.anonymousClassBuilder("")
+                .addSuperinterface(ParameterizedTypeName.get(SNAPSHOT_CODEC_TYPE, pojoType))
+                .addMethod(MethodSpec.methodBuilder("layout")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(TypeName.INT)
+                        .addStatement("return $L", layout.toString().hashCode())
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("writeTo")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(BYTE_BUFFER_TYPE, "buffer")
+                        .addParameter(pojoType, "row")
+                        .addStatement("parseEncodeTo(buffer, row)")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("readFrom")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(pojoType)
+                        .addParameter(BYTE_BUFFER_TYPE, "buffer")
+                        .addStatement("return parseDecodeFrom(buffer)")
+                        .build())
+                .build();
 
-        classBuilder.addMethod(methodBuilder.build());
+        return FieldSpec.builder(ParameterizedTypeName.get(SNAPSHOT_CODEC_TYPE, pojoType), "SNAPSHOT_CODEC", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$L", codec)
+                .addJavadoc("Encodes $T for a {@code SnapshotStore}\n", pojoType)
+                .build();
     }
 
-    private void addStringReadMethod(TypeSpec.Builder classBuilder, String methodName) {
+    private MethodSpec generateEncodeToMethod(ClassName pojoType, List<SnapshotMember> snapshotMembers, String methodName, Modifier... modifier) {
         final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(methodName)
-                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
-                .returns(STRING_TYPE)
-                .addParameter(ClassName.get("android.database", "Cursor"), "cursor")
-                .addParameter(STRING_TYPE, "columnName");
+                .addModifiers(modifier)
+                .addParameter(BYTE_BUFFER_TYPE, "buffer")
+                .addParameter(pojoType, "row");
+
+        // Nullable values are read once, their null bits are written before all values
+        int nullableCount = 0;
+        for (int i = 0; i < snapshotMembers.size(); i++) {
+            final SnapshotMember snapshotMember = snapshotMembers.get(i);
+            if (!snapshotMember.getTypeName().isPrimitive()) {
+                if (nullableCount % 64 == 0) {
+                    methodBuilder.addStatement("long nulls$L = 0L", nullableCount / 64);
+                }
+                methodBuilder.addStatement("final $T value$L = $L", snapshotMember.getTypeName(), i, snapshotMember.getAccessor());
+                methodBuilder.addCode("if (value$L == null) {\n", i);
+                methodBuilder.addStatement("\tnulls$L |= 1L << $L", nullableCount / 64, nullableCount % 64);
+                methodBuilder.addCode("}\n");
+                nullableCount++;
+            }
+        }
+        for (int i = 0; i < (nullableCount + 63) / 64; i++) {
+            methodBuilder.addStatement("buffer.putLong(nulls$L)", i);
+        }
 
-        methodBuilder.addStatement("$T columnIndex = cursor.getColumnIndex(columnName)", TypeName.INT);
-        methodBuilder.addCode("if (columnIndex >= 0) {\n");
+        for (int i = 0; i < snapshotMembers.size(); i++) {
+            final SnapshotMember snapshotMember = snapshotMembers.get(i);
+            final TypeName typeName = snapshotMember.getTypeName();
+            if (typeName.isPrimitive()) {
+                methodBuilder.addStatement("$L", putValueStatement(typeName, snapshotMember.getAccessor()));
+            } else {
+                methodBuilder.addCode("if (value$L != null) {\n", i);
+                methodBuilder.addStatement("\t$L", putValueStatement(typeName, "value" + i));
+                methodBuilder.addCode("}\n");
+            }
+        }
 
-        methodBuilder.addCode("\tif (!cursor.isNull(columnIndex)) {\n");
+        methodBuilder.addJavadoc("Encodes the provided row at the position of {@code buffer}, \nprimitives are written as they are and nullable values after a null bitmap");
+        methodBuilder.addJavadoc("\n@param buffer to write to, its byte order has to match the one used by {@code decodeFrom}");
+        methodBuilder.addJavadoc("\n@param row to encode");
+        methodBuilder.addJavadoc("\n@throws java.nio.BufferOverflowException if the row does not fit into the remaining {@code buffer}");
 
-        methodBuilder.addStatement("\t\treturn cursor.getString(columnIndex)");
+        return methodBuilder.build();
+    }
 
-        methodBuilder.addCode("\t} else {\n");
-        methodBuilder.addStatement("\t\treturn $L", "null");
-        methodBuilder.addCode("\t}\n");
+    private CodeBlock putValueStatement(TypeName typeName, String value) {
+        final TypeName valueType = typeName.isBoxedPrimitive() ? typeName.unbox() : typeName;
+        if (valueType.equals(STRING_TYPE)) {
+            return CodeBlock.of("$T.putString(buffer, $L)", BUFFER_CODECS_TYPE, value);
+        } else if (valueType.equals(BYTE_ARRAY_TYPE)) {
+            return CodeBlock.of("$T.putBlob(buffer, $L)", BUFFER_CODECS_TYPE, value);
+        } else if (valueType == TypeName.BOOLEAN) {
+            return CodeBlock.of("buffer.put((byte) ($L ? 1 : 0))", value);
+        } else if (valueType == TypeName.LONG) {
+            return CodeBlock.of("buffer.putLong($L)", value);
+        } else if (valueType == TypeName.INT) {
+            return CodeBlock.of("buffer.putInt($L)", value);
+        } else if (valueType == TypeName.SHORT) {
+            return CodeBlock.of("buffer.putShort($L)", value);
+        } else if (valueType == TypeName.FLOAT) {
+            return CodeBlock.of("buffer.putFloat($L)", value);
+        }
+        return CodeBlock.of("buffer.putDouble($L)", value);
+    }
 
-        methodBuilder.addCode("} else {\n");
-        methodBuilder.addStatement("\treturn $L", "null");
-        methodBuilder.addCode("}\n");
+    private CodeBlock getValueExpression(TypeName typeName) {
+        final TypeName valueType = typeName.isBoxedPrimitive() ? typeName.unbox() : typeName;
+        final CodeBlock value;
+        if (valueType.equals(STRING_TYPE)) {
+            value = CodeBlock.of("$T.getString(buffer)", BUFFER_CODECS_TYPE);
+        } else if (valueType.equals(BYTE_ARRAY_TYPE)) {
+            value = CodeBlock.of("$T.getBlob(buffer)", BUFFER_CODECS_TYPE);
+        } else if (valueType == TypeName.BOOLEAN) {
+            value = CodeBlock.of("buffer.get() != 0");
+        } else if (valueType == TypeName.LONG) {
+            value = CodeBlock.of("buffer.getLong()");
+        } else if (valueType == TypeName.INT) {
+            value = CodeBlock.of("buffer.getInt()");
+        } else if (valueType == TypeName.SHORT) {
+            value = CodeBlock.of("buffer.getShort()");
+        } else if (valueType == TypeName.FLOAT) {
+            value = CodeBlock.of("buffer.getFloat()");
+        } else {
+            value = CodeBlock.of("buffer.getDouble()");
+        }
 
-        classBuilder.addMethod(methodBuilder.build());
+        if (typeName.isBoxedPrimitive()) {
+            return CodeBlock.of("$T.valueOf($L)", typeName, value);
+        }
+        return value;
     }
 
-    private void addNonPrimitiveReadMethod(TypeSpec.Builder classBuilder, String methodName, TypeName type) {
+    private MethodSpec generateDecodeFromMethod(ClassName pojoType, ProcessPojo processPojo, List<SnapshotMember> snapshotMembers, String methodName, Modifier... modifier) {
         final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(methodName)
-                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
-                .returns(type.box())
-                .addParameter(ClassName.get("android.database", "Cursor"), "cursor")
-                .addParameter(STRING_TYPE, "columnName");
+                .addModifiers(modifier)
+                .returns(pojoType)
+                .addParameter(BYTE_BUFFER_TYPE, "buffer");
 
-        methodBuilder.addStatement("$T columnIndex = cursor.getColumnIndex(columnName)", TypeName.INT);
-        methodBuilder.addCode("if (columnIndex >= 0) {\n");
+        int nullableCount = 0;
+        for (SnapshotMember snapshotMember : snapshotMembers) {
+            if (!snapshotMember.getTypeName().isPrimitive()) {
+                nullableCount++;
+            }
+        }
+        for (int i = 0; i < (nullableCount + 63) / 64; i++) {
+            methodBuilder.addStatement("final long nulls$L = buffer.getLong()", i);
+        }
 
-        methodBuilder.addCode("\tif (!cursor.isNull(columnIndex)) {\n");
+        int nullableIndex = 0;
+        for (int i = 0; i < snapshotMembers.size(); i++) {
+            final TypeName typeName = snapshotMembers.get(i).getTypeName();
+            if (typeName.isPrimitive()) {
+                methodBuilder.addStatement("final $T value$L = $L", typeName, i, getValueExpression(typeName));
+            } else {
+                methodBuilder.addStatement("final $T value$L = (nulls$L & 1L << $L) != 0 ? null : $L",
+                        typeName, i, nullableIndex / 64, nullableIndex % 64, getValueExpression(typeName));
+                nullableIndex++;
+            }
+        }
 
-        if (type == TypeName.BOOLEAN) {
-            methodBuilder.addStatement("\t\treturn cursor." + mapTypeToCursorGetMethod(type) + "(columnIndex) == 1");
-        } else {
-            methodBuilder.addStatement("\t\treturn cursor." + mapTypeToCursorGetMethod(type) + "(columnIndex)");
+        final StringBuilder constructorArguments = new StringBuilder();
+        for (int i = 0; i < snapshotMembers.size(); i++) {
+            if (snapshotMembers.get(i).getTarget() == null) {
+                if (constructorArguments.length() > 0) {
+                    constructorArguments.append(", ");
+                }
+                constructorArguments.append("value").append(i);
+            }
         }
+        methodBuilder.addStatement("final $T row = new $T($L)", pojoType, pojoType, constructorArguments);
+
+        for (int i = 0; i < snapshotMembers.size(); i++) {
+            final SnapshotMember snapshotMember = snapshotMembers.get(i);
+            if (snapshotMember.isSetter()) {
+                methodBuilder.addStatement("row.$L(value$L)", snapshotMember.getTarget(), i);
+            } else if (snapshotMember.getTarget() != null) {
+                methodBuilder.addStatement("row.$L = value$L", snapshotMember.getTarget(), i);
+            }
+        }
+        methodBuilder.addStatement("return row");
 
-        methodBuilder.addCode("\t} else {\n");
-        methodBuilder.addStatement("\t\treturn $L", "null");
-        methodBuilder.addCode("\t}\n");
+        methodBuilder.addJavadoc("Decodes a row written by {@code encodeTo} at the position of {@code buffer}");
+        methodBuilder.addJavadoc("\n@param buffer to read from, its position is moved behind the row");
+        methodBuilder.addJavadoc("\n@returns $T with the decoded values", pojoType);
 
-        methodBuilder.addCode("} else {\n");
-        methodBuilder.addStatement("\treturn $L", "null");
-        methodBuilder.addCode("}\n");
+        return methodBuilder.build();
+    }
 
-        classBuilder.addMethod(methodBuilder.build());
+    private MethodSpec generateInsertAllDelegateMethod(ClassName pojoType, String methodName, Modifier... modifier) {
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(TypeName.INT)
+                .addParameter(SQLITE_DATABASE_TYPE, "db")
+                .addParameter(STRING_TYPE, "table")
+                .addParameter(ParameterizedTypeName.get(ITERABLE_TYPE, pojoType), "rows")
+                .addStatement("return $L(db, table, rows, DEFAULT_INSERT_CHUNK_SIZE)", methodName)
+                .addJavadoc("Inserts all {@code rows} with one compiled statement, committing every {@code DEFAULT_INSERT_CHUNK_SIZE} rows")
+                .addJavadoc("\n@param db to insert into")
+                .addJavadoc("\n@param table to insert into")
+                .addJavadoc("\n@param rows to insert")
+                .addJavadoc("\n@returns number of inserted rows")
+                .build();
     }
 
-    private void addPrimitiveReadMethod(TypeSpec.Builder classBuilder, String methodName, TypeName primitiveType, String defaultValue) {
-        final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(methodName)
-                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
-                .returns(primitiveType)
-                .addParameter(ClassName.get("android.database", "Cursor"), "cursor")
-                .addParameter(STRING_TYPE, "columnName");
+    private MethodSpec generateInsertAllMethod(ClassName pojoType, String methodName, String bindMethodName, Modifier... modifier) {
+        // Every chunk ends its transaction before the next one begins, so a failing begin never reaches an unmatched end
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(TypeName.INT)
+                .addParameter(SQLITE_DATABASE_TYPE, "db")
+                .addParameter(STRING_TYPE, "table")
+                .addParameter(ParameterizedTypeName.get(ITERABLE_TYPE, pojoType), "rows")
+                .addParameter(TypeName.INT, "chunkSize")
+                .addCode("if (chunkSize <= 0) {\n")
+                .addStatement("\tthrow new $T($S + chunkSize)", IllegalArgumentException.class, "chunkSize has to be positive but was ")
+                .addCode("}\n")
+                .addStatement("$T statement = compileInsertStatement(db, table)", SQLITE_STATEMENT_TYPE)
+                .addStatement("$T inserted = 0", TypeName.INT)
+                .addStatement("$T iterator = rows.iterator()", ParameterizedTypeName.get(ITERATOR_TYPE, pojoType))
+                .addCode("try {\n")
+                .addCode("\tdo {\n")
+                .addStatement("\t\tdb.beginTransaction()")
+                .addCode("\t\ttry {\n")
+                .addCode("\t\t\tfor ($T rowsInTransaction = 0; rowsInTransaction < chunkSize && iterator.hasNext(); rowsInTransaction++) {\n", TypeName.INT)
+                .addStatement("\t\t\t\t$L(statement, iterator.next())", bindMethodName)
+                .addCode("\t\t\t\tif (statement.executeInsert() != -1) {\n")
+                .addStatement("\t\t\t\t\tinserted++")
+                .addCode("\t\t\t\t}\n")
+                .addCode("\t\t\t}\n")
+                .addStatement("\t\t\tdb.setTransactionSuccessful()")
+                .addCode("\t\t} finally {\n")
+                .addStatement("\t\t\tdb.endTransaction()")
+                .addCode("\t\t}\n")
+                .addStatement("\t} while (iterator.hasNext())")
+                .addCode("} finally {\n")
+                .addStatement("\tstatement.close()")
+                .addStatement("\t$T.invalidate(db, table)", TABLE_VERSIONS_TYPE)
+                .addCode("}\n")
+                .addStatement("return inserted")
+                .addJavadoc("Inserts all {@code rows} with one compiled statement, \nthe rows are committed in transactions of {@code chunkSize} rows")
+                .addJavadoc("\n@param db to insert into")
+                .addJavadoc("\n@param table to insert into")
+                .addJavadoc("\n@param rows to insert")
+                .addJavadoc("\n@param chunkSize number of rows committed per transaction")
+                .addJavadoc("\n@returns number of inserted rows")
+                .build();
+    }
 
-        methodBuilder.addStatement("$T columnIndex = cursor.getColumnIndex(columnName)", TypeName.INT);
-        methodBuilder.addCode("if (columnIndex >= 0) {\n");
+    private MethodSpec generateListParseMethod(ClassName pojoType, String methodName, String singleParseMethodName, Modifier... modifier) {
+        // Add list parser
+        TypeName listOfPojo = ParameterizedTypeName.get(LIST_TYPE, pojoType);
 
-        if (primitiveType == TypeName.BOOLEAN) {
-            methodBuilder.addStatement("\treturn cursor." + mapTypeToCursorGetMethod(primitiveType) + "(columnIndex) == 1");
-        } else {
-            methodBuilder.addStatement("\treturn cursor." + mapTypeToCursorGetMethod(primitiveType) + "(columnIndex)");
-        }
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(listOfPojo)
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addStatement("$T list = new $T<>()", listOfPojo, ARRAY_LIST_TYPE)
+                .addStatement("$T columnIndices = resolveColumnIndices(cursor)", INT_ARRAY_TYPE)
+                .addCode("while (cursor.moveToNext()) {\n")
+                .addStatement("     list.add($L(cursor, columnIndices))", singleParseMethodName)
+                .addCode("}\n")
+                .addStatement("return list")
+                .addJavadoc("Converts the {@code cursor} to {@code $T}, \nmake sure the cursor is in the correct initial position", listOfPojo)
+                .addJavadoc("\n@param cursor to convert values from")
+                .addJavadoc("\n@returns {@code $T} with values converted from {@code cursor}", listOfPojo)
+                .build();
+    }
 
-        methodBuilder.addCode("} else {\n");
-        methodBuilder.addStatement("\treturn $L", defaultValue);
-        methodBuilder.addCode("}\n");
+    private MethodSpec generateQueryCachedListMethod(ClassName converterType, ClassName pojoType, String methodName, String listMethodName, Modifier... modifier) {
+        final TypeName listOfPojo = ParameterizedTypeName.get(LIST_TYPE, pojoType);
 
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(listOfPojo)
+                .varargs()
+                .addParameter(QUERY_CACHE_TYPE, "cache")
+                .addParameter(SQLITE_DATABASE_TYPE, "db")
+                .addParameter(STRING_TYPE, "sql")
+                .addParameter(STRING_ARRAY_TYPE, "selectionArgs")
+                .addParameter(STRING_ARRAY_TYPE, "tables")
+                .addStatement("$T rows = cache.get($T.class, sql, selectionArgs)", listOfPojo, converterType)
+                .addCode("if (rows != null) {\n")
+                .addStatement("\treturn rows")
+                .addCode("}\n")
+                .addComment("Taken before the query, a write during the query outdates the stored rows")
+                .addStatement("$T stamp = cache.stamp(tables)", QUERY_CACHE_TYPE.nestedClass("Stamp"))
+                .addStatement("$T cursor = db.rawQuery(sql, selectionArgs)", CURSOR_TYPE)
+                .addCode("try {\n")
+                .addStatement("\trows = $T.unmodifiableList($L(cursor))", Collections.class, listMethodName)
+                .addCode("} finally {\n")
+                .addStatement("\tcursor.close()")
+                .addCode("}\n")
+                .addStatement("cache.put(stamp, $T.class, sql, selectionArgs, rows)", converterType)
+                .addStatement("return rows")
+                .addJavadoc("Returns the cached rows of the query or runs and caches it, \nthe cached rows are dropped after one of the {@code tables} was written")
+                .addJavadoc("\n@param cache holding the converted rows")
+                .addJavadoc("\n@param db to query")
+                .addJavadoc("\n@param sql of the query")
+                .addJavadoc("\n@param selectionArgs bound to the {@code ?} of the {@code sql}")
+                .addJavadoc("\n@param tables read by the query")
+                .addJavadoc("\n@returns unmodifiable {@code $T} shared with other callers, do not modify the rows", listOfPojo)
+                .build();
+    }
 
-        classBuilder.addMethod(methodBuilder.build());
+    private MethodSpec generateForEachMethod(ClassName pojoType, String methodName, String singleParseMethodName, Modifier... modifier) {
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addParameter(rowConsumerOf(pojoType), "consumer")
+                .addStatement("$T columnIndices = resolveColumnIndices(cursor)", INT_ARRAY_TYPE)
+                .addCode("while (cursor.moveToNext()) {\n")
+                .addStatement("     consumer.accept($L(cursor, columnIndices))", singleParseMethodName)
+                .addCode("}\n")
+                .addJavadoc("Converts the {@code cursor} row by row and passes every $T to the {@code consumer} without collecting them, \nmake sure the cursor is in the correct initial position", pojoType)
+                .addJavadoc("\n@param cursor to convert values from")
+                .addJavadoc("\n@param consumer receiving every converted row")
+                .build();
     }
 
-    private void log(String message) {
-        messager.printMessage(Diagnostic.Kind.WARNING, message);
+    private MethodSpec generateIterableMethod(ClassName pojoType, String methodName, Modifier... modifier) {
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(ParameterizedTypeName.get(ROW_ITERATOR_TYPE, pojoType))
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addStatement("final $T columnIndices = resolveColumnIndices(cursor)", INT_ARRAY_TYPE)
+                .addCode("return $L;\n", generateRowConverter(ROW_ITERATOR_TYPE, pojoType, CodeBlock.of("cursor"), CodeBlock.of("parseToSingleRow(cursor, columnIndices)")))
+                .addJavadoc("Wraps the {@code cursor} in a single use {@code Iterable} converting one $T per step, \nmake sure the cursor is in the correct initial position", pojoType)
+                .addJavadoc("\n@param cursor to convert values from, closed together with the returned {@code RowIterator}")
+                .addJavadoc("\n@returns {@code RowIterator} over the rows of {@code cursor}")
+                .build();
     }
 
-    private void generateClass(TypeElement typeElement, ProcessPojo processPojo) {
+    private MethodSpec generateLazyListDelegateMethod(ClassName pojoType, String methodName, Modifier... modifier) {
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(ParameterizedTypeName.get(LAZY_ROW_LIST_TYPE, pojoType))
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addStatement("return $L(cursor, $T.DEFAULT_CACHE_SIZE)", methodName, LAZY_ROW_LIST_TYPE)
+                .addJavadoc("Wraps all rows of the {@code cursor} in a {@code List} converting a $T when it is requested, \nkeeps the last {@code LazyRowList.DEFAULT_CACHE_SIZE} requested rows", pojoType)
+                .addJavadoc("\n@param cursor to convert values from, owned and closed by the returned {@code LazyRowList}")
+                .addJavadoc("\n@returns {@code LazyRowList} over all rows of {@code cursor}")
+                .build();
+    }
 
-        final ClassName pojoType = ClassName.get(typeElement);
+    private MethodSpec generateLazyListMethod(ClassName pojoType, String methodName, Modifier... modifier) {
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(ParameterizedTypeName.get(LAZY_ROW_LIST_TYPE, pojoType))
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addParameter(TypeName.INT, "cacheSize")
+                .addStatement("final $T columnIndices = resolveColumnIndices(cursor)", INT_ARRAY_TYPE)
+                .addCode("return $L;\n", generateRowConverter(LAZY_ROW_LIST_TYPE, pojoType, CodeBlock.of("cursor, cacheSize"), CodeBlock.of("parseToSingleRow(cursor, columnIndices)")))
+                .addJavadoc("Wraps all rows of the {@code cursor} in a {@code List} converting a $T when it is requested, \nonly the last {@code cacheSize} requested rows are kept in memory", pojoType)
+                .addJavadoc("\n@param cursor to convert values from, owned and closed by the returned {@code LazyRowList}")
+                .addJavadoc("\n@param cacheSize number of converted rows to keep")
+                .addJavadoc("\n@returns {@code LazyRowList} over all rows of {@code cursor}")
+                .build();
+    }
 
-        TypeSpec.Builder classBuilder = TypeSpec.
-                classBuilder(typeElement.getSimpleName() + "Converter")
-                .addModifiers(Modifier.PUBLIC);
+    /**
+     * @return anonymous subclass of a runtime type converting rows with {@code convertExpression}
+     */
+    private TypeSpec generateRowConverter(ClassName superType, ClassName pojoType, CodeBlock constructorArguments, CodeBlock convertExpression) {
+        return TypeSpec.anonymousClassBuilder(constructorArguments)
+                .addSuperinterface(ParameterizedTypeName.get(superType, pojoType))
+                .addMethod(MethodSpec.methodBuilder("convert")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PROTECTED)
+                        .returns(pojoType)
+                        .addParameter(CURSOR_TYPE, "cursor")
+                        .addStatement("return $L", convertExpression)
+                        .build())
+                .build();
+    }
 
-        classBuilder.addMethod(generateSingleRowParseMethod(typeElement, processPojo, "toSingleRow", Modifier.PUBLIC));
-        classBuilder.addMethod(generateSingleRowParseMethod(typeElement, processPojo, "parseToSingleRow", Modifier.PUBLIC, Modifier.STATIC));
+    private TypeName rowConsumerOf(ClassName pojoType) {
+        return ParameterizedTypeName.get(ROW_CONSUMER_TYPE, WildcardTypeName.supertypeOf(pojoType));
+    }
 
-        classBuilder.addMethod(generateListParseMethod(pojoType, "toList", "toSingleRow", Modifier.PUBLIC));
-        classBuilder.addMethod(generateListParseMethod(pojoType, "parseToList", "parseToSingleRow", Modifier.PUBLIC, Modifier.STATIC));
+    private MethodSpec generateReusingForEachMethod(ClassName pojoType, String methodName, String fillMethodName, Modifier... modifier) {
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addParameter(rowConsumerOf(pojoType), "consumer")
+                .addParameter(pojoType, "reusableRow")
+                .addStatement("$T columnIndices = resolveColumnIndices(cursor)", INT_ARRAY_TYPE)
+                .addCode("while (cursor.moveToNext()) {\n")
+                .addStatement("     consumer.accept($L(cursor, columnIndices, reusableRow))", fillMethodName)
+                .addCode("}\n")
+                .addJavadoc("Refills {@code reusableRow} for every row of the {@code cursor} and passes it to the {@code consumer}, \nthe consumer must not keep a reference to the row")
+                .addJavadoc("\n@param cursor to convert values from")
+                .addJavadoc("\n@param consumer receiving the refilled row")
+                .addJavadoc("\n@param reusableRow instance which is overwritten for every row")
+                .build();
+    }
 
-        classBuilder.addMethod(generateToContentValuesMethod(typeElement, processPojo, "toContentValues", Modifier.PUBLIC));
-        classBuilder.addMethod(generateToContentValuesMethod(typeElement, processPojo, "parseToContentValues", Modifier.PUBLIC, Modifier.STATIC));
+    private MethodSpec generateReusingIterableMethod(ClassName pojoType, String methodName, Modifier... modifier) {
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(ParameterizedTypeName.get(ROW_ITERATOR_TYPE, pojoType))
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addParameter(ParameterSpec.builder(pojoType, "reusableRow", Modifier.FINAL).build())
+                .addStatement("final $T columnIndices = resolveColumnIndices(cursor)", INT_ARRAY_TYPE)
+                .addCode("return $L;\n", generateRowConverter(ROW_ITERATOR_TYPE, pojoType, CodeBlock.of("cursor"), CodeBlock.of("parseFillRow(cursor, columnIndices, reusableRow)")))
+                .addJavadoc("Wraps the {@code cursor} in a single use {@code Iterable} refilling {@code reusableRow} per step, \nthe returned row is only valid until the next step")
+                .addJavadoc("\n@param cursor to convert values from, closed together with the returned {@code RowIterator}")
+                .addJavadoc("\n@param reusableRow instance which is overwritten for every row")
+                .addJavadoc("\n@returns {@code RowIterator} over the rows of {@code cursor}")
+                .build();
+    }
 
-        // Primitive Types supported by Cursor
-        addPrimitiveReadMethod(classBuilder, "readInt", TypeName.INT, "0");
-        addPrimitiveReadMethod(classBuilder, "readFloat", TypeName.FLOAT, "0");
-        addPrimitiveReadMethod(classBuilder, "readDouble", TypeName.DOUBLE, "0");
-        addPrimitiveReadMethod(classBuilder, "readShort", TypeName.SHORT, "0");
-        addPrimitiveReadMethod(classBuilder, "readLong", TypeName.LONG, "0");
-        addPrimitiveReadMethod(classBuilder, "readBoolean", TypeName.BOOLEAN, "false");
+    private MethodSpec generateForEachBatchDelegateMethod(ClassName pojoType, String methodName, Modifier... modifier) {
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addParameter(TypeName.INT, "batchSize")
+                .addParameter(ParameterizedTypeName.get(BATCH_CONSUMER_TYPE, pojoType), "consumer")
+                .addStatement("$L(cursor, batchSize, consumer, false)", methodName)
+                .addJavadoc("Converts the {@code cursor} into batches of at most {@code batchSize} rows and passes every batch to the {@code consumer}, \nonly one batch is kept in memory")
+                .addJavadoc("\n@param cursor to convert values from")
+                .addJavadoc("\n@param batchSize maximum number of rows per batch")
+                .addJavadoc("\n@param consumer receiving the batches, the batch list is reused")
+                .build();
+    }
 
+    /**
+     * For fillable pojos the method gets a {@code reuseRows} parameter to refill the same {@code batchSize} instances for every batch
+     */
+    private MethodSpec generateForEachBatchMethod(ClassName pojoType, boolean fillable, String methodName, Modifier... modifier) {
+        final TypeName listOfPojo = ParameterizedTypeName.get(LIST_TYPE, pojoType);
 
-        // Non Primitive Types and Boxed version supported by Cursor also includes blob and String
-        addNonPrimitiveReadMethod(classBuilder, "readBoxedInt", TypeName.INT);
-        addNonPrimitiveReadMethod(classBuilder, "readBoxedFloat", TypeName.FLOAT);
-        addNonPrimitiveReadMethod(classBuilder, "readBoxedDouble", TypeName.DOUBLE);
-        addNonPrimitiveReadMethod(classBuilder, "readBoxedShort", TypeName.SHORT);
-        addNonPrimitiveReadMethod(classBuilder, "readBoxedLong", TypeName.LONG);
-        addNonPrimitiveReadMethod(classBuilder, "readBoxedBoolean", TypeName.BOOLEAN);
+        final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addParameter(TypeName.INT, "batchSize")
+                .addParameter(ParameterizedTypeName.get(BATCH_CONSUMER_TYPE, pojoType), "consumer");
+        if (fillable) {
+            methodBuilder.addParameter(TypeName.BOOLEAN, "reuseRows");
+        }
 
-        addStringReadMethod(classBuilder, "readString");
-        addBlobReadMethod(classBuilder, "readBlob");
+        methodBuilder.addCode("if (batchSize <= 0) {\n")
+                .addStatement("\tthrow new $T($S + batchSize)", IllegalArgumentException.class, "batchSize has to be positive but was ")
+                .addCode("}\n")
+                .addStatement("$T columnIndices = resolveColumnIndices(cursor)", INT_ARRAY_TYPE)
+                .addStatement("$T batch = new $T<>(batchSize)", listOfPojo, ARRAY_LIST_TYPE);
+
+        if (fillable) {
+            methodBuilder.addStatement("$T[] reusableRows = reuseRows ? new $T[batchSize] : null", pojoType, pojoType)
+                    .addCode("while (cursor.moveToNext()) {\n")
+                    .addCode("\tif (reusableRows != null) {\n")
+                    .addStatement("\t\t$T index = batch.size()", TypeName.INT)
+                    .addCode("\t\tif (reusableRows[index] == null) {\n")
+                    .addStatement("\t\t\treusableRows[index] = new $T()", pojoType)
+                    .addCode("\t\t}\n")
+                    .addStatement("\t\tbatch.add(parseFillRow(cursor, columnIndices, reusableRows[index]))")
+                    .addCode("\t} else {\n")
+                    .addStatement("\t\tbatch.add(parseToSingleRow(cursor, columnIndices))")
+                    .addCode("\t}\n");
+        } else {
+            methodBuilder.addCode("while (cursor.moveToNext()) {\n")
+                    .addStatement("\tbatch.add(parseToSingleRow(cursor, columnIndices))");
+        }
 
-        try {
-            JavaFile.builder(pojoType.packageName(), classBuilder.build())
-                    .build()
-                    .writeTo(filer);
-        } catch (IOException e) {
-            e.printStackTrace();
+        methodBuilder.addCode("\tif (batch.size() == batchSize) {\n")
+                .addStatement("\t\tconsumer.accept(batch)")
+                .addStatement("\t\tbatch.clear()")
+                .addCode("\t}\n")
+                .addCode("}\n")
+                .addCode("if (!batch.isEmpty()) {\n")
+                .addStatement("\tconsumer.accept(batch)")
+                .addCode("}\n")
+                .addJavadoc("Converts the {@code cursor} into batches of at most {@code batchSize} rows and passes every batch to the {@code consumer}, \nonly one batch is kept in memory")
+                .addJavadoc("\n@param cursor to convert values from")
+                .addJavadoc("\n@param batchSize maximum number of rows per batch")
+                .addJavadoc("\n@param consumer receiving the batches, the batch list is reused");
+        if (fillable) {
+            methodBuilder.addJavadoc("\n@param reuseRows refill the same $T instances for every batch, the consumer must not keep them", pojoType);
         }
 
+        return methodBuilder.build();
     }
 
-    private MethodSpec generateToContentValuesMethod(TypeElement typeElement, ProcessPojo processPojo, String methodName, Modifier... modifier) {
-        final String parameterName = typeElement.getSimpleName().toString().toLowerCase();
-        final ClassName contentValuesClassName = ClassName.get("android.content", "ContentValues");
+    private MethodSpec generatePipelinedLoaderMethod(ClassName converterType, ClassName pojoType, String methodName, Modifier... modifier) {
+        final TypeSpec loader = TypeSpec.anonymousClassBuilder("batchSize, maxQueuedBatches")
+                .addSuperinterface(ParameterizedTypeName.get(PIPELINED_LOADER_TYPE, pojoType))
+                .addMethod(MethodSpec.methodBuilder("resolveColumnIndices")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PROTECTED)
+                        .returns(INT_ARRAY_TYPE)
+                        .addParameter(CURSOR_TYPE, "cursor")
+                        // Qualified, the method of the loader would shadow the one of the converter
+                        .addStatement("return $T.resolveColumnIndices(cursor)", converterType)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("convert")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PROTECTED)
+                        .returns(pojoType)
+                        .addParameter(CURSOR_TYPE, "cursor")
+                        .addParameter(INT_ARRAY_TYPE, "columnIndices")
+                        .addStatement("return parseToSingleRow(cursor, columnIndices)")
+                        .build())
+                .build();
 
-        final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(methodName)
+        return MethodSpec.methodBuilder(methodName)
                 .addModifiers(modifier)
-                .returns(contentValuesClassName)
-                .addParameter(ClassName.get(typeElement), parameterName)
-                .addStatement("$T contentValues = new $T()", contentValuesClassName, contentValuesClassName);
+                .returns(ParameterizedTypeName.get(PIPELINED_LOADER_TYPE, pojoType))
+                .addParameter(TypeName.INT, "batchSize")
+                .addParameter(TypeName.INT, "maxQueuedBatches")
+                .addStatement("return $L", loader)
+                .addJavadoc("Creates a loader which converts the rows of a query on an {@code Executor} into batches of $T, \nwhile the batches are consumed on the thread calling {@code drainTo}", pojoType)
+                .addJavadoc("\n@param batchSize maximum number of rows per batch")
+                .addJavadoc("\n@param maxQueuedBatches converted batches waiting for the consumer before the conversion waits")
+                .addJavadoc("\n@returns {@code PipelinedLoader} to start with the query")
+                .build();
+    }
 
-        for (VariableElement variableElement : processPojo.getAnnotatedFields()) {
-            Field field = variableElement.getAnnotation(Field.class);
-            methodBuilder.addStatement("contentValues.put($S, $L)", field.value(), parameterName + "." + variableElement.getSimpleName());
-        }
+    private MethodSpec generateLoadPipelinedMethod(ClassName pojoType, String methodName, String loaderMethodName, Modifier... modifier) {
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(TypeName.INT)
+                .addException(InterruptedException.class)
+                .addParameter(ParameterizedTypeName.get(CALLABLE_TYPE, CURSOR_TYPE), "query")
+                .addParameter(EXECUTOR_TYPE, "executor")
+                .addParameter(TypeName.INT, "batchSize")
+                .addParameter(TypeName.INT, "maxQueuedBatches")
+                .addParameter(ParameterizedTypeName.get(BATCH_CONSUMER_TYPE, pojoType), "consumer")
+                .addStatement("return $L(batchSize, maxQueuedBatches).start(query, executor).drainTo(consumer)", loaderMethodName)
+                .addJavadoc("Runs the {@code query} and converts its rows on the {@code executor} while the calling thread consumes the batches, \nat most {@code maxQueuedBatches} converted batches are kept in memory")
+                .addJavadoc("\n@param query returning the cursor, which is closed after the last row")
+                .addJavadoc("\n@param executor running the query and the conversion")
+                .addJavadoc("\n@param batchSize maximum number of rows per batch")
+                .addJavadoc("\n@param maxQueuedBatches converted batches waiting for the consumer before the conversion waits")
+                .addJavadoc("\n@param consumer receiving the batches on the calling thread")
+                .addJavadoc("\n@returns number of consumed rows")
+                .build();
+    }
 
-        for (ExecutableElement getter : processPojo.getAnnotatedGetters()) {
-            Field field = getter.getAnnotation(Field.class);
-            methodBuilder.addStatement("contentValues.put($S, $L)", field.value(), parameterName + "." + getter.getSimpleName() + "()");
-        }
+    private MethodSpec generateFillRowDelegateMethod(TypeElement typeElement, String methodName, Modifier... modifier) {
+        return MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(ClassName.get(typeElement))
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addParameter(ClassName.get(typeElement), "row")
+                .addStatement("return $L(cursor, resolveColumnIndices(cursor), row)", methodName)
+                .addJavadoc("Overwrites the values of {@code row} with the {@code cursor} in its current position, \nmake sure the cursor is in the correct position")
+                .addJavadoc("\n@param cursor to convert values from")
+                .addJavadoc("\n@param row to fill, no new $T is created", typeElement)
+                .addJavadoc("\n@returns the filled {@code row}")
+                .build();
+    }
 
-        methodBuilder.addStatement("return contentValues");
-        methodBuilder.addJavadoc("Converts the provided " + parameterName + " to ContentValues");
-        methodBuilder.addJavadoc("\n@param " + parameterName + " to convert values from");
-        methodBuilder.addJavadoc("\n@returns {@code $T} with values converted from {@code $T}", contentValuesClassName, typeElement);
+    private MethodSpec generateFillRowMethod(TypeElement typeElement, ProcessPojo processPojo, ColumnReads columnReads, String methodName, Modifier... modifier) {
+        final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(methodName)
+                .addModifiers(modifier)
+                .returns(ClassName.get(typeElement))
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addParameter(INT_ARRAY_TYPE, "columnIndices")
+                .addParameter(ClassName.get(typeElement), "row");
+
+        addSharedColumnReads(methodBuilder, columnReads, "");
+        addMemberReads(processPojo, columnReads, methodBuilder);
+
+        methodBuilder.addStatement("return row");
+        methodBuilder.addJavadoc("Overwrites the values of {@code row} with the {@code cursor} in its current position, \nmake sure the cursor is in the correct position");
+        methodBuilder.addJavadoc("\n@param cursor to convert values from");
+        methodBuilder.addJavadoc("\n@param columnIndices resolved once per cursor with {@code resolveColumnIndices}");
+        methodBuilder.addJavadoc("\n@param row to fill, no new $T is created", typeElement);
+        methodBuilder.addJavadoc("\n@returns the filled {@code row}");
 
         return methodBuilder.build();
     }
 
-    private MethodSpec generateListParseMethod(ClassName pojoType, String methodName, String singleParseMethodName, Modifier... modifier) {
-        // Add list parser
-        TypeName listOfPojo = ParameterizedTypeName.get(LIST_TYPE, pojoType);
-
+    private MethodSpec generateSingleRowDelegateMethod(TypeElement typeElement, String methodName, Modifier... modifier) {
         return MethodSpec.methodBuilder(methodName)
                 .addModifiers(modifier)
-                .returns(listOfPojo)
-                .addParameter(ClassName.get("android.database", "Cursor"), "cursor")
-                .addStatement("$T list = new $T<>()", listOfPojo, ARRAY_LIST_TYPE)
-                .addCode("while (cursor.moveToNext()) {\n")
-                .addStatement("     list.add($L(cursor))", singleParseMethodName)
-                .addCode("}\n")
-                .addStatement("return list")
-                .addJavadoc("Converts the {@code cursor} to {@code $T}, \nmake sure the cursor is in the correct initial position", listOfPojo)
+                .returns(ClassName.get(typeElement))
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addStatement("return $L(cursor, resolveColumnIndices(cursor))", methodName)
+                .addJavadoc("Converts the {@code cursor} in its current position to an $T, \nmake sure the cursor is in the correct position", typeElement)
                 .addJavadoc("\n@param cursor to convert values from")
-                .addJavadoc("\n@returns {@code $T} with values converted from {@code cursor}", listOfPojo)
+                .addJavadoc("\n@returns $T with values converted from {@code cursor}", typeElement)
                 .build();
     }
 
-    private MethodSpec generateSingleRowParseMethod(TypeElement typeElement, ProcessPojo processPojo, String methodName, Modifier... modifier) {
+    private MethodSpec generateSingleRowParseMethod(TypeElement typeElement, ProcessPojo processPojo, ColumnReads columnReads, String methodName, String fillMethodName, Modifier... modifier) {
         final MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(methodName)
                 .addModifiers(modifier)
                 .returns(ClassName.get(typeElement))
-                .addParameter(ClassName.get("android.database", "Cursor"), "cursor");
+                .addParameter(CURSOR_TYPE, "cursor")
+                .addParameter(INT_ARRAY_TYPE, "columnIndices");
 
 
         final List<ExecutableElement> annotatedConstructors = processPojo.getAnnotatedConstructors();
         if (annotatedConstructors.size() > 1) {
             throwError("Only one constructor with the @PojoCreator is allowed!");
         } else if (annotatedConstructors.size() == 1) {
-            addConstructorWithParameters(typeElement, methodBuilder, annotatedConstructors);
+            addSharedColumnReads(methodBuilder, columnReads, "");
+            addConstructorWithParameters(typeElement, methodBuilder, annotatedConstructors, columnReads);
+            addMemberReads(processPojo, columnReads, methodBuilder);
+            methodBuilder.addStatement("return row");
         } else {
-            methodBuilder.addStatement("$T row = new $T()", typeElement, typeElement);
+            methodBuilder.addStatement("return $L(cursor, columnIndices, new $T())", fillMethodName, typeElement);
         }
 
+        methodBuilder.addJavadoc("Converts the {@code cursor} in its current position to an $T, \nmake sure the cursor is in the correct position", typeElement);
+        methodBuilder.addJavadoc("\n@param cursor to convert values from");
+        methodBuilder.addJavadoc("\n@param columnIndices resolved once per cursor with {@code resolveColumnIndices}");
+        methodBuilder.addJavadoc("\n@returns $T with values converted from {@code cursor}", typeElement);
 
-        for (VariableElement variableElement : processPojo.getAnnotatedFields()) {
+        return methodBuilder.build();
+    }
 
-            checkIfTypeIsSupported(variableElement);
+    private void addMemberReads(ProcessPojo processPojo, ColumnReads columnReads, MethodSpec.Builder methodBuilder) {
+        if (columnReads.getLazyKeyIndex() >= 0 && columnReads.isStrict()) {
+            methodBuilder.addStatement("final long lazyKey = $L", readExpression(TypeName.LONG, columnReads.getLazyKeyIndex(), columnReads));
+        } else if (columnReads.getLazyKeyIndex() >= 0) {
+            // Fails instead of loading the values of key 0 if the cursor lacks the key column
+            methodBuilder.addStatement("final long lazyKey = $T.readKey(cursor, columnIndices[$L])", LAZY_COLUMN_TYPE, columnReads.getLazyKeyIndex());
+        }
 
-            if (ClassName.get(variableElement.asType()).isPrimitive()) {
-                addPrimitiveType(variableElement, methodBuilder);
-            } else {
-                addNonPrimitiveType(variableElement, methodBuilder);
+        for (VariableElement variableElement : processPojo.getAnnotatedFields()) {
+            if (isLazy(ClassName.get(variableElement.asType()))) {
+                methodBuilder.addStatement("row.$L = $L", variableElement.getSimpleName(), lazyReadExpression(variableElement));
+                continue;
             }
+            checkIfTypeIsSupported(variableElement);
+
+            final int columnIndex = columnReads.indexOf(variableElement.getAnnotation(Field.class).value());
+            methodBuilder.addStatement("row.$L = $L", variableElement.getSimpleName(), readExpression(ClassName.get(variableElement.asType()), columnIndex, columnReads));
         }
 
         for (ExecutableElement executableElement : processPojo.getAnnotatedSetters()) {
             final VariableElement setterParameter = executableElement.getParameters().get(0);
-            checkIfTypeIsSupported(setterParameter);
-
-            if (ClassName.get(setterParameter.asType()).isPrimitive()) {
-                addPrimitiveSetterType(executableElement, setterParameter, methodBuilder);
-            } else {
-                addNonPrimitiveSetterType(executableElement, setterParameter, methodBuilder);
+            if (isLazy(ClassName.get(setterParameter.asType()))) {
+                methodBuilder.addStatement("row.$L($L)", executableElement.getSimpleName(), lazyReadExpression(executableElement));
+                continue;
             }
+            checkIfTypeIsSupported(setterParameter);
 
+            final int columnIndex = columnReads.indexOf(executableElement.getAnnotation(Field.class).value());
+            methodBuilder.addStatement("row.$L($L)", executableElement.getSimpleName(), readExpression(ClassName.get(setterParameter.asType()), columnIndex, columnReads));
         }
-
-        methodBuilder.addStatement("return row");
-        methodBuilder.addJavadoc("Converts the {@code cursor} in its current position to an $T, \nmake sure the cursor is in the correct position", typeElement);
-        methodBuilder.addJavadoc("\n@param cursor to convert values from");
-        methodBuilder.addJavadoc("\n@returns $T with values converted from {@code cursor}", typeElement);
-
-        return methodBuilder.build();
     }
 
-    private void addConstructorWithParameters(TypeElement typeElement, MethodSpec.Builder methodBuilder, List<ExecutableElement> annotatedConstructors) {
+    private void addConstructorWithParameters(TypeElement typeElement, MethodSpec.Builder methodBuilder, List<ExecutableElement> annotatedConstructors, ColumnReads columnReads) {
         final ExecutableElement annotatedConstructor = annotatedConstructors.get(0);
 
         final List<? extends VariableElement> constructorParameters = annotatedConstructor.getParameters();
@@ -392,23 +2515,12 @@ public class SlimOrmProcessor extends AbstractProcessor {
         for (VariableElement parameter : constructorParameters) {
             checkIfTypeIsSupported(parameter);
 
-            String columnNameToUse = parameter.getSimpleName().toString();
-            final ColumnName columnName = parameter.getAnnotation(ColumnName.class);
-            if (columnName != null) {
-                columnNameToUse = columnName.value();
-            }
-
-            final TypeName parameterType = ClassName.get(parameter.asType());
-            if (ClassName.get(parameter.asType()).isPrimitive()) {
-                methodBuilder.addCode(mapTypeToCursorUtilReadMethod(parameterType) + "(cursor, $S)", columnNameToUse);
+            final int columnIndex = columnReads.indexOf(getColumnName(parameter));
+            if (columnIndex < 0) {
+                // Parameter outside of the projection
+                methodBuilder.addCode("$L", defaultValue(ClassName.get(parameter.asType())));
             } else {
-                if (parameterType.equals(BYTE_ARRAY_TYPE)) {
-                    methodBuilder.addCode(mapTypeToCursorUtilNonPrimitiveReadMethod(parameterType) + "(cursor, $S)", columnNameToUse);
-                } else if (parameterType.equals(STRING_TYPE)) {
-                    methodBuilder.addCode(mapTypeToCursorUtilNonPrimitiveReadMethod(parameterType) + "(cursor, $S)", columnNameToUse);
-                } else {
-                    methodBuilder.addCode(mapTypeToCursorUtilNonPrimitiveReadMethod(parameterType.unbox()) + "(cursor, $S)", columnNameToUse);
-                }
+                methodBuilder.addCode("$L", readExpression(ClassName.get(parameter.asType()), columnIndex, columnReads));
             }
 
             if (!isLastElement(constructorParameters, parameter)) {
@@ -420,6 +2532,17 @@ public class SlimOrmProcessor extends AbstractProcessor {
         methodBuilder.addCode(");\n");
     }
 
+    private CodeBlock defaultValue(TypeName typeName) {
+        if (typeName == TypeName.BOOLEAN) {
+            return CodeBlock.of("false");
+        } else if (typeName == TypeName.SHORT) {
+            return CodeBlock.of("($T) 0", TypeName.SHORT);
+        } else if (typeName.isPrimitive()) {
+            return CodeBlock.of("0");
+        }
+        return CodeBlock.of("null");
+    }
+
     private boolean isLastElement(List<? extends VariableElement> constructorParameters, VariableElement currentElement) {
         return constructorParameters.indexOf(currentElement) == constructorParameters.size() - 1;
     }
@@ -444,50 +2567,10 @@ public class SlimOrmProcessor extends AbstractProcessor {
         throw new UnsupportedOperationException(message);
     }
 
-    private void addNonPrimitiveType(VariableElement element, MethodSpec.Builder methodBuilder) {
-
-        Field field = element.getAnnotation(Field.class);
-        final TypeName typeOfCurrentElement = ClassName.get(element.asType());
-
-        if (typeOfCurrentElement.equals(BYTE_ARRAY_TYPE)) {
-            methodBuilder.addStatement("row.$L = " + mapTypeToCursorUtilNonPrimitiveReadMethod(typeOfCurrentElement) + "(cursor, $S)", element.getSimpleName(), field.value());
-        } else if (typeOfCurrentElement.equals(STRING_TYPE)) {
-            methodBuilder.addStatement("row.$L = " + mapTypeToCursorUtilNonPrimitiveReadMethod(typeOfCurrentElement) + "(cursor, $S)", element.getSimpleName(), field.value());
-        } else {
-            methodBuilder.addStatement("row.$L = " + mapTypeToCursorUtilNonPrimitiveReadMethod(typeOfCurrentElement.unbox()) + "(cursor, $S)", element.getSimpleName(), field.value());
-        }
-    }
-
-    private void addNonPrimitiveSetterType(ExecutableElement setterElement, VariableElement parameterElement, MethodSpec.Builder methodBuilder) {
-
-        Field field = setterElement.getAnnotation(Field.class);
-        final TypeName typeOfCurrentElement = ClassName.get(parameterElement.asType());
-
-        if (typeOfCurrentElement.equals(BYTE_ARRAY_TYPE)) {
-            methodBuilder.addStatement("row.$L( " + mapTypeToCursorUtilNonPrimitiveReadMethod(typeOfCurrentElement) + "(cursor, $S))", setterElement.getSimpleName(), field.value());
-        } else if (typeOfCurrentElement.equals(STRING_TYPE)) {
-            methodBuilder.addStatement("row.$L( " + mapTypeToCursorUtilNonPrimitiveReadMethod(typeOfCurrentElement) + "(cursor, $S))", setterElement.getSimpleName(), field.value());
-        } else {
-            methodBuilder.addStatement("row.$L( " + mapTypeToCursorUtilNonPrimitiveReadMethod(typeOfCurrentElement.unbox()) + "(cursor, $S))", setterElement.getSimpleName(), field.value());
-        }
-    }
-
     private String capitalize(String value) {
         return value.substring(0, 1).toUpperCase() + value.substring(1);
     }
 
-    private void addPrimitiveType(VariableElement element, MethodSpec.Builder methodBuilder) {
-        Field field = element.getAnnotation(Field.class);
-        final TypeName typeName = ClassName.get(element.asType());
-        methodBuilder.addStatement("row.$L = " + mapTypeToCursorUtilReadMethod(typeName) + "(cursor, $S)", element.getSimpleName(), field.value());
-    }
-
-    private void addPrimitiveSetterType(ExecutableElement setterElement, VariableElement parameterElement, MethodSpec.Builder methodBuilder) {
-        Field field = setterElement.getAnnotation(Field.class);
-        final TypeName typeName = ClassName.get(parameterElement.asType());
-        methodBuilder.addStatement("row.$L(" + mapTypeToCursorUtilReadMethod(typeName) + "(cursor, $S))", setterElement.getSimpleName(), field.value());
-    }
-
     private String mapTypeToCursorUtilReadMethod(TypeName typeName) {
         if (typeName == TypeName.BOOLEAN) {
             return "readBoolean";
@@ -526,6 +2609,24 @@ public class SlimOrmProcessor extends AbstractProcessor {
         return "";
     }
 
+    private String mapTypeToStatementBindMethod(TypeName typeName) {
+        if (typeName == TypeName.FLOAT || typeName == TypeName.DOUBLE) {
+            return "bindDouble";
+        } else if (typeName.equals(BYTE_ARRAY_TYPE)) {
+            return "bindBlob";
+        } else if (typeName.equals(STRING_TYPE)) {
+            return "bindString";
+        }
+        return "bindLong";
+    }
+
+    private String mapTypeToStatementBindValue(TypeName typeName, String value) {
+        if (typeName == TypeName.BOOLEAN) {
+            return value + " ? 1 : 0";
+        }
+        return value;
+    }
+
     private String mapTypeToCursorGetMethod(TypeName typeName) {
         if (typeName == TypeName.BOOLEAN) {
             return "getInt";
@@ -539,6 +2640,10 @@ public class SlimOrmProcessor extends AbstractProcessor {
             return "getFloat";
         } else if (typeName == TypeName.DOUBLE) {
             return "getDouble";
+        } else if (typeName.equals(BYTE_ARRAY_TYPE)) {
+            return "getBlob";
+        } else if (typeName.equals(STRING_TYPE)) {
+            return "getString";
         }
         return "";
     }
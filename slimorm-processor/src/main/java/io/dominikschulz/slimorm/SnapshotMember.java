@@ -0,0 +1,44 @@
+package io.dominikschulz.slimorm;
+
+
+import com.squareup.javapoet.TypeName;
+
+/**
+ * A member encoded by the snapshot codec, read from the row through {@code accessor}
+ * and restored through {@code target}, which is null for constructor parameters
+ */
+public class SnapshotMember {
+    private final TypeName typeName;
+    private final String accessor;
+    private final String target;
+    private final boolean setter;
+
+    public SnapshotMember(TypeName typeName, String accessor, String target, boolean setter) {
+        this.typeName = typeName;
+        this.accessor = accessor;
+        this.target = target;
+        this.setter = setter;
+    }
+
+    public TypeName getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * @return expression reading the value from {@code row}, e.g. {@code row.getName()}
+     */
+    public String getAccessor() {
+        return accessor;
+    }
+
+    /**
+     * @return field or setter restoring the value, null if the value is passed to the constructor
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    public boolean isSetter() {
+        return setter;
+    }
+}
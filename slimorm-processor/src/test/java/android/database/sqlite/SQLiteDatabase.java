@@ -0,0 +1,110 @@
+package android.database.sqlite;
+
+import android.database.Cursor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * JVM stand-in for the Android class whose stub only throws, it records the executed statements
+ * and answers queries with the {@link Responder} of the test
+ */
+public final class SQLiteDatabase {
+
+    /**
+     * Answers the queries of the code under test
+     */
+    public interface Responder {
+        Cursor rawQuery(String sql, String[] selectionArgs);
+
+        String simpleQueryForString(String sql, Object[] bindArgs);
+    }
+
+    private final List<String> executions = new ArrayList<>();
+    // Marked successful per nesting level, like the framework an unsuccessful level rolls back the outermost one
+    private final Deque<Boolean> transactions = new ArrayDeque<>();
+    private boolean childFailed;
+    private Responder responder;
+    private long lastInsertRowId;
+
+    public void setResponder(Responder responder) {
+        this.responder = responder;
+    }
+
+    /**
+     * @return the executed statements with their bound arguments, queries and the outermost BEGIN, COMMIT and ROLLBACK
+     */
+    public List<String> getExecutions() {
+        return executions;
+    }
+
+    public SQLiteStatement compileStatement(String sql) {
+        return new SQLiteStatement(this, sql);
+    }
+
+    public void execSQL(String sql) {
+        executions.add(sql);
+    }
+
+    public Cursor rawQuery(String sql, String[] selectionArgs) {
+        executions.add(sql + " " + Arrays.toString(selectionArgs));
+        return requireResponder().rawQuery(sql, selectionArgs);
+    }
+
+    public int delete(String table, String whereClause, String[] whereArgs) {
+        executions.add("DELETE FROM " + table + (whereClause != null ? " WHERE " + whereClause : "") + " " + Arrays.toString(whereArgs));
+        return 0;
+    }
+
+    public void beginTransaction() {
+        if (transactions.isEmpty()) {
+            executions.add("BEGIN");
+            childFailed = false;
+        }
+        transactions.push(false);
+    }
+
+    public void setTransactionSuccessful() {
+        if (transactions.isEmpty()) {
+            throw new IllegalStateException("no transaction pending");
+        }
+        transactions.pop();
+        transactions.push(true);
+    }
+
+    public void endTransaction() {
+        if (transactions.isEmpty()) {
+            throw new IllegalStateException("no transaction pending");
+        }
+        if (!transactions.pop()) {
+            childFailed = true;
+        }
+        if (transactions.isEmpty()) {
+            executions.add(childFailed ? "ROLLBACK" : "COMMIT");
+        }
+    }
+
+    public boolean inTransaction() {
+        return !transactions.isEmpty();
+    }
+
+    long execute(String sql, Object[] bindArgs) {
+        executions.add(sql + " " + Arrays.deepToString(bindArgs));
+        return ++lastInsertRowId;
+    }
+
+    String simpleQueryForString(String sql, Object[] bindArgs) {
+        executions.add(sql + " " + Arrays.deepToString(bindArgs));
+        return requireResponder().simpleQueryForString(sql, bindArgs);
+    }
+
+    private Responder requireResponder() {
+        if (responder == null) {
+            throw new IllegalStateException("no responder for queries");
+        }
+        return responder;
+    }
+}
@@ -0,0 +1,102 @@
+package android.database.sqlite;
+
+/**
+ * JVM stand-in for the Android class whose stub only throws, the bound arguments are kept between executions
+ * like the framework does and recorded by the {@link SQLiteDatabase} on every execution
+ */
+public final class SQLiteStatement {
+    private final SQLiteDatabase db;
+    private final String sql;
+    private final Object[] bindArgs;
+    private boolean closed;
+
+    SQLiteStatement(SQLiteDatabase db, String sql) {
+        this.db = db;
+        this.sql = sql;
+
+        int parameterCount = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            if (sql.charAt(i) == '?') {
+                parameterCount++;
+            }
+        }
+        bindArgs = new Object[parameterCount];
+    }
+
+    public void bindNull(int index) {
+        bind(index, null);
+    }
+
+    public void bindLong(int index, long value) {
+        bind(index, value);
+    }
+
+    public void bindDouble(int index, double value) {
+        bind(index, value);
+    }
+
+    public void bindString(int index, String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("the bind value at index " + index + " is null");
+        }
+        bind(index, value);
+    }
+
+    public void bindBlob(int index, byte[] value) {
+        if (value == null) {
+            throw new IllegalArgumentException("the bind value at index " + index + " is null");
+        }
+        bind(index, value);
+    }
+
+    public void clearBindings() {
+        for (int i = 0; i < bindArgs.length; i++) {
+            bindArgs[i] = null;
+        }
+    }
+
+    public void execute() {
+        db.execute(sql, requireOpen());
+    }
+
+    public long executeInsert() {
+        return db.execute(sql, requireOpen());
+    }
+
+    public int executeUpdateDelete() {
+        db.execute(sql, requireOpen());
+        return 1;
+    }
+
+    public String simpleQueryForString() {
+        return db.simpleQueryForString(sql, requireOpen());
+    }
+
+    public void close() {
+        closed = true;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public String toString() {
+        return "SQLiteProgram: " + sql;
+    }
+
+    private void bind(int index, Object value) {
+        if (index < 1 || index > bindArgs.length) {
+            throw new IllegalArgumentException("Cannot bind argument at index " + index
+                    + " because the index is out of range. The statement has " + bindArgs.length + " parameters.");
+        }
+        bindArgs[index - 1] = value;
+    }
+
+    private Object[] requireOpen() {
+        if (closed) {
+            throw new IllegalStateException("the statement is closed: " + sql);
+        }
+        return bindArgs.clone();
+    }
+}
@@ -0,0 +1,72 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static io.dominikschulz.slimorm.SampleCompiler.call;
+import static io.dominikschulz.slimorm.SampleCompiler.field;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Resolves the column indices once per cursor and converts the rows with them
+ */
+public class ColumnIndicesTest extends SamplePojoFixture {
+
+    public ColumnIndicesTest() {
+        super(SamplePojo.CITY);
+    }
+
+    @Test
+    public void indicesFollowTheMembersInAnyCursorOrder() throws Throwable {
+        final ArrayCursor cursor = new ArrayCursor(new String[]{"area", "population", "unrelated", "name", "id"}, new Object[0][]);
+
+        assertArrayEquals(new int[]{4, 3, 1, 0}, (int[]) call(converterType, "resolveColumnIndices", cursor));
+    }
+
+    @Test
+    public void listLooksUpEveryColumnOnce() throws Throwable {
+        final ArrayCursor cursor = new ArrayCursor(new String[]{"id", "name", "population", "area"}, new Object[][]{
+                {1L, "Berlin", 3645000, 891.7},
+                {2L, "Hamburg", 1841000, 755.2},
+                {3L, "Bremen", 567000, null}});
+
+        final List<?> cities = (List<?>) call(converterType, "parseToList", cursor);
+
+        assertEquals(3, cities.size());
+        assertEquals(4, cursor.getColumnLookups());
+        assertEquals("Hamburg", field(cities.get(1), "name"));
+        assertEquals(1841000, field(cities.get(1), "population"));
+        assertEquals(755.2, field(cities.get(1), "area"));
+        assertNull(field(cities.get(2), "area"));
+    }
+
+    @Test
+    public void resolvedIndicesAreReusedForSingleRows() throws Throwable {
+        final ArrayCursor cursor = new ArrayCursor(new String[]{"name", "id"}, new Object[][]{{"Berlin", 1L}, {"Hamburg", 2L}});
+        final int[] columnIndices = (int[]) call(converterType, "resolveColumnIndices", cursor);
+
+        cursor.moveToFirst();
+        final Object first = call(converterType, "parseToSingleRow", cursor, columnIndices);
+        cursor.moveToNext();
+        final Object second = call(converterType, "parseToSingleRow", cursor, columnIndices);
+
+        assertEquals(4, cursor.getColumnLookups());
+        assertEquals("Berlin", field(first, "name"));
+        assertEquals(2L, field(second, "id"));
+    }
+
+    @Test
+    public void missingColumnsKeepTheirDefaults() throws Throwable {
+        final ArrayCursor cursor = new ArrayCursor(new String[]{"id"}, new Object[][]{{5L}});
+
+        final List<?> cities = (List<?>) call(converterType, "parseToList", cursor);
+
+        assertEquals(5L, field(cities.get(0), "id"));
+        assertNull(field(cities.get(0), "name"));
+        assertEquals(0, field(cities.get(0), "population"));
+        assertNull(field(cities.get(0), "area"));
+    }
+}
@@ -0,0 +1,94 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Test;
+
+import static io.dominikschulz.slimorm.SampleCompiler.call;
+import static io.dominikschulz.slimorm.SampleCompiler.field;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Converts the remaining rows into one array per member with {@code parseToColumns}
+ */
+public class ColumnarTest extends SamplePojoFixture {
+
+    public ColumnarTest() {
+        super(SamplePojo.CITY);
+    }
+
+    @Test
+    public void membersAreReadIntoPrimitiveArrays() throws Throwable {
+        final ArrayCursor cursor = new ArrayCursor(new String[]{"id", "name", "population", "area"}, new Object[][]{
+                {1L, "Berlin", 3645000, 891.7},
+                {2L, "Hamburg", 1841000, null},
+                {3L, null, 0, 0.0}});
+
+        final Object columns = call(converterType, "parseToColumns", cursor);
+
+        assertEquals(3, field(columns, "size"));
+        assertArrayEquals(new long[]{1L, 2L, 3L}, (long[]) field(columns, "id"));
+        assertArrayEquals(new String[]{"Berlin", "Hamburg", null}, (String[]) field(columns, "name"));
+        assertArrayEquals(new int[]{3645000, 1841000, 0}, (int[]) field(columns, "population"));
+        assertArrayEquals(new double[]{891.7, 0, 0}, (double[]) field(columns, "area"), 0);
+        assertFalse(isAreaNull(columns, 0));
+        assertTrue(isAreaNull(columns, 1));
+        // A stored zero is not NULL
+        assertFalse(isAreaNull(columns, 2));
+    }
+
+    @Test
+    public void nullBitmapSpansSeveralWords() throws Throwable {
+        final Object[][] rows = new Object[150][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[]{(long) i, i % 3 == 0 ? null : (double) i};
+        }
+
+        final Object columns = call(converterType, "parseToColumns", new ArrayCursor(new String[]{"id", "area"}, rows));
+
+        assertEquals(3, ((long[]) field(columns, "areaNulls")).length);
+        final double[] areas = (double[]) field(columns, "area");
+        for (int i = 0; i < rows.length; i++) {
+            assertEquals(i % 3 == 0, isAreaNull(columns, i));
+            assertEquals(i % 3 == 0 ? 0 : i, areas[i], 0);
+        }
+    }
+
+    @Test
+    public void onlyTheRemainingRowsAreConverted() throws Throwable {
+        final ArrayCursor cursor = new ArrayCursor(new String[]{"id"}, new Object[][]{{1L}, {2L}, {3L}, {4L}});
+        cursor.moveToPosition(1);
+
+        final Object columns = call(converterType, "parseToColumns", cursor);
+
+        assertEquals(2, field(columns, "size"));
+        assertArrayEquals(new long[]{3L, 4L}, (long[]) field(columns, "id"));
+    }
+
+    @Test
+    public void emptyCursorHasEmptyColumns() throws Throwable {
+        final Object columns = call(converterType, "parseToColumns", new ArrayCursor(new String[]{"id"}, new Object[0][]));
+
+        assertEquals(0, field(columns, "size"));
+        assertEquals(0, ((long[]) field(columns, "id")).length);
+        assertEquals(0, ((long[]) field(columns, "areaNulls")).length);
+    }
+
+    @Test
+    public void fullyReadCursorHasEmptyColumns() throws Throwable {
+        final ArrayCursor cursor = new ArrayCursor(new String[]{"id"}, new Object[][]{{1L}, {2L}});
+        while (cursor.moveToNext()) {
+            call(converterType, "parseToSingleRow", cursor);
+        }
+
+        final Object columns = call(converterType, "parseToColumns", cursor);
+
+        assertEquals(0, field(columns, "size"));
+        assertEquals(0, ((long[]) field(columns, "id")).length);
+    }
+
+    private static boolean isAreaNull(Object columns, int row) throws Exception {
+        return (Boolean) columns.getClass().getMethod("isAreaNull", int.class).invoke(columns, row);
+    }
+}
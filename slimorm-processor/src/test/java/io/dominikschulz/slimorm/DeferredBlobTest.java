@@ -0,0 +1,103 @@
+package io.dominikschulz.slimorm;
+
+import android.content.ContentValues;
+import android.database.sqlite.SQLiteDatabase;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static io.dominikschulz.slimorm.SampleCompiler.call;
+import static io.dominikschulz.slimorm.SampleCompiler.field;
+import static io.dominikschulz.slimorm.SampleCompiler.get;
+import static io.dominikschulz.slimorm.SampleCompiler.newRow;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Reads and writes a POJO with a {@link DeferredBlob}, the blob is neither read nor overwritten with NULL
+ */
+public class DeferredBlobTest extends SamplePojoFixture {
+
+    public DeferredBlobTest() {
+        super(SamplePojo.PHOTO);
+    }
+
+    @Test
+    public void blobIsNotRead() throws Throwable {
+        final ArrayCursor cursor = new ArrayCursor(new String[]{"id", "caption", "image"}, new Object[][]{{1L, "beach", new byte[]{1}}});
+        cursor.moveToFirst();
+
+        final Object photo = call(converterType, "parseToSingleRow", cursor);
+
+        assertEquals("beach", field(photo, "caption"));
+        assertNull(field(photo, "image"));
+        assertEquals(0, cursor.getReads("image"));
+        assertArrayEquals(new String[]{"id", "caption"}, (String[]) get(converterType, "PROJECTION_READ"));
+    }
+
+    @Test
+    public void convertedRowsKeepTheStoredBlob() throws Throwable {
+        final ContentValues contentValues = (ContentValues) call(converterType, "parseToContentValues",
+                newRow(pojoType, "id", 1L, "caption", "beach"));
+
+        assertFalse(contentValues.containsKey("image"));
+        assertEquals("beach", contentValues.get("caption"));
+    }
+
+    @Test
+    public void assignedBlobIsWritten() throws Throwable {
+        final ContentValues contentValues = (ContentValues) call(converterType, "parseToContentValues",
+                newRow(pojoType, "id", 1L, "image", new byte[]{7}));
+
+        assertArrayEquals(new byte[]{7}, (byte[]) contentValues.get("image"));
+    }
+
+    @Test
+    public void diffUpdateOfConvertedRowsLeavesTheBlobOut() throws Throwable {
+        final SQLiteDatabase db = new SQLiteDatabase();
+
+        call(converterType, "parseDiffUpdate", db, "photo", newRow(pojoType, "id", 1L, "caption", "beach"),
+                newRow(pojoType, "id", 1L, "caption", "dunes"), "id = ?", new String[]{"1"});
+
+        assertEquals(Collections.singletonList("UPDATE photo SET caption = ? WHERE id = ? [dunes, 1]"), db.getExecutions());
+    }
+
+    @Test
+    public void diffUpdateWritesANewBlob() throws Throwable {
+        final SQLiteDatabase db = new SQLiteDatabase();
+
+        call(converterType, "parseDiffUpdate", db, "photo", newRow(pojoType, "id", 1L),
+                newRow(pojoType, "id", 1L, "image", new byte[]{7}), "id = ?", new String[]{"1"});
+
+        assertEquals(Collections.singletonList("UPDATE photo SET image = ? WHERE id = ? [[7], 1]"), db.getExecutions());
+    }
+
+    @Test
+    public void diffToContentValuesNeverClearsTheBlob() throws Throwable {
+        final ContentValues contentValues = (ContentValues) call(converterType, "parseDiffToContentValues",
+                newRow(pojoType, "id", 1L, "image", new byte[]{7}), newRow(pojoType, "id", 1L));
+
+        assertEquals(0, contentValues.size());
+    }
+
+    @Test
+    public void newRowsAreInsertedWithTheirBlob() throws Throwable {
+        final SQLiteDatabase db = new SQLiteDatabase();
+
+        call(converterType, "parseInsertAll", db, "photo", Arrays.asList(newRow(pojoType, "id", 1L, "image", new byte[]{7})));
+
+        assertEquals("INSERT INTO photo (id, caption, image) VALUES (?, ?, ?) [1, null, [7]]", db.getExecutions().get(1));
+    }
+
+    @Test
+    public void blobStatementSelectsTheColumnByKey() throws Throwable {
+        final Object statement = call(converterType, "compileImageStatement", new SQLiteDatabase(), "photo");
+
+        assertTrue(statement.toString(), statement.toString().endsWith("SELECT image FROM photo WHERE id = ?"));
+    }
+}
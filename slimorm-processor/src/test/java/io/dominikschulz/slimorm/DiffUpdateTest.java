@@ -0,0 +1,79 @@
+package io.dominikschulz.slimorm;
+
+import android.content.ContentValues;
+import android.database.sqlite.SQLiteDatabase;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static io.dominikschulz.slimorm.SampleCompiler.call;
+import static io.dominikschulz.slimorm.SampleCompiler.newRow;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Writes only the changed columns with {@code parseDiffToContentValues} and {@code parseDiffUpdate}
+ */
+public class DiffUpdateTest extends SamplePojoFixture {
+
+    private static final String[] WHERE_ARGS = {"5"};
+
+    private final SQLiteDatabase db = new SQLiteDatabase();
+
+    public DiffUpdateTest() {
+        super(SamplePojo.PERSON);
+    }
+
+    @Test
+    public void unchangedRowIsNotWritten() throws Throwable {
+        // Equal boxed values are unchanged even if they are different instances
+        final Object before = newRow(pojoType, "id", 5L, "name", "Ada", "age", Integer.valueOf(1000), "active", true);
+        final Object after = newRow(pojoType, "id", 5L, "name", new String("Ada"), "age", Integer.valueOf(1000), "active", true);
+
+        assertEquals(0, call(converterType, "parseDiffUpdate", db, "person", before, after, "id = ?", WHERE_ARGS));
+        assertEquals(Collections.emptyList(), db.getExecutions());
+        assertEquals(0, ((ContentValues) call(converterType, "parseDiffToContentValues", before, after)).size());
+    }
+
+    @Test
+    public void onlyChangedColumnsAreUpdated() throws Throwable {
+        final Object before = newRow(pojoType, "id", 5L, "name", "Ada", "age", 36, "active", false);
+        final Object after = newRow(pojoType, "id", 5L, "name", "Ada Lovelace", "age", 36, "active", true);
+
+        assertEquals(1, call(converterType, "parseDiffUpdate", db, "person", before, after, "id = ?", WHERE_ARGS));
+        assertEquals(Arrays.asList("UPDATE person SET name = ?, active = ? WHERE id = ? [Ada Lovelace, 1, 5]"), db.getExecutions());
+
+        final ContentValues contentValues = (ContentValues) call(converterType, "parseDiffToContentValues", before, after);
+        assertEquals(2, contentValues.size());
+        assertEquals("Ada Lovelace", contentValues.get("name"));
+        assertEquals(true, contentValues.get("active"));
+    }
+
+    @Test
+    public void changesFromAndToNullAreWritten() throws Throwable {
+        final Object before = newRow(pojoType, "id", 5L, "name", "Ada");
+        final Object after = newRow(pojoType, "id", 5L, "age", 36);
+
+        call(converterType, "parseDiffUpdate", db, "person", before, after, "id = ?", WHERE_ARGS);
+        assertEquals(Arrays.asList("UPDATE person SET name = ?, age = ? WHERE id = ? [null, 36, 5]"), db.getExecutions());
+
+        final ContentValues contentValues = (ContentValues) call(converterType, "parseDiffToContentValues", before, after);
+        assertEquals(2, contentValues.size());
+        assertTrue(contentValues.containsKey("name"));
+        assertNull(contentValues.get("name"));
+        assertEquals(36, contentValues.get("age"));
+    }
+
+    @Test
+    public void updateWithoutWhereClauseWritesEveryRow() throws Throwable {
+        final Object before = newRow(pojoType, "id", 5L, "active", true);
+        final Object after = newRow(pojoType, "id", 5L, "active", false);
+
+        call(converterType, "parseDiffUpdate", db, "person", before, after, null, null);
+
+        assertEquals(Arrays.asList("UPDATE person SET active = ? [0]"), db.getExecutions());
+    }
+}
@@ -0,0 +1,98 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.dominikschulz.slimorm.SampleCompiler.call;
+import static io.dominikschulz.slimorm.SampleCompiler.field;
+import static io.dominikschulz.slimorm.SampleCompiler.newRow;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Refills one instance per row with {@code parseFillRow} and the reusing scans
+ */
+public class FillRowTest extends SamplePojoFixture {
+
+    private ArrayCursor cursor;
+
+    public FillRowTest() {
+        super(SamplePojo.CITY);
+    }
+
+    @Before
+    public void setUp() {
+        cursor = new ArrayCursor(new String[]{"id", "name", "population", "area"}, new Object[][]{
+                {1L, "Berlin", 3645000, 891.7},
+                {2L, null, 0, null}});
+    }
+
+    @Test
+    public void fillRowOverwritesEveryMember() throws Throwable {
+        final Object row = newRow(pojoType, "id", 9L, "name", "old", "population", 5, "area", 1.0);
+
+        cursor.moveToFirst();
+        assertSame(row, call(converterType, "parseFillRow", cursor, row));
+        assertEquals(1L, field(row, "id"));
+        assertEquals("Berlin", field(row, "name"));
+        assertEquals(3645000, field(row, "population"));
+        assertEquals(891.7, field(row, "area"));
+
+        // NULL values overwrite the values of the previous row as well
+        cursor.moveToNext();
+        call(converterType, "parseFillRow", cursor, row);
+        assertEquals(2L, field(row, "id"));
+        assertNull(field(row, "name"));
+        assertEquals(0, field(row, "population"));
+        assertNull(field(row, "area"));
+    }
+
+    @Test
+    public void forEachPassesTheReusedRow() throws Throwable {
+        final Object reusableRow = newRow(pojoType);
+        final List<Object> rows = new ArrayList<>();
+        final List<Object> ids = new ArrayList<>();
+
+        call(converterType, "parseForEach", cursor, new RowConsumer<Object>() {
+            @Override
+            public void accept(Object row) {
+                rows.add(row);
+                try {
+                    ids.add(field(row, "id"));
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            }
+        }, reusableRow);
+
+        assertEquals(Arrays.asList(reusableRow, reusableRow), rows);
+        assertEquals(Arrays.<Object>asList(1L, 2L), ids);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void iterableRefillsTheReusedRow() throws Throwable {
+        final Object reusableRow = newRow(pojoType);
+        final RowIterator<Object> rows = (RowIterator<Object>) call(converterType, "parseToIterable", cursor, reusableRow);
+
+        assertSame(reusableRow, rows.next());
+        assertEquals("Berlin", field(reusableRow, "name"));
+        assertSame(reusableRow, rows.next());
+        assertNull(field(reusableRow, "name"));
+        assertFalse(rows.hasNext());
+    }
+
+    @Test
+    public void constructorPojosCanNotBeRefilled() throws Exception {
+        for (Method method : compiler.compileConverter(SamplePojo.LABEL).getDeclaredMethods()) {
+            assertFalse(method.getName(), method.getName().equals("parseFillRow") || method.getName().equals("fillRow"));
+        }
+    }
+}
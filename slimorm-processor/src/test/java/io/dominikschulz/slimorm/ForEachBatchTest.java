@@ -0,0 +1,104 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.dominikschulz.slimorm.SampleCompiler.call;
+import static io.dominikschulz.slimorm.SampleCompiler.field;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Passes the converted rows in batches with {@code parseForEachBatch}, optionally refilling the rows of the first batch
+ */
+public class ForEachBatchTest extends SamplePojoFixture {
+
+    private ArrayCursor cursor;
+
+    public ForEachBatchTest() {
+        super(SamplePojo.NOTE);
+    }
+
+    @Before
+    public void setUp() {
+        cursor = new ArrayCursor(new String[]{"id"}, new Object[][]{{1L}, {2L}, {3L}, {4L}, {5L}});
+    }
+
+    @Test
+    public void rowsArePassedInBatchesOfTheBatchSize() throws Throwable {
+        final RecordingConsumer consumer = new RecordingConsumer();
+
+        call(converterType, "parseForEachBatch", cursor, 2, consumer);
+
+        assertEquals(Arrays.asList(Arrays.<Object>asList(1L, 2L), Arrays.<Object>asList(3L, 4L), Arrays.<Object>asList(5L)), consumer.ids);
+        // The list is cleared and passed again
+        assertSame(consumer.batches.get(0), consumer.batches.get(2));
+    }
+
+    @Test
+    public void newRowsAreCreatedWithoutReuse() throws Throwable {
+        final RecordingConsumer consumer = new RecordingConsumer();
+
+        call(converterType, "parseForEachBatch", cursor, 2, consumer, false);
+
+        assertNotSame(consumer.rows.get(0), consumer.rows.get(2));
+        assertEquals(1L, field(consumer.rows.get(0), "id"));
+    }
+
+    @Test
+    public void reusedRowsAreRefilledForEveryBatch() throws Throwable {
+        final RecordingConsumer consumer = new RecordingConsumer();
+
+        call(converterType, "parseForEachBatch", cursor, 2, consumer, true);
+
+        assertEquals(Arrays.asList(Arrays.<Object>asList(1L, 2L), Arrays.<Object>asList(3L, 4L), Arrays.<Object>asList(5L)), consumer.ids);
+        assertSame(consumer.rows.get(0), consumer.rows.get(2));
+        assertSame(consumer.rows.get(1), consumer.rows.get(3));
+        assertSame(consumer.rows.get(0), consumer.rows.get(4));
+        assertNotSame(consumer.rows.get(0), consumer.rows.get(1));
+    }
+
+    @Test
+    public void emptyCursorPassesNoBatch() throws Throwable {
+        final RecordingConsumer consumer = new RecordingConsumer();
+
+        call(converterType, "parseForEachBatch", new ArrayCursor(new String[]{"id"}, new Object[0][]), 2, consumer);
+
+        assertTrue(consumer.batches.isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void batchSizeHasToBePositive() throws Throwable {
+        call(converterType, "parseForEachBatch", cursor, 0, new RecordingConsumer());
+    }
+
+    /**
+     * Records every passed list, its rows and their ids at the time of the call
+     */
+    private static final class RecordingConsumer implements BatchConsumer<Object> {
+        final List<List<Object>> batches = new ArrayList<>();
+        final List<Object> rows = new ArrayList<>();
+        final List<List<Object>> ids = new ArrayList<>();
+
+        @Override
+        public void accept(List<Object> batch) {
+            batches.add(batch);
+            rows.addAll(batch);
+            final List<Object> batchIds = new ArrayList<>();
+            try {
+                for (Object row : batch) {
+                    batchIds.add(field(row, "id"));
+                }
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+            ids.add(batchIds);
+        }
+    }
+}
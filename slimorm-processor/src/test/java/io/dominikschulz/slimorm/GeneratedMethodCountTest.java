@@ -0,0 +1,50 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compiles sample POJOs with the {@link SlimOrmProcessor} and counts the methods of the generated converters
+ */
+public class GeneratedMethodCountTest {
+
+    /**
+     * Methods declared by a converter of a fillable POJO, update when the converter API grows
+     */
+    private static final int METHOD_BUDGET = 55;
+
+    @Rule
+    public final SampleCompiler compiler = new SampleCompiler();
+
+    @Test
+    public void convertersDoNotDeclareReadHelpers() throws Exception {
+        for (Method method : compiler.compileConverter(SamplePojo.WIDE).getDeclaredMethods()) {
+            assertFalse(method.getName(), method.getName().startsWith("read"));
+        }
+    }
+
+    @Test
+    public void methodCountDoesNotGrowWithMemberTypes() throws Exception {
+        final int cityCount = countMethods(compiler.compileConverter(SamplePojo.CITY));
+        final int wideCount = countMethods(compiler.compileConverter(SamplePojo.WIDE));
+
+        assertEquals(cityCount, wideCount);
+        assertTrue("converter declares " + wideCount + " methods", wideCount <= METHOD_BUDGET);
+    }
+
+    private static int countMethods(Class<?> converterClass) {
+        int count = 0;
+        for (Method method : converterClass.getDeclaredMethods()) {
+            if (!method.isSynthetic()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
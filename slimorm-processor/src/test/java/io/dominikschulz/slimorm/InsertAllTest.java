@@ -0,0 +1,149 @@
+package io.dominikschulz.slimorm;
+
+import android.content.ContentValues;
+import android.database.sqlite.SQLiteDatabase;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static io.dominikschulz.slimorm.SampleCompiler.call;
+import static io.dominikschulz.slimorm.SampleCompiler.newRow;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+/**
+ * Inserts rows with the generated {@code bindTo} and {@code insertAll} into a recording {@link SQLiteDatabase}
+ */
+public class InsertAllTest extends SamplePojoFixture {
+
+    public InsertAllTest() {
+        super(SamplePojo.PERSON);
+    }
+
+    @Test
+    public void newRowsAreInsertedWithoutKeys() throws Throwable {
+        final SQLiteDatabase db = new SQLiteDatabase();
+
+        final Object inserted = call(converterType, "parseInsertAll", db, "person", Arrays.asList(
+                newRow(pojoType, "name", "first", "age", 3),
+                newRow(pojoType, "name", "second")));
+
+        assertEquals(2, inserted);
+        assertEquals(Arrays.asList(
+                "BEGIN",
+                "INSERT INTO person (id, name, age, active) VALUES (?, ?, ?, ?) [null, first, 3, 0]",
+                "INSERT INTO person (id, name, age, active) VALUES (?, ?, ?, ?) [null, second, null, 0]",
+                "COMMIT"), db.getExecutions());
+    }
+
+    @Test
+    public void assignedKeysAreBound() throws Throwable {
+        final SQLiteDatabase db = new SQLiteDatabase();
+
+        call(converterType, "parseInsertAll", db, "person", Arrays.asList(
+                newRow(pojoType, "id", 7L, "name", "restored"),
+                newRow(pojoType, "name", "new")));
+
+        assertEquals(Arrays.asList(
+                "BEGIN",
+                "INSERT INTO person (id, name, age, active) VALUES (?, ?, ?, ?) [7, restored, null, 0]",
+                "INSERT INTO person (id, name, age, active) VALUES (?, ?, ?, ?) [null, new, null, 0]",
+                "COMMIT"), db.getExecutions());
+    }
+
+    @Test
+    public void keysWithoutAutoIncrementAreAlwaysBound() throws Throwable {
+        final ClassLoader noteClassLoader = compiler.compile(SamplePojo.NOTE);
+        final SQLiteDatabase db = new SQLiteDatabase();
+
+        call(noteClassLoader.loadClass("sample.NoteConverter"), "parseInsertAll", db, "note",
+                Arrays.asList(newRow(noteClassLoader.loadClass("sample.Note"), "title", "zero")));
+
+        assertEquals("INSERT INTO note (id, title) VALUES (?, ?) [0, zero]", db.getExecutions().get(1));
+    }
+
+    @Test
+    public void chunksAreCommittedSeparately() throws Throwable {
+        final SQLiteDatabase db = new SQLiteDatabase();
+
+        call(converterType, "parseInsertAll", db, "person", Arrays.asList(
+                newRow(pojoType, "name", "a"),
+                newRow(pojoType, "name", "b"),
+                newRow(pojoType, "name", "c")), 2);
+
+        assertEquals(Arrays.asList(
+                "BEGIN",
+                "INSERT INTO person (id, name, age, active) VALUES (?, ?, ?, ?) [null, a, null, 0]",
+                "INSERT INTO person (id, name, age, active) VALUES (?, ?, ?, ?) [null, b, null, 0]",
+                "COMMIT",
+                "BEGIN",
+                "INSERT INTO person (id, name, age, active) VALUES (?, ?, ?, ?) [null, c, null, 0]",
+                "COMMIT"), db.getExecutions());
+    }
+
+    @Test
+    public void fullLastChunkOpensNoFurtherTransaction() throws Throwable {
+        final SQLiteDatabase db = new SQLiteDatabase();
+
+        call(converterType, "parseInsertAll", db, "person", Arrays.asList(
+                newRow(pojoType, "name", "a"),
+                newRow(pojoType, "name", "b")), 2);
+
+        assertEquals(Arrays.asList(
+                "BEGIN",
+                "INSERT INTO person (id, name, age, active) VALUES (?, ?, ?, ?) [null, a, null, 0]",
+                "INSERT INTO person (id, name, age, active) VALUES (?, ?, ?, ?) [null, b, null, 0]",
+                "COMMIT"), db.getExecutions());
+    }
+
+    @Test
+    public void failingRowRollsBackOnlyItsChunk() throws Throwable {
+        final SQLiteDatabase db = new SQLiteDatabase();
+
+        try {
+            call(converterType, "parseInsertAll", db, "person", Arrays.asList(
+                    newRow(pojoType, "name", "a"),
+                    newRow(pojoType, "name", "b"),
+                    null), 2);
+            fail("null row was inserted");
+        } catch (NullPointerException expected) {
+            // bindTo reads the members of the row
+        }
+
+        assertEquals(Arrays.asList(
+                "BEGIN",
+                "INSERT INTO person (id, name, age, active) VALUES (?, ?, ?, ?) [null, a, null, 0]",
+                "INSERT INTO person (id, name, age, active) VALUES (?, ?, ?, ?) [null, b, null, 0]",
+                "COMMIT",
+                "BEGIN",
+                "ROLLBACK"), db.getExecutions());
+        assertFalse(db.inTransaction());
+    }
+
+    @Test
+    public void noRowsCommitAnEmptyTransaction() throws Throwable {
+        final SQLiteDatabase db = new SQLiteDatabase();
+
+        assertEquals(0, call(converterType, "parseInsertAll", db, "person", Collections.emptyList()));
+        assertEquals(Arrays.asList("BEGIN", "COMMIT"), db.getExecutions());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void chunkSizeHasToBePositive() throws Throwable {
+        call(converterType, "parseInsertAll", new SQLiteDatabase(), "person", Collections.emptyList(), 0);
+    }
+
+    @Test
+    public void contentValuesOfNewRowsHaveNoKey() throws Throwable {
+
+        final ContentValues newValues = (ContentValues) call(converterType, "parseToContentValues", newRow(pojoType, "name", "new"));
+        final ContentValues storedValues = (ContentValues) call(converterType, "parseToContentValues", newRow(pojoType, "id", 4L, "name", "stored"));
+
+        assertFalse(newValues.containsKey("id"));
+        assertEquals("new", newValues.get("name"));
+        assertEquals(4L, storedValues.get("id"));
+    }
+}
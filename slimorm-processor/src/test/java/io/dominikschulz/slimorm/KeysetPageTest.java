@@ -0,0 +1,135 @@
+package io.dominikschulz.slimorm;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.dominikschulz.slimorm.SampleCompiler.call;
+import static io.dominikschulz.slimorm.SampleCompiler.field;
+import static io.dominikschulz.slimorm.SampleCompiler.get;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Queries keyset pages from the stand-in database, including sort columns with NULL values
+ */
+public class KeysetPageTest extends SamplePojoFixture {
+
+    private final SQLiteDatabase db = new SQLiteDatabase();
+    private final List<Object[]> rows = new ArrayList<>();
+
+    public KeysetPageTest() {
+        super(SamplePojo.ENTRY);
+    }
+
+    @Before
+    public void setUp() {
+        db.setResponder(new SQLiteDatabase.Responder() {
+            @Override
+            public Cursor rawQuery(String sql, String[] selectionArgs) {
+                return new ArrayCursor(new String[]{"id", "title", "score"}, rows.toArray(new Object[rows.size()][]));
+            }
+
+            @Override
+            public String simpleQueryForString(String sql, Object[] bindArgs) {
+                throw new AssertionError(sql);
+            }
+        });
+    }
+
+    @Test
+    public void conditionsHandleNullSortValues() throws Exception {
+        assertEquals("title, id", get(converterType, "PAGE_BY_TITLE_ORDER_BY"));
+        assertEquals("title >= ? AND (title > ? OR id > ?)", get(converterType, "PAGE_BY_TITLE_AFTER"));
+        assertEquals("((title IS NULL AND id > ?) OR title IS NOT NULL)", get(converterType, "PAGE_BY_TITLE_AFTER_NULL"));
+
+        assertEquals("score DESC, id DESC", get(converterType, "PAGE_BY_SCORE_DESC_ORDER_BY"));
+        assertEquals("((score <= ? AND (score < ? OR id < ?)) OR score IS NULL)", get(converterType, "PAGE_BY_SCORE_DESC_AFTER"));
+        assertEquals("score IS NULL AND id < ?", get(converterType, "PAGE_BY_SCORE_DESC_AFTER_NULL"));
+
+        assertEquals("id > ?", get(converterType, "PAGE_BY_ID_AFTER"));
+    }
+
+    @Test
+    public void firstPageHasTheKeyOfItsLastRow() throws Throwable {
+        rows.add(new Object[]{3L, null, null});
+        rows.add(new Object[]{1L, "a", 1.5});
+        rows.add(new Object[]{2L, "b", 0.1});
+
+        final Page<?> page = (Page<?>) call(converterType, "parseQueryByTitlePage", db, "entries", null, 2);
+
+        assertEquals(Collections.singletonList("SELECT id, title, score FROM entries ORDER BY title, id LIMIT 3 null"), db.getExecutions());
+        assertEquals(2, page.getRows().size());
+        assertEquals(3L, field(page.getRows().get(0), "id"));
+        assertEquals(new PageKey("a", 1L), page.getNextKey());
+    }
+
+    @Test
+    public void pageAfterANullSortValueBindsTheKeyOnly() throws Throwable {
+        rows.add(new Object[]{4L, null, null});
+        rows.add(new Object[]{5L, null, null});
+
+        final Page<?> page = (Page<?>) call(converterType, "parseQueryByTitlePage", db, "entries", new PageKey(null, 3L), 1);
+
+        assertEquals(Collections.singletonList("SELECT id, title, score FROM entries WHERE ((title IS NULL AND id > ?) OR title IS NOT NULL)"
+                + " ORDER BY title, id LIMIT 2 [3]"), db.getExecutions());
+        assertEquals(new PageKey(null, 4L), page.getNextKey());
+    }
+
+    @Test
+    public void pageAfterASortValueBindsItTwice() throws Throwable {
+        call(converterType, "parseQueryByTitlePage", db, "entries", new PageKey("b", 2L), 10);
+
+        assertEquals(Collections.singletonList("SELECT id, title, score FROM entries WHERE title >= ? AND (title > ? OR id > ?)"
+                + " ORDER BY title, id LIMIT 11 [b, b, 2]"), db.getExecutions());
+    }
+
+    @Test
+    public void nullFloatingPointSortValueIsKeptNull() throws Throwable {
+        rows.add(new Object[]{7L, "x", 0.1});
+        rows.add(new Object[]{6L, "y", null});
+        rows.add(new Object[]{5L, "z", null});
+
+        final Page<?> first = (Page<?>) call(converterType, "parseQueryByScoreDescPage", db, "entries", null, 1);
+        assertEquals(new PageKey("0.1", 7L), first.getNextKey());
+
+        rows.remove(0);
+        final Page<?> second = (Page<?>) call(converterType, "parseQueryByScoreDescPage", db, "entries", first.getNextKey(), 1);
+        assertEquals(new PageKey(null, 6L), second.getNextKey());
+
+        call(converterType, "parseQueryByScoreDescPage", db, "entries", second.getNextKey(), 1);
+        assertTrue(db.getExecutions().get(2), db.getExecutions().get(2).endsWith("WHERE score IS NULL AND id < ? ORDER BY score DESC, id DESC LIMIT 2 [6]"));
+    }
+
+    @Test
+    public void lastPageHasNoNextKey() throws Throwable {
+        rows.add(new Object[]{1L, "a", null});
+
+        final Page<?> page = (Page<?>) call(converterType, "parseQueryByIdPage", db, "entries", new PageKey(null, 0L), 1);
+
+        assertEquals(1, page.getRows().size());
+        assertFalse(page.hasNext());
+        assertTrue(db.getExecutions().get(0), db.getExecutions().get(0).endsWith("WHERE id > ? ORDER BY id LIMIT 2 [0]"));
+    }
+
+    @Test
+    public void unknownSortColumnIsAnError() throws Exception {
+        final String errors = compiler.compileWithErrors("Broken", "package sample;\n"
+                + "import io.dominikschulz.slimorm.Field;\n"
+                + "import io.dominikschulz.slimorm.KeysetPage;\n"
+                + "import io.dominikschulz.slimorm.PrimaryKey;\n"
+                + "@KeysetPage(name = \"byName\", column = \"name\")\n"
+                + "public class Broken {\n"
+                + "    @PrimaryKey @Field(\"id\") public long id;\n"
+                + "}\n");
+
+        assertTrue(errors, errors.contains("sorted by the unknown column name"));
+    }
+}
@@ -0,0 +1,96 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static io.dominikschulz.slimorm.SampleCompiler.call;
+import static io.dominikschulz.slimorm.SampleCompiler.field;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Converts the rows of {@code parseToLazyList} when they are requested and keeps the last requested ones
+ */
+public class LazyListTest extends SamplePojoFixture {
+
+    private ArrayCursor cursor;
+
+    public LazyListTest() {
+        super(SamplePojo.NOTE);
+    }
+
+    @Before
+    public void setUp() {
+        cursor = new ArrayCursor(new String[]{"id", "title"}, new Object[][]{{1L, "a"}, {2L, "b"}, {3L, "c"}, {4L, "d"}});
+    }
+
+    @Test
+    public void rowsAreConvertedWhenRequested() throws Throwable {
+        final LazyRowList<?> notes = (LazyRowList<?>) call(converterType, "parseToLazyList", cursor);
+
+        assertEquals(4, notes.size());
+        assertEquals(0, cursor.getReads("id"));
+
+        assertEquals("c", field(notes.get(2), "title"));
+        assertEquals(1, cursor.getReads("id"));
+        assertEquals(1L, field(notes.get(0), "id"));
+        assertEquals(2, cursor.getReads("id"));
+        assertEquals(2, cursor.getColumnLookups());
+    }
+
+    @Test
+    public void cachedRowsAreNotConvertedAgain() throws Throwable {
+        final LazyRowList<?> notes = (LazyRowList<?>) call(converterType, "parseToLazyList", cursor);
+
+        final Object first = notes.get(1);
+        assertSame(first, notes.get(1));
+        assertEquals(1, cursor.getReads("id"));
+    }
+
+    @Test
+    public void leastRecentlyRequestedRowsAreEvicted() throws Throwable {
+        final LazyRowList<?> notes = (LazyRowList<?>) call(converterType, "parseToLazyList", cursor, 2);
+
+        final Object first = notes.get(0);
+        final Object second = notes.get(1);
+        notes.get(0);
+        notes.get(2);
+
+        // Row 1 was requested least recently and is converted again
+        assertSame(first, notes.get(0));
+        final Object secondAgain = notes.get(1);
+        assertNotSame(second, secondAgain);
+        assertEquals(2L, field(secondAgain, "id"));
+        assertEquals(4, cursor.getReads("id"));
+    }
+
+    @Test
+    public void closeClosesTheCursor() throws Throwable {
+        final LazyRowList<?> notes = (LazyRowList<?>) call(converterType, "parseToLazyList", cursor);
+        notes.get(0);
+
+        notes.close();
+
+        assertTrue(cursor.isClosed());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void closedListCanNotBeRead() throws Throwable {
+        final LazyRowList<?> notes = (LazyRowList<?>) call(converterType, "parseToLazyList", cursor);
+        notes.close();
+
+        notes.get(0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void indexBeyondTheCursorIsRejected() throws Throwable {
+        ((LazyRowList<?>) call(converterType, "parseToLazyList", cursor)).get(4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cacheSizeHasToBePositive() throws Throwable {
+        call(converterType, "parseToLazyList", cursor, 0);
+    }
+}
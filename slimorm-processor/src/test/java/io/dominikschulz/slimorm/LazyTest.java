@@ -0,0 +1,153 @@
+package io.dominikschulz.slimorm;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static io.dominikschulz.slimorm.SampleCompiler.call;
+import static io.dominikschulz.slimorm.SampleCompiler.field;
+import static io.dominikschulz.slimorm.SampleCompiler.get;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Converts rows with a {@link Lazy} member and loads their values from the stand-in database
+ */
+public class LazyTest extends SamplePojoFixture {
+
+    public LazyTest() {
+        super(SamplePojo.LETTER);
+    }
+
+    @Test
+    public void bodyIsLoadedByTheKeyWhenRead() throws Throwable {
+        final SQLiteDatabase db = database("body of ");
+        call(converterType, "bindLazyColumns", db, "letters");
+
+        final Lazy<String> body = bodyOf(convert(new Object[][]{{7L, "first"}}).get(0));
+
+        assertEquals(7L, body.getKey());
+        assertFalse(body.isLoaded());
+        assertTrue(db.getExecutions().isEmpty());
+        assertEquals("body of 7", body.get());
+        assertEquals("body of 7", body.get());
+        assertEquals(Collections.singletonList("SELECT body FROM letters WHERE id = ? [7]"), db.getExecutions());
+    }
+
+    @Test
+    public void rebindingKeepsTheEarlierRowsOnTheirDatabase() throws Throwable {
+        final SQLiteDatabase letters = database("letter ");
+        final SQLiteDatabase archive = database("archived ");
+        call(converterType, "bindLazyColumns", letters, "letters");
+        final Lazy<String> before = bodyOf(convert(new Object[][]{{7L, "first"}}).get(0));
+
+        call(converterType, "bindLazyColumns", archive, "archived_letters");
+        final Lazy<String> after = bodyOf(convert(new Object[][]{{7L, "first"}}).get(0));
+
+        assertEquals("letter 7", before.get());
+        assertEquals("archived 7", after.get());
+        assertEquals(Collections.singletonList("SELECT body FROM letters WHERE id = ? [7]"), letters.getExecutions());
+        assertEquals(Collections.singletonList("SELECT body FROM archived_letters WHERE id = ? [7]"), archive.getExecutions());
+        assertTrue(Changes.changed(before, after));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rowsConvertedBeforeBindingCanNotBeLoaded() throws Throwable {
+        final Lazy<String> body = bodyOf(convert(new Object[][]{{7L, "first"}}).get(0));
+        call(converterType, "bindLazyColumns", database("body of "), "letters");
+
+        body.get();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingKeyColumnIsRejected() throws Throwable {
+        final Cursor cursor = new ArrayCursor(new String[]{"title"}, new Object[][]{{"first"}});
+
+        call(converterType, "parseToList", cursor);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void loadAllQueriesEveryBindingOnce() throws Throwable {
+        final SQLiteDatabase letters = database("letter ");
+        final SQLiteDatabase archive = database("archived ");
+        call(converterType, "bindLazyColumns", letters, "letters");
+        final List<?> current = convert(new Object[][]{{7L, "first"}, {8L, "second"}, {7L, "again"}});
+        call(converterType, "bindLazyColumns", archive, "archived_letters");
+        final List<?> archived = convert(new Object[][]{{9L, "old"}});
+
+        final LazyColumn<String> column = (LazyColumn<String>) get(converterType, "LAZY_BODY");
+        column.loadAll(Arrays.asList(bodyOf(current.get(0)), bodyOf(current.get(1)), bodyOf(current.get(2)), bodyOf(archived.get(0)), null));
+
+        assertEquals(1, letters.getExecutions().size());
+        assertTrue(letters.getExecutions().get(0), letters.getExecutions().get(0).startsWith("SELECT id, body FROM letters WHERE id IN (?, ?)"));
+        assertEquals(Collections.singletonList("SELECT id, body FROM archived_letters WHERE id IN (?) [9]"), archive.getExecutions());
+        assertEquals("letter 7", bodyOf(current.get(0)).get());
+        assertEquals("letter 8", bodyOf(current.get(1)).get());
+        assertEquals("letter 7", bodyOf(current.get(2)).get());
+        assertEquals("archived 9", bodyOf(archived.get(0)).get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void deletedRowsLoadNull() throws Throwable {
+        final SQLiteDatabase db = new SQLiteDatabase();
+        db.setResponder(new SQLiteDatabase.Responder() {
+            @Override
+            public Cursor rawQuery(String sql, String[] selectionArgs) {
+                return new ArrayCursor(new String[]{"id", "body"}, new Object[0][]);
+            }
+
+            @Override
+            public String simpleQueryForString(String sql, Object[] bindArgs) {
+                throw new AssertionError(sql);
+            }
+        });
+        call(converterType, "bindLazyColumns", db, "letters");
+        final Lazy<String> body = bodyOf(convert(new Object[][]{{7L, "first"}}).get(0));
+
+        ((LazyColumn<String>) get(converterType, "LAZY_BODY")).loadAll(Collections.singletonList(body));
+
+        assertTrue(body.isLoaded());
+        assertNull(body.get());
+    }
+
+    private List<?> convert(Object[][] rows) throws Throwable {
+        return (List<?>) call(converterType, "parseToList", new ArrayCursor(new String[]{"id", "title"}, rows));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Lazy<String> bodyOf(Object letter) throws Exception {
+        return (Lazy<String>) field(letter, "body");
+    }
+
+    /**
+     * @return database answering the body of every key with the {@code prefix} and the key
+     */
+    private static SQLiteDatabase database(final String prefix) {
+        final SQLiteDatabase db = new SQLiteDatabase();
+        db.setResponder(new SQLiteDatabase.Responder() {
+            @Override
+            public Cursor rawQuery(String sql, String[] selectionArgs) {
+                final Object[][] rows = new Object[selectionArgs.length][];
+                for (int i = 0; i < selectionArgs.length; i++) {
+                    rows[i] = new Object[]{Long.parseLong(selectionArgs[i]), prefix + selectionArgs[i]};
+                }
+                return new ArrayCursor(new String[]{"id", "body"}, rows);
+            }
+
+            @Override
+            public String simpleQueryForString(String sql, Object[] bindArgs) {
+                return prefix + bindArgs[0];
+            }
+        });
+        return db;
+    }
+}
@@ -0,0 +1,137 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+
+import static io.dominikschulz.slimorm.SampleCompiler.call;
+import static io.dominikschulz.slimorm.SampleCompiler.field;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Groups the annotated elements per POJO and records the POJO as the originating element of every generated type
+ */
+public class OriginatingElementsTest {
+
+    @Rule
+    public final SampleCompiler compiler = new SampleCompiler();
+
+    @Test
+    public void everyGeneratedTypeOriginatesFromItsPojo() throws Exception {
+        final Map<String, List<String>> originatingElements = new LinkedHashMap<>();
+
+        compiler.compile(SamplePojo.ORDER, new SlimOrmProcessor() {
+            @Override
+            public synchronized void init(ProcessingEnvironment processingEnv) {
+                super.init(recordingEnvironment(processingEnv, originatingElements));
+            }
+
+            // The supported annotations are declared on SlimOrmProcessor and not inherited
+            @Override
+            public Set<String> getSupportedAnnotationTypes() {
+                return new SlimOrmProcessor().getSupportedAnnotationTypes();
+            }
+
+            @Override
+            public SourceVersion getSupportedSourceVersion() {
+                return new SlimOrmProcessor().getSupportedSourceVersion();
+            }
+        });
+
+        assertEquals(new HashSet<>(Arrays.asList("sample.OrderConverter", "sample.OrderColumns", "sample.OrderSchema",
+                "sample.OrderSummaryConverter", "sample.ReceiptConverter", "sample.ReceiptColumns")),
+                originatingElements.keySet());
+        for (Map.Entry<String, List<String>> entry : originatingElements.entrySet()) {
+            final String pojo = entry.getKey().startsWith("sample.Order") ? "sample.Order" : "sample.Receipt";
+            assertEquals(entry.getKey(), Arrays.asList(pojo), entry.getValue());
+        }
+    }
+
+    @Test
+    public void membersOfEveryPojoAreGroupedIntoItsConverter() throws Throwable {
+        final ClassLoader classLoader = compiler.compile(SamplePojo.ORDER);
+        final ArrayCursor cursor = new ArrayCursor(new String[]{"id", "printer", "total"}, new Object[][]{{3L, "front", 9.5}});
+
+        cursor.moveToFirst();
+        final Object receipt = call(classLoader.loadClass("sample.ReceiptConverter"), "parseToSingleRow", cursor);
+        final Object order = call(classLoader.loadClass("sample.OrderConverter"), "parseToSingleRow", cursor);
+
+        assertEquals(3L, invokeGetter(receipt, "getId"));
+        assertEquals("front", invokeGetter(receipt, "getPrinter"));
+        assertEquals(9.5, field(order, "total"));
+    }
+
+    @Test
+    public void privateFieldsAreAnError() throws Exception {
+        final String errors = compiler.compileWithErrors("Broken", "package sample;\n"
+                + "import io.dominikschulz.slimorm.Field;\n"
+                + "public class Broken {\n"
+                + "    @Field(\"id\") private long id;\n"
+                + "}\n");
+
+        assertTrue(errors, errors.contains("SlimOrm can only work with package protected fields"));
+    }
+
+    /**
+     * @return environment whose filer records the originating elements of every created source file by its name
+     */
+    private static ProcessingEnvironment recordingEnvironment(final ProcessingEnvironment processingEnv,
+                                                              final Map<String, List<String>> originatingElements) {
+        final Filer filer = processingEnv.getFiler();
+        final Filer recordingFiler = forward(Filer.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if (method.getName().equals("createSourceFile")) {
+                    final List<String> elements = new ArrayList<>();
+                    for (Element element : (Element[]) args[1]) {
+                        elements.add(element.toString());
+                    }
+                    originatingElements.put(args[0].toString(), elements);
+                }
+                return invokeOn(filer, method, args);
+            }
+        });
+        return forward(ProcessingEnvironment.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                return method.getName().equals("getFiler") ? recordingFiler : invokeOn(processingEnv, method, args);
+            }
+        });
+    }
+
+    private static <T> T forward(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(OriginatingElementsTest.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invokeGetter(Object row, String getterName) throws Exception {
+        // The POJO is package private
+        final Method getter = row.getClass().getDeclaredMethod(getterName);
+        getter.setAccessible(true);
+        return getter.invoke(row);
+    }
+
+    private static Object invokeOn(Object delegate, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
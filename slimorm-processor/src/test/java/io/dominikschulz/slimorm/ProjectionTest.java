@@ -0,0 +1,72 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static io.dominikschulz.slimorm.SampleCompiler.call;
+import static io.dominikschulz.slimorm.SampleCompiler.field;
+import static io.dominikschulz.slimorm.SampleCompiler.get;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Selects and converts the named column subsets declared with {@code @Projection}
+ */
+public class ProjectionTest extends SamplePojoFixture {
+
+    public ProjectionTest() {
+        super(SamplePojo.ARTICLE);
+    }
+
+    @Test
+    public void everyProjectionHasAColumnConstant() throws Exception {
+        assertArrayEquals(new String[]{"id", "title"}, (String[]) get(converterType, "PROJECTION_SUMMARY"));
+        assertArrayEquals(new String[]{"id", "views"}, (String[]) get(converterType, "PROJECTION_STATS"));
+    }
+
+    @Test
+    public void projectionConverterOnlyReadsItsColumns() throws Throwable {
+        final ArrayCursor cursor = new ArrayCursor(new String[]{"id", "title", "body", "views"}, new Object[][]{
+                {1L, "Hello", "A long text", 12},
+                {2L, "World", "Another long text", 3}});
+
+        final List<?> articles = (List<?>) call(classLoader.loadClass("sample.ArticleSummaryConverter"), "parseToList", cursor);
+
+        assertEquals(2, articles.size());
+        assertEquals(2L, field(articles.get(1), "id"));
+        assertEquals("World", field(articles.get(1), "title"));
+        // Members of other columns keep their defaults
+        assertNull(field(articles.get(1), "body"));
+        assertEquals(0, field(articles.get(1), "views"));
+        assertEquals(0, cursor.getReads("body"));
+        assertEquals(0, cursor.getReads("views"));
+        assertEquals(2, cursor.getColumnLookups());
+    }
+
+    @Test
+    public void cursorSelectingTheProjectionIsConverted() throws Throwable {
+        final ArrayCursor cursor = new ArrayCursor(new String[]{"views", "id"}, new Object[][]{{40, 7L}});
+
+        final List<?> articles = (List<?>) call(classLoader.loadClass("sample.ArticleStatsConverter"), "parseToList", cursor);
+
+        assertEquals(7L, field(articles.get(0), "id"));
+        assertEquals(40, field(articles.get(0), "views"));
+        assertNull(field(articles.get(0), "title"));
+    }
+
+    @Test
+    public void unknownColumnIsAnError() throws Exception {
+        final String errors = compiler.compileWithErrors("Broken", "package sample;\n"
+                + "import io.dominikschulz.slimorm.Field;\n"
+                + "import io.dominikschulz.slimorm.Projection;\n"
+                + "@Projection(name = \"summary\", columns = {\"id\", \"subtitle\"})\n"
+                + "public class Broken {\n"
+                + "    @Field(\"id\") public long id;\n"
+                + "}\n");
+
+        assertTrue(errors, errors.contains("contains the unknown column subtitle"));
+    }
+}
@@ -0,0 +1,113 @@
+package io.dominikschulz.slimorm;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static io.dominikschulz.slimorm.SampleCompiler.call;
+import static io.dominikschulz.slimorm.SampleCompiler.field;
+import static io.dominikschulz.slimorm.SampleCompiler.newRow;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Caches the rows of {@code parseQueryCachedList} and drops them after the generated write methods ran
+ */
+public class QueryCacheInvalidationTest extends SamplePojoFixture {
+
+    private static final String SQL = "SELECT id, title FROM tasks";
+
+    private final QueryCache cache = new QueryCache(100);
+    private final SQLiteDatabase db = new SQLiteDatabase();
+    private String title = "stored";
+
+    public QueryCacheInvalidationTest() {
+        super(SamplePojo.NOTE);
+    }
+
+    @Before
+    public void setUp() {
+        db.setResponder(new SQLiteDatabase.Responder() {
+            @Override
+            public Cursor rawQuery(String sql, String[] selectionArgs) {
+                return new ArrayCursor(new String[]{"id", "title"}, new Object[][]{{1L, title}});
+            }
+
+            @Override
+            public String simpleQueryForString(String sql, Object[] bindArgs) {
+                throw new AssertionError(sql);
+            }
+        });
+    }
+
+    @Test
+    public void rowsAreCachedUntilTheTableIsWritten() throws Throwable {
+        final List<?> first = query();
+        assertSame(first, query());
+        assertEquals(1, queries());
+
+        call(converterType, "parseDelete", db, "tasks", "id = ?", new String[]{"2"});
+
+        query();
+        assertEquals(2, queries());
+    }
+
+    @Test
+    public void insertAllInvalidatesAfterItsTransaction() throws Throwable {
+        query();
+
+        call(converterType, "parseInsertAll", db, "TASKS", Arrays.asList(newRow(pojoType, "title", "new")));
+
+        query();
+        assertEquals(2, queries());
+    }
+
+    @Test
+    public void rowsReadBeforeTheOuterCommitAreDropped() throws Throwable {
+        db.beginTransaction();
+        call(converterType, "parseDiffUpdate", db, "tasks", newRow(pojoType, "id", 1L, "title", "stored"),
+                newRow(pojoType, "id", 1L, "title", "changed"), "id = ?", new String[]{"1"});
+        // Another connection still reads the committed row until the commit
+        assertEquals("stored", field(query().get(0), "title"));
+        title = "changed";
+        db.setTransactionSuccessful();
+        TableVersions.endTransaction(db);
+
+        assertEquals("changed", field(query().get(0), "title"));
+        assertEquals(2, queries());
+    }
+
+    @Test
+    public void nestedTransactionsInvalidateAtTheOutermostEnd() throws Throwable {
+        db.beginTransaction();
+        db.beginTransaction();
+        call(converterType, "parseDelete", db, "tasks", null, null);
+        db.setTransactionSuccessful();
+        TableVersions.endTransaction(db);
+        query();
+        db.setTransactionSuccessful();
+        TableVersions.endTransaction(db);
+
+        query();
+        assertEquals(2, queries());
+    }
+
+    private List<?> query() throws Throwable {
+        return (List<?>) call(converterType, "parseQueryCachedList", cache, db, SQL, null, new String[]{"tasks"});
+    }
+
+    private int queries() {
+        int queries = 0;
+        for (String execution : db.getExecutions()) {
+            if (execution.startsWith(SQL)) {
+                queries++;
+            }
+        }
+        return queries;
+    }
+}
@@ -0,0 +1,229 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.rules.ExternalResource;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.processing.Processor;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Compiles sample POJOs of the package {@code sample} with the {@link SlimOrmProcessor} into a temporary directory
+ * and loads the generated classes, the classes of the test classpath come first so the Android stand-ins are used
+ */
+public class SampleCompiler extends ExternalResource {
+    private File workDir;
+
+    @Override
+    protected void before() throws IOException {
+        workDir = File.createTempFile("slimorm", "test");
+        assertTrue(workDir.delete() && workDir.mkdirs());
+    }
+
+    @Override
+    protected void after() {
+        delete(workDir);
+    }
+
+    /**
+     * @return the converter generated for the {@code sample}
+     */
+    public Class<?> compileConverter(SamplePojo sample) throws Exception {
+        return compileConverter(sample.getSimpleName(), sample.getSource());
+    }
+
+    /**
+     * @return class loader of the {@code sample} and all classes generated for it
+     */
+    public ClassLoader compile(SamplePojo sample) throws Exception {
+        return compile(sample.getSimpleName(), sample.getSource());
+    }
+
+    /**
+     * @return class loader of the {@code sample} and all classes generated for it by the {@code processor}
+     */
+    public ClassLoader compile(SamplePojo sample, Processor processor) throws Exception {
+        return compile(sample.getSimpleName(), sample.getSource(), processor);
+    }
+
+    /**
+     * @return the converter generated for the POJO {@code sample.<simpleName>}
+     */
+    public Class<?> compileConverter(String simpleName, String source) throws Exception {
+        return compile(simpleName, source).loadClass("sample." + simpleName + "Converter");
+    }
+
+    /**
+     * @return class loader of the POJO and all classes generated for it
+     */
+    public ClassLoader compile(String simpleName, String source) throws Exception {
+        return compile(simpleName, source, new SlimOrmProcessor());
+    }
+
+    /**
+     * @return class loader of the POJO and all classes generated for it by the {@code processor}
+     */
+    public ClassLoader compile(String simpleName, String source, Processor processor) throws Exception {
+        final File classesDir = new File(workDir, simpleName + "/classes");
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertTrue(diagnostics.getDiagnostics().toString(), run(simpleName, source, processor, diagnostics));
+        return new URLClassLoader(new URL[]{classesDir.toURI().toURL()}, getClass().getClassLoader());
+    }
+
+    /**
+     * @return the messages of the errors reported for the POJO, fails if it compiles
+     */
+    public String compileWithErrors(String simpleName, String source) throws Exception {
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try {
+            assertFalse("expected errors for " + simpleName, run(simpleName, source, new SlimOrmProcessor(), diagnostics));
+        } catch (RuntimeException e) {
+            // The processor throws after reporting its error, javac wraps the exception
+        }
+
+        final StringBuilder errors = new StringBuilder();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.append(diagnostic.getMessage(null)).append('\n');
+            }
+        }
+        return errors.toString();
+    }
+
+    private boolean run(String simpleName, String source, Processor processor, DiagnosticCollector<JavaFileObject> diagnostics) throws IOException {
+        final File sourceDir = new File(workDir, simpleName + "/src");
+        final File classesDir = new File(workDir, simpleName + "/classes");
+        final File packageDir = new File(sourceDir, "sample");
+        assertTrue(packageDir.mkdirs() && classesDir.mkdirs());
+
+        final File sourceFile = new File(packageDir, simpleName + ".java");
+        final Writer writer = new OutputStreamWriter(new FileOutputStream(sourceFile), Charset.forName("UTF-8"));
+        try {
+            writer.write(source);
+        } finally {
+            writer.close();
+        }
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null);
+        try {
+            final List<String> options = new ArrayList<>(Arrays.asList(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-d", classesDir.getPath(),
+                    "-s", sourceDir.getPath()));
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjectsFromFiles(Collections.singletonList(sourceFile)));
+            task.setProcessors(Collections.singletonList(processor));
+            return task.call();
+        } finally {
+            fileManager.close();
+        }
+    }
+
+    /**
+     * Calls the public static method of the generated class with the {@code arguments}
+     */
+    public static Object call(Class<?> type, String methodName, Object... arguments) throws Throwable {
+        for (Method method : type.getMethods()) {
+            if (method.getName().equals(methodName) && Modifier.isStatic(method.getModifiers()) && accepts(method.getParameterTypes(), arguments)) {
+                try {
+                    return method.invoke(null, arguments);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        }
+        fail("no static method " + methodName + " of " + type.getSimpleName() + " accepts " + Arrays.toString(arguments));
+        return null;
+    }
+
+    /**
+     * @return value of the public static field of the generated class
+     */
+    public static Object get(Class<?> type, String fieldName) throws Exception {
+        return type.getField(fieldName).get(null);
+    }
+
+    /**
+     * @param values pairs of public field names and their values
+     * @return new instance of the POJO created with its no-arg constructor
+     */
+    public static Object newRow(Class<?> pojoType, Object... values) throws Exception {
+        final Object row = pojoType.newInstance();
+        for (int i = 0; i < values.length; i += 2) {
+            pojoType.getField((String) values[i]).set(row, values[i + 1]);
+        }
+        return row;
+    }
+
+    /**
+     * @return value of the public field of the {@code row}
+     */
+    public static Object field(Object row, String fieldName) throws Exception {
+        return row.getClass().getField(fieldName).get(row);
+    }
+
+    private static boolean accepts(Class<?>[] parameterTypes, Object[] arguments) {
+        if (parameterTypes.length != arguments.length) {
+            return false;
+        }
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (arguments[i] != null && !box(parameterTypes[i]).isInstance(arguments[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Class<?> box(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == int.class) {
+            return Integer.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == short.class) {
+            return Short.class;
+        }
+        return type;
+    }
+
+    private static void delete(File file) {
+        final File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
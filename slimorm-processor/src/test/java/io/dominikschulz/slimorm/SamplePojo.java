@@ -0,0 +1,225 @@
+package io.dominikschulz.slimorm;
+
+/**
+ * Sample POJOs of the package {@code sample} shared by the processor tests, compiled with {@link SampleCompiler}
+ */
+public enum SamplePojo {
+
+    /**
+     * Plain fields of primitive, boxed and String types
+     */
+    CITY("City",
+            "import io.dominikschulz.slimorm.Field;",
+            "public class City {",
+            "    @Field(\"id\") public long id;",
+            "    @Field(\"name\") public String name;",
+            "    @Field(\"population\") public int population;",
+            "    @Field(\"area\") public Double area;",
+            "}"),
+
+    /**
+     * Smallest POJO with a primary key
+     */
+    NOTE("Note",
+            "import io.dominikschulz.slimorm.Field;",
+            "import io.dominikschulz.slimorm.PrimaryKey;",
+            "public class Note {",
+            "    @PrimaryKey @Field(\"id\") public long id;",
+            "    @Field(\"title\") public String title;",
+            "}"),
+
+    /**
+     * Auto incremented primary key and nullable members
+     */
+    PERSON("Person",
+            "import io.dominikschulz.slimorm.Field;",
+            "import io.dominikschulz.slimorm.PrimaryKey;",
+            "public class Person {",
+            "    @PrimaryKey(autoIncrement = true) @Field(\"id\") public long id;",
+            "    @Field(\"name\") public String name;",
+            "    @Field(\"age\") public Integer age;",
+            "    @Field(\"active\") public boolean active;",
+            "}"),
+
+    /**
+     * Immutable POJO created through its {@link PojoCreator} constructor
+     */
+    LABEL("Label",
+            "import io.dominikschulz.slimorm.ColumnName;",
+            "import io.dominikschulz.slimorm.Field;",
+            "import io.dominikschulz.slimorm.PojoCreator;",
+            "public class Label {",
+            "    private final String text;",
+            "    private final Long color;",
+            "    @PojoCreator public Label(@ColumnName(\"text\") String text, @ColumnName(\"color\") Long color) {",
+            "        this.text = text;",
+            "        this.color = color;",
+            "    }",
+            "    @Field(\"text\") public String getText() { return text; }",
+            "    @Field(\"color\") public Long getColor() { return color; }",
+            "}"),
+
+    /**
+     * One member of every supported type
+     */
+    WIDE("Wide",
+            "import io.dominikschulz.slimorm.Field;",
+            "public class Wide {",
+            "    @Field(\"id\") public long id;",
+            "    @Field(\"anInt\") public int anInt;",
+            "    @Field(\"aFloat\") public float aFloat;",
+            "    @Field(\"aDouble\") public double aDouble;",
+            "    @Field(\"aShort\") public short aShort;",
+            "    @Field(\"aBoolean\") public boolean aBoolean;",
+            "    @Field(\"boxedInt\") public Integer boxedInt;",
+            "    @Field(\"boxedFloat\") public Float boxedFloat;",
+            "    @Field(\"boxedDouble\") public Double boxedDouble;",
+            "    @Field(\"boxedShort\") public Short boxedShort;",
+            "    @Field(\"boxedLong\") public Long boxedLong;",
+            "    @Field(\"boxedBoolean\") public Boolean boxedBoolean;",
+            "    @Field(\"text\") public String text;",
+            "    @Field(\"blob\") public byte[] blob;",
+            "}"),
+
+    PHOTO("Photo",
+            "import io.dominikschulz.slimorm.DeferredBlob;",
+            "import io.dominikschulz.slimorm.Field;",
+            "import io.dominikschulz.slimorm.PrimaryKey;",
+            "public class Photo {",
+            "    @PrimaryKey @Field(\"id\") public long id;",
+            "    @Field(\"caption\") public String caption;",
+            "    @DeferredBlob @Field(\"image\") public byte[] image;",
+            "}"),
+
+    LETTER("Letter",
+            "import io.dominikschulz.slimorm.Field;",
+            "import io.dominikschulz.slimorm.Lazy;",
+            "import io.dominikschulz.slimorm.PrimaryKey;",
+            "public class Letter {",
+            "    @PrimaryKey @Field(\"id\") public long id;",
+            "    @Field(\"title\") public String title;",
+            "    @Field(\"body\") public Lazy<String> body;",
+            "}"),
+
+    ENTRY("Entry",
+            "import io.dominikschulz.slimorm.Field;",
+            "import io.dominikschulz.slimorm.KeysetPage;",
+            "import io.dominikschulz.slimorm.KeysetPages;",
+            "import io.dominikschulz.slimorm.PrimaryKey;",
+            "@KeysetPages({",
+            "        @KeysetPage(name = \"byTitle\", column = \"title\"),",
+            "        @KeysetPage(name = \"byScoreDesc\", column = \"score\", descending = true),",
+            "        @KeysetPage(name = \"byId\")",
+            "})",
+            "public class Entry {",
+            "    @PrimaryKey @Field(\"id\") public long id;",
+            "    @Field(\"title\") public String title;",
+            "    @Field(\"score\") public Double score;",
+            "}"),
+
+    ARTICLE("Article",
+            "import io.dominikschulz.slimorm.Field;",
+            "import io.dominikschulz.slimorm.Projection;",
+            "import io.dominikschulz.slimorm.Projections;",
+            "@Projections({",
+            "    @Projection(name = \"summary\", columns = {\"id\", \"title\"}),",
+            "    @Projection(name = \"stats\", columns = {\"id\", \"views\"})",
+            "})",
+            "public class Article {",
+            "    @Field(\"id\") public long id;",
+            "    @Field(\"title\") public String title;",
+            "    @Field(\"body\") public String body;",
+            "    @Field(\"views\") public int views;",
+            "}"),
+
+    VIDEO("Video",
+            "import io.dominikschulz.slimorm.Field;",
+            "import io.dominikschulz.slimorm.Projection;",
+            "@Projection(name = \"row\", columns = {\"title\", \"id\", \"views\", \"hd\"}, strict = true)",
+            "public class Video {",
+            "    @Field(\"id\") public long id;",
+            "    @Field(\"title\") public String title;",
+            "    @Field(\"views\") public Integer views;",
+            "    @Field(\"hd\") public boolean hd;",
+            "    @Field(\"description\") public String description;",
+            "}"),
+
+    DEVICE("Device",
+            "import io.dominikschulz.slimorm.Field;",
+            "public class Device {",
+            "    @Field(\"flags\") public int flags;",
+            "    @Field(\"flags\") public boolean enabled;",
+            "    @Field(\"flags\") public Long boxedFlags;",
+            "    @Field(\"port\") public Long port;",
+            "    @Field(\"name\") public String name;",
+            "    @Field(\"name\") public String title;",
+            "    @Field(\"note\") public String note;",
+            "    @Field(\"code\") public String codeText;",
+            "    @Field(\"code\") public long code;",
+            "}"),
+
+    TRACK("Track",
+            "import io.dominikschulz.slimorm.ColumnType;",
+            "import io.dominikschulz.slimorm.Field;",
+            "import io.dominikschulz.slimorm.Index;",
+            "import io.dominikschulz.slimorm.PrimaryKey;",
+            "import io.dominikschulz.slimorm.Table;",
+            "@Table(name = \"track\", indices = {",
+            "        @Index(columns = {\"album\", \"position\"}, unique = true),",
+            "        @Index(name = \"track_rated\", columns = \"rating\", where = \"rating IS NOT NULL\")",
+            "})",
+            "public class Track {",
+            "    @PrimaryKey(autoIncrement = true) @Field(\"id\") public long id;",
+            "    @Field(\"album\") public int album;",
+            "    @Field(\"position\") public short position;",
+            "    @ColumnType(\"TEXT NOT NULL\") @Field(\"title\") public String title;",
+            "    @Field(\"rating\") public Float rating;",
+            "    @Field(\"cover\") public byte[] cover;",
+            "    @Field(\"explicit\") public boolean explicit;",
+            "}"),
+
+    /**
+     * Order and its package private Receipt, two POJOs in one source file
+     */
+    ORDER("Order",
+            "import io.dominikschulz.slimorm.ColumnName;",
+            "import io.dominikschulz.slimorm.Field;",
+            "import io.dominikschulz.slimorm.PojoCreator;",
+            "import io.dominikschulz.slimorm.PrimaryKey;",
+            "import io.dominikschulz.slimorm.Projection;",
+            "import io.dominikschulz.slimorm.Table;",
+            "@Table(name = \"orders\")",
+            "@Projection(name = \"summary\", columns = {\"id\"})",
+            "public class Order {",
+            "    @PrimaryKey @Field(\"id\") public long id;",
+            "    @Field(\"total\") public double total;",
+            "}",
+            "class Receipt {",
+            "    private final long id;",
+            "    private String printer;",
+            "    @PojoCreator Receipt(@ColumnName(\"id\") long id) { this.id = id; }",
+            "    @Field(\"id\") public long getId() { return id; }",
+            "    @Field(\"printer\") public void setPrinter(String printer) { this.printer = printer; }",
+            "    @Field(\"printer\") public String getPrinter() { return printer; }",
+            "}");
+
+    private final String simpleName;
+    private final String source;
+
+    SamplePojo(String simpleName, String... lines) {
+        this.simpleName = simpleName;
+        final StringBuilder source = new StringBuilder("package sample;\n");
+        for (String line : lines) {
+            source.append(line).append('\n');
+        }
+        this.source = source.toString();
+    }
+
+    public String getSimpleName() {
+        return simpleName;
+    }
+
+    public String getSource() {
+        return source;
+    }
+}
@@ -0,0 +1,30 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Before;
+import org.junit.Rule;
+
+/**
+ * Compiles one {@link SamplePojo} before every test and loads the POJO and its converter
+ */
+public abstract class SamplePojoFixture {
+
+    @Rule
+    public final SampleCompiler compiler = new SampleCompiler();
+
+    private final SamplePojo sample;
+
+    protected ClassLoader classLoader;
+    protected Class<?> pojoType;
+    protected Class<?> converterType;
+
+    protected SamplePojoFixture(SamplePojo sample) {
+        this.sample = sample;
+    }
+
+    @Before
+    public void compileSample() throws Exception {
+        classLoader = compiler.compile(sample);
+        pojoType = classLoader.loadClass("sample." + sample.getSimpleName());
+        converterType = classLoader.loadClass("sample." + sample.getSimpleName() + "Converter");
+    }
+}
@@ -0,0 +1,82 @@
+package io.dominikschulz.slimorm;
+
+import android.database.sqlite.SQLiteDatabase;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static io.dominikschulz.slimorm.SampleCompiler.call;
+import static io.dominikschulz.slimorm.SampleCompiler.get;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies the DDL of the {@code <Pojo>Schema} generated for {@link Table}
+ */
+public class SchemaTest extends SamplePojoFixture {
+
+    public SchemaTest() {
+        super(SamplePojo.TRACK);
+    }
+
+    @Test
+    public void columnTypesAreDerivedFromTheMembers() throws Exception {
+        final Class<?> schemaType = classLoader.loadClass("sample.TrackSchema");
+
+        assertEquals("track", get(schemaType, "TABLE"));
+        assertEquals("CREATE TABLE track (id INTEGER PRIMARY KEY AUTOINCREMENT, album INTEGER, position INTEGER, "
+                + "title TEXT NOT NULL, rating REAL, cover BLOB, explicit INTEGER)", get(schemaType, "CREATE_TABLE"));
+    }
+
+    @Test
+    public void createExecutesTheTableAndItsIndices() throws Throwable {
+        final Class<?> schemaType = classLoader.loadClass("sample.TrackSchema");
+        final SQLiteDatabase db = new SQLiteDatabase();
+
+        call(schemaType, "create", db);
+
+        assertEquals(Arrays.asList(
+                get(schemaType, "CREATE_TABLE"),
+                "CREATE UNIQUE INDEX IF NOT EXISTS index_track_album_position ON track (album, position)",
+                "CREATE INDEX IF NOT EXISTS track_rated ON track (rating) WHERE rating IS NOT NULL"), db.getExecutions());
+    }
+
+    @Test
+    public void createIndicesOnlyCreatesIndices() throws Throwable {
+        final Class<?> schemaType = classLoader.loadClass("sample.TrackSchema");
+        final SQLiteDatabase db = new SQLiteDatabase();
+
+        call(schemaType, "createIndices", db);
+
+        assertEquals(Arrays.asList((String[]) call(schemaType, "getCreateIndices")), db.getExecutions());
+    }
+
+    @Test
+    public void unknownIndexColumnIsAnError() throws Exception {
+        final String errors = compiler.compileWithErrors("Broken", "package sample;\n"
+                + "import io.dominikschulz.slimorm.Field;\n"
+                + "import io.dominikschulz.slimorm.Index;\n"
+                + "import io.dominikschulz.slimorm.Table;\n"
+                + "@Table(name = \"broken\", indices = @Index(columns = \"missing\"))\n"
+                + "public class Broken {\n"
+                + "    @Field(\"id\") public long id;\n"
+                + "}\n");
+
+        assertTrue(errors, errors.contains("contains the unknown column missing"));
+    }
+
+    @Test
+    public void duplicateIndexIsAnError() throws Exception {
+        final String errors = compiler.compileWithErrors("Broken", "package sample;\n"
+                + "import io.dominikschulz.slimorm.Field;\n"
+                + "import io.dominikschulz.slimorm.Index;\n"
+                + "import io.dominikschulz.slimorm.Table;\n"
+                + "@Table(name = \"broken\", indices = {@Index(columns = \"id\"), @Index(columns = \"id\", unique = true)})\n"
+                + "public class Broken {\n"
+                + "    @Field(\"id\") public long id;\n"
+                + "}\n");
+
+        assertTrue(errors, errors.contains("declares the index index_broken_id twice"));
+    }
+}
@@ -0,0 +1,85 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static io.dominikschulz.slimorm.SampleCompiler.call;
+import static io.dominikschulz.slimorm.SampleCompiler.field;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Reads a column mapped to several members once per row and converts the value for every member
+ */
+public class SharedColumnTest extends SamplePojoFixture {
+
+    private static final String[] COLUMNS = {"flags", "port", "name", "note", "code"};
+
+    public SharedColumnTest() {
+        super(SamplePojo.DEVICE);
+    }
+
+    @Test
+    public void everyMemberGetsTheConvertedValue() throws Throwable {
+        final ArrayCursor cursor = new ArrayCursor(COLUMNS, new Object[][]{
+                {1L, 80L, "router", "a", 42L},
+                {null, null, null, null, 7L},
+                {2L, 443L, "proxy", "b", 0L}});
+
+        final List<?> devices = (List<?>) call(converterType, "parseToList", cursor);
+
+        assertEquals(1, field(devices.get(0), "flags"));
+        assertEquals(true, field(devices.get(0), "enabled"));
+        assertEquals(1L, field(devices.get(0), "boxedFlags"));
+        assertEquals("router", field(devices.get(0), "name"));
+        assertEquals("router", field(devices.get(0), "title"));
+
+        assertEquals(0, field(devices.get(1), "flags"));
+        assertEquals(false, field(devices.get(1), "enabled"));
+        assertNull(field(devices.get(1), "boxedFlags"));
+        assertNull(field(devices.get(1), "title"));
+
+        assertEquals(2, field(devices.get(2), "flags"));
+        assertEquals(false, field(devices.get(2), "enabled"));
+        assertEquals(2L, field(devices.get(2), "boxedFlags"));
+    }
+
+    @Test
+    public void sharedColumnsAreReadLikeASingleMember() throws Throwable {
+        final ArrayCursor cursor = new ArrayCursor(COLUMNS, new Object[][]{
+                {1L, 80L, "router", "a", 42L},
+                {null, null, null, null, 7L}});
+
+        call(converterType, "parseToList", cursor);
+
+        // Three members share flags, one boxed member reads port
+        assertEquals(cursor.getReads("port"), cursor.getReads("flags"));
+        // Two members share name, one member reads note
+        assertEquals(cursor.getReads("note"), cursor.getReads("name"));
+    }
+
+    @Test
+    public void membersOfIncompatibleTypesReadTheColumnThemselves() throws Throwable {
+        final ArrayCursor cursor = new ArrayCursor(COLUMNS, new Object[][]{{1L, 80L, "router", "a", 42L}});
+
+        final List<?> devices = (List<?>) call(converterType, "parseToList", cursor);
+
+        assertEquals("42", field(devices.get(0), "codeText"));
+        assertEquals(42L, field(devices.get(0), "code"));
+        assertEquals(cursor.getReads("note") + 1, cursor.getReads("code"));
+    }
+
+    @Test
+    public void columnarConversionReadsSharedColumnsOnce() throws Throwable {
+        final ArrayCursor cursor = new ArrayCursor(COLUMNS, new Object[][]{
+                {1L, 80L, "router", "a", 42L},
+                {null, null, null, null, 7L}});
+
+        final Object columns = call(converterType, "parseToColumns", cursor);
+
+        assertEquals(true, ((boolean[]) field(columns, "enabled"))[0]);
+        assertEquals(false, ((boolean[]) field(columns, "enabled"))[1]);
+        assertEquals(cursor.getReads("port"), cursor.getReads("flags"));
+    }
+}
@@ -0,0 +1,106 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.dominikschulz.slimorm.SampleCompiler.field;
+import static io.dominikschulz.slimorm.SampleCompiler.get;
+import static io.dominikschulz.slimorm.SampleCompiler.newRow;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Encodes rows with the generated {@code SNAPSHOT_CODEC} and decodes them again
+ */
+public class SnapshotCodecTest {
+
+    @Rule
+    public final SampleCompiler compiler = new SampleCompiler();
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void fieldsRoundTrip() throws Exception {
+        final ClassLoader classLoader = compiler.compile(SamplePojo.WIDE);
+        final Class<?> pojoType = classLoader.loadClass("sample.Wide");
+        final SnapshotCodec<Object> codec = (SnapshotCodec<Object>) get(classLoader.loadClass("sample.WideConverter"), "SNAPSHOT_CODEC");
+
+        final ByteBuffer buffer = ByteBuffer.allocate(256);
+        codec.writeTo(buffer, newRow(pojoType, "id", 1L << 40, "anInt", -3, "aShort", (short) 7, "aBoolean", true,
+                "aFloat", 0.5f, "aDouble", 2.25, "boxedInt", 12, "text", "kPa", "blob", new byte[]{4, 2}));
+        codec.writeTo(buffer, newRow(pojoType, "id", 2L));
+        buffer.flip();
+
+        final Object first = codec.readFrom(buffer);
+        assertEquals(1L << 40, field(first, "id"));
+        assertEquals(-3, field(first, "anInt"));
+        assertEquals((short) 7, field(first, "aShort"));
+        assertEquals(true, field(first, "aBoolean"));
+        assertEquals(0.5f, field(first, "aFloat"));
+        assertEquals(2.25, field(first, "aDouble"));
+        assertEquals(12, field(first, "boxedInt"));
+        assertEquals("kPa", field(first, "text"));
+        assertArrayEquals(new byte[]{4, 2}, (byte[]) field(first, "blob"));
+
+        final Object second = codec.readFrom(buffer);
+        assertEquals(2L, field(second, "id"));
+        assertNull(field(second, "boxedInt"));
+        assertNull(field(second, "boxedBoolean"));
+        assertNull(field(second, "text"));
+        assertNull(field(second, "blob"));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void constructorPojosRoundTripThroughTheStore() throws Exception {
+        final ClassLoader classLoader = compiler.compile(SamplePojo.LABEL);
+        final Class<?> pojoType = classLoader.loadClass("sample.Label");
+        final SnapshotCodec<Object> codec = (SnapshotCodec<Object>) get(classLoader.loadClass("sample.LabelConverter"), "SNAPSHOT_CODEC");
+        final SnapshotStore store = new SnapshotStore(temporaryFolder.getRoot());
+
+        store.write("labels", Arrays.asList(
+                pojoType.getConstructor(String.class, Long.class).newInstance("red", 0xff0000L),
+                pojoType.getConstructor(String.class, Long.class).newInstance(null, null)), codec);
+        final List<Object> labels = store.read("labels", codec);
+
+        assertEquals(2, labels.size());
+        assertEquals("red", pojoType.getMethod("getText").invoke(labels.get(0)));
+        assertEquals(0xff0000L, pojoType.getMethod("getColor").invoke(labels.get(0)));
+        assertNull(pojoType.getMethod("getText").invoke(labels.get(1)));
+        assertNull(pojoType.getMethod("getColor").invoke(labels.get(1)));
+    }
+
+    @Test(expected = BufferUnderflowException.class)
+    @SuppressWarnings("unchecked")
+    public void corruptedLengthIsRejected() throws Exception {
+        final ClassLoader classLoader = compiler.compile(SamplePojo.LABEL);
+        final SnapshotCodec<Object> codec = (SnapshotCodec<Object>) get(classLoader.loadClass("sample.LabelConverter"), "SNAPSHOT_CODEC");
+
+        final ByteBuffer buffer = ByteBuffer.allocate(32);
+        // No nulls, then the length of the text
+        buffer.putLong(0L).putInt(1 << 30).putLong(0L);
+        buffer.flip();
+
+        codec.readFrom(buffer);
+    }
+
+    @Test
+    public void layoutChangesWithTheMembers() throws Exception {
+        final Object wideLayout = ((SnapshotCodec<?>) get(compiler.compileConverter(SamplePojo.WIDE), "SNAPSHOT_CODEC")).layout();
+        final Object labelLayout = ((SnapshotCodec<?>) get(compiler.compileConverter(SamplePojo.LABEL), "SNAPSHOT_CODEC")).layout();
+
+        assertNotEquals(wideLayout, labelLayout);
+    }
+}
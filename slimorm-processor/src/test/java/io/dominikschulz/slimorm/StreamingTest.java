@@ -0,0 +1,101 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static io.dominikschulz.slimorm.SampleCompiler.call;
+import static io.dominikschulz.slimorm.SampleCompiler.field;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Converts rows one at a time with {@code parseForEach} and {@code parseToIterable}
+ */
+public class StreamingTest extends SamplePojoFixture {
+
+    private ArrayCursor cursor;
+
+    public StreamingTest() {
+        super(SamplePojo.NOTE);
+    }
+
+    @Before
+    public void setUp() {
+        cursor = new ArrayCursor(new String[]{"id", "title"}, new Object[][]{{1L, "intro"}, {2L, "verse"}, {3L, "outro"}});
+    }
+
+    @Test
+    public void forEachPassesEveryRowInOrder() throws Throwable {
+        final List<Object> titles = new ArrayList<>();
+
+        call(converterType, "parseForEach", cursor, new RowConsumer<Object>() {
+            @Override
+            public void accept(Object row) {
+                try {
+                    titles.add(field(row, "title"));
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            }
+        });
+
+        assertEquals(Arrays.<Object>asList("intro", "verse", "outro"), titles);
+        assertEquals(2, cursor.getColumnLookups());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void iterableConvertsOneRowPerStep() throws Throwable {
+        final RowIterator<Object> rows = (RowIterator<Object>) call(converterType, "parseToIterable", cursor);
+
+        assertTrue(rows.hasNext());
+        assertTrue(rows.hasNext());
+        assertEquals(0, cursor.getReads("title"));
+        assertEquals(1L, field(rows.next(), "id"));
+        final int readsPerRow = cursor.getReads("title");
+        assertTrue(readsPerRow > 0);
+
+        final List<Object> ids = new ArrayList<>();
+        for (Object row : rows) {
+            ids.add(field(row, "id"));
+        }
+        assertEquals(Arrays.<Object>asList(2L, 3L), ids);
+        assertFalse(rows.hasNext());
+        assertEquals(3 * readsPerRow, cursor.getReads("title"));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    @SuppressWarnings("unchecked")
+    public void nextAfterTheLastRowFails() throws Throwable {
+        final RowIterator<Object> rows = (RowIterator<Object>) call(converterType, "parseToIterable",
+                new ArrayCursor(new String[]{"id", "title"}, new Object[0][]));
+
+        rows.next();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void closingTheIterableClosesTheCursor() throws Throwable {
+        final RowIterator<Object> rows = (RowIterator<Object>) call(converterType, "parseToIterable", cursor);
+        rows.next();
+
+        rows.close();
+
+        assertTrue(cursor.isClosed());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    @SuppressWarnings("unchecked")
+    public void rowsCanNotBeRemoved() throws Throwable {
+        final RowIterator<Object> rows = (RowIterator<Object>) call(converterType, "parseToIterable", cursor);
+        rows.next();
+
+        rows.remove();
+    }
+}
@@ -0,0 +1,78 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static io.dominikschulz.slimorm.SampleCompiler.call;
+import static io.dominikschulz.slimorm.SampleCompiler.field;
+import static io.dominikschulz.slimorm.SampleCompiler.get;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Reads the columns of a strict projection by their declared position after checking the layout once per cursor
+ */
+public class StrictProjectionTest extends SamplePojoFixture {
+
+    private Class<?> rowConverterType;
+
+    public StrictProjectionTest() {
+        super(SamplePojo.VIDEO);
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        rowConverterType = classLoader.loadClass("sample.VideoRowConverter");
+    }
+
+    @Test
+    public void constantListsTheColumnsInTheDeclaredOrder() throws Exception {
+        assertArrayEquals(new String[]{"title", "id", "views", "hd"},
+                (String[]) get(classLoader.loadClass("sample.VideoConverter"), "PROJECTION_ROW"));
+    }
+
+    @Test
+    public void columnsAreReadByPosition() throws Throwable {
+        final ArrayCursor cursor = new ArrayCursor(new String[]{"title", "id", "views", "hd", "description"}, new Object[][]{
+                {"intro", 1L, 120, 1L, "skipped"},
+                {"outro", 2L, null, 0L, "skipped"}});
+
+        final List<?> videos = (List<?>) call(rowConverterType, "parseToList", cursor);
+
+        assertEquals("intro", field(videos.get(0), "title"));
+        assertEquals(1L, field(videos.get(0), "id"));
+        assertEquals(120, field(videos.get(0), "views"));
+        assertEquals(true, field(videos.get(0), "hd"));
+        assertNull(field(videos.get(1), "views"));
+        assertEquals(false, field(videos.get(1), "hd"));
+        // Columns after the projection are allowed but never read
+        assertNull(field(videos.get(0), "description"));
+        assertEquals(0, cursor.getReads("description"));
+        assertEquals(0, cursor.getColumnLookups());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cursorWithAnotherOrderIsRejected() throws Throwable {
+        call(rowConverterType, "parseToList", new ArrayCursor(new String[]{"id", "title", "views", "hd"}, new Object[][]{{1L, "intro", 1, 0L}}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cursorWithFewerColumnsIsRejected() throws Throwable {
+        call(rowConverterType, "parseToList", new ArrayCursor(new String[]{"title", "id"}, new Object[0][]));
+    }
+
+    @Test
+    public void singleRowsAreReadWithTheCheckedLayout() throws Throwable {
+        final ArrayCursor cursor = new ArrayCursor(new String[]{"title", "id", "views", "hd"}, new Object[][]{{"intro", 1L, 7, 1L}});
+        final int[] columnIndices = (int[]) call(rowConverterType, "resolveColumnIndices", cursor);
+
+        cursor.moveToFirst();
+        final Object video = call(rowConverterType, "parseToSingleRow", cursor, columnIndices);
+
+        assertArrayEquals(new int[]{0, 1, 2, 3}, columnIndices);
+        assertEquals(7, field(video, "views"));
+    }
+}
@@ -0,0 +1,54 @@
+package io.dominikschulz.slimorm.queryplan;
+
+/**
+ * A step of a query plan which gets slower with every row of the table
+ */
+public class QueryPlanIssue {
+
+    public enum Kind {
+        /**
+         * The query reads every row of a table or index, e.g. {@code SCAN TABLE person}
+         */
+        FULL_SCAN,
+        /**
+         * The rows are sorted or grouped in a temporary b-tree, e.g. {@code USE TEMP B-TREE FOR ORDER BY}
+         */
+        TEMP_B_TREE
+    }
+
+    private final String queryName;
+    private final String sql;
+    private final Kind kind;
+    private final String detail;
+
+    public QueryPlanIssue(String queryName, String sql, Kind kind, String detail) {
+        this.queryName = queryName;
+        this.sql = sql;
+        this.kind = kind;
+        this.detail = detail;
+    }
+
+    public String getQueryName() {
+        return queryName;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return the step of the query plan as reported by SQLite
+     */
+    public String getDetail() {
+        return detail;
+    }
+
+    @Override
+    public String toString() {
+        return queryName + ": " + kind + " (" + detail + ") in " + sql;
+    }
+}
@@ -0,0 +1,150 @@
+package io.dominikschulz.slimorm.queryplan;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Creates the declared schema in an in-memory SQLite database and runs {@code EXPLAIN QUERY PLAN} for every declared query.
+ * Queries which scan a whole table or sort in a temporary b-tree are reported, so a unit test can fail before
+ * an unindexed query is shipped. The schema usually comes from the generated {@code <Pojo>Schema} classes:
+ * <pre>
+ * new QueryPlanVerifier()
+ *         .addTable(PersonSchema.CREATE_TABLE, PersonSchema.getCreateIndices())
+ *         .addQuery("byEmail", "SELECT * FROM person WHERE email = ?")
+ *         .assertNoIssues();
+ * </pre>
+ */
+public class QueryPlanVerifier {
+
+    private static final String IN_MEMORY_DATABASE = "jdbc:sqlite::memory:";
+
+    private final List<String> schemaStatements = new ArrayList<>();
+    private final List<DeclaredQuery> queries = new ArrayList<>();
+
+    /**
+     * @param createTable statement creating the table
+     * @param createIndices statements creating the indices of the table
+     */
+    public QueryPlanVerifier addTable(String createTable, String... createIndices) {
+        schemaStatements.add(createTable);
+        schemaStatements.addAll(Arrays.asList(createIndices));
+        return this;
+    }
+
+    /**
+     * Adds a query to verify, parameters may be left as {@code ?}
+     *
+     * @param name reported together with the issues of the query
+     * @param allowedIssues kinds of issues which are expected for this query and not reported
+     */
+    public QueryPlanVerifier addQuery(String name, String sql, QueryPlanIssue.Kind... allowedIssues) {
+        final Set<QueryPlanIssue.Kind> allowed = EnumSet.noneOf(QueryPlanIssue.Kind.class);
+        allowed.addAll(Arrays.asList(allowedIssues));
+        queries.add(new DeclaredQuery(name, sql, allowed));
+        return this;
+    }
+
+    /**
+     * @return the issues of all queries in the order the queries were added
+     * @throws SQLException if the schema or a query is invalid
+     */
+    public List<QueryPlanIssue> verify() throws SQLException {
+        final List<QueryPlanIssue> issues = new ArrayList<>();
+
+        try (Connection connection = DriverManager.getConnection(IN_MEMORY_DATABASE)) {
+            try (Statement statement = connection.createStatement()) {
+                for (String schemaStatement : schemaStatements) {
+                    statement.execute(schemaStatement);
+                }
+            }
+
+            for (DeclaredQuery query : queries) {
+                for (String detail : explain(connection, query.sql)) {
+                    final QueryPlanIssue.Kind kind = classify(detail);
+                    if (kind != null && !query.allowedIssues.contains(kind)) {
+                        issues.add(new QueryPlanIssue(query.name, query.sql, kind, detail));
+                    }
+                }
+            }
+        }
+
+        return issues;
+    }
+
+    /**
+     * @throws AssertionError listing every issue if at least one query has an issue
+     * @throws SQLException if the schema or a query is invalid
+     */
+    public void assertNoIssues() throws SQLException {
+        final List<QueryPlanIssue> issues = verify();
+        if (issues.isEmpty()) {
+            return;
+        }
+
+        final StringBuilder message = new StringBuilder().append(issues.size()).append(" query plan issues:");
+        for (QueryPlanIssue issue : issues) {
+            message.append("\n  ").append(issue);
+        }
+        throw new AssertionError(message.toString());
+    }
+
+    /**
+     * @return the detail column of every step of the query plan
+     */
+    private static List<String> explain(Connection connection, String sql) throws SQLException {
+        final List<String> details = new ArrayList<>();
+
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN QUERY PLAN " + sql)) {
+            // The plan does not depend on the values, unbound parameters are not accepted by the driver though
+            final ParameterMetaData parameters = statement.getParameterMetaData();
+            for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                statement.setNull(i, Types.NULL);
+            }
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    details.add(resultSet.getString("detail"));
+                }
+            }
+        }
+
+        return details;
+    }
+
+    /**
+     * Older SQLite versions report {@code SCAN TABLE person}, newer ones {@code SCAN person}
+     *
+     * @return kind of the issue or null if the step does not depend on the size of a table
+     */
+    static QueryPlanIssue.Kind classify(String detail) {
+        if (detail.startsWith("SCAN ") && !detail.equals("SCAN CONSTANT ROW")) {
+            return QueryPlanIssue.Kind.FULL_SCAN;
+        } else if (detail.contains("USE TEMP B-TREE")) {
+            return QueryPlanIssue.Kind.TEMP_B_TREE;
+        }
+        return null;
+    }
+
+    private static class DeclaredQuery {
+        private final String name;
+        private final String sql;
+        private final Set<QueryPlanIssue.Kind> allowedIssues;
+
+        DeclaredQuery(String name, String sql, Set<QueryPlanIssue.Kind> allowedIssues) {
+            this.name = name;
+            this.sql = sql;
+            this.allowedIssues = allowedIssues;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.dominikschulz.slimorm.queryplan;
+
+import io.dominikschulz.slimorm.Field;
+import io.dominikschulz.slimorm.Index;
+import io.dominikschulz.slimorm.PrimaryKey;
+import io.dominikschulz.slimorm.Table;
+
+@Table(name = "message", indices = {
+        @Index(columns = {"thread", "sent"}),
+        @Index(name = "index_message_unread", columns = {"thread"}, where = "unread = 1")
+})
+public class Message {
+
+    @PrimaryKey
+    @Field("_id")
+    long id;
+
+    @Field("thread")
+    long thread;
+
+    @Field("sent")
+    long sent;
+
+    @Field("body")
+    String body;
+
+    @Field("unread")
+    boolean unread;
+}
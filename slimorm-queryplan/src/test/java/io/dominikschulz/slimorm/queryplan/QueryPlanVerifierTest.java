@@ -0,0 +1,79 @@
+package io.dominikschulz.slimorm.queryplan;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Verifies the queries on the generated schema of {@link Message}
+ */
+public class QueryPlanVerifierTest {
+
+    private static QueryPlanVerifier messageVerifier() {
+        return new QueryPlanVerifier().addTable(MessageSchema.CREATE_TABLE, MessageSchema.getCreateIndices());
+    }
+
+    @Test
+    public void indexedQueriesHaveNoIssues() throws SQLException {
+        messageVerifier()
+                .addQuery("byId", "SELECT * FROM message WHERE _id = ?")
+                .addQuery("threadBySent", "SELECT * FROM message WHERE thread = ? ORDER BY sent")
+                .addQuery("unreadOfThread", "SELECT _id FROM message WHERE thread = ? AND unread = 1")
+                .assertNoIssues();
+    }
+
+    @Test
+    public void unindexedColumnIsAFullScan() throws SQLException {
+        final List<QueryPlanIssue> issues = messageVerifier()
+                .addQuery("byBody", "SELECT * FROM message WHERE body = ?")
+                .verify();
+
+        assertEquals(1, issues.size());
+        assertEquals("byBody", issues.get(0).getQueryName());
+        assertEquals(QueryPlanIssue.Kind.FULL_SCAN, issues.get(0).getKind());
+    }
+
+    @Test
+    public void unindexedOrderUsesTempBTree() throws SQLException {
+        final List<QueryPlanIssue> issues = messageVerifier()
+                .addQuery("threadByBody", "SELECT * FROM message WHERE thread = ? ORDER BY body")
+                .verify();
+
+        assertEquals(1, issues.size());
+        assertEquals(QueryPlanIssue.Kind.TEMP_B_TREE, issues.get(0).getKind());
+    }
+
+    @Test
+    public void allowedIssuesAreNotReported() throws SQLException {
+        messageVerifier()
+                .addQuery("all", "SELECT * FROM message ORDER BY body", QueryPlanIssue.Kind.FULL_SCAN, QueryPlanIssue.Kind.TEMP_B_TREE)
+                .assertNoIssues();
+    }
+
+    @Test
+    public void assertNoIssuesListsTheQueries() throws SQLException {
+        try {
+            messageVerifier()
+                    .addQuery("byBody", "SELECT * FROM message WHERE body = ?")
+                    .assertNoIssues();
+            fail();
+        } catch (AssertionError e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("byBody: FULL_SCAN"));
+        }
+    }
+
+    @Test
+    public void classifiesBothPlanFormats() {
+        assertEquals(QueryPlanIssue.Kind.FULL_SCAN, QueryPlanVerifier.classify("SCAN TABLE message"));
+        assertEquals(QueryPlanIssue.Kind.FULL_SCAN, QueryPlanVerifier.classify("SCAN message USING COVERING INDEX index_message_thread_sent"));
+        assertEquals(QueryPlanIssue.Kind.TEMP_B_TREE, QueryPlanVerifier.classify("USE TEMP B-TREE FOR ORDER BY"));
+        assertNull(QueryPlanVerifier.classify("SEARCH TABLE message USING INDEX index_message_thread_sent (thread=?)"));
+        assertNull(QueryPlanVerifier.classify("SCAN CONSTANT ROW"));
+    }
+}
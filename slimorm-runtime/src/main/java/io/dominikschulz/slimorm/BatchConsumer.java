@@ -0,0 +1,12 @@
+package io.dominikschulz.slimorm;
+
+import java.util.List;
+
+/**
+ * Receives the converted rows of a cursor in batches. {@code forEachBatch} of the converters clears and reuses
+ * the {@code batch} list after {@link #accept(List)} returns, so copy it if the rows are needed later.
+ * {@link PipelinedLoader} passes a new list for every batch.
+ */
+public interface BatchConsumer<T> {
+    void accept(List<T> batch);
+}
@@ -0,0 +1,57 @@
+package io.dominikschulz.slimorm;
+
+import android.database.sqlite.SQLiteDoneException;
+import android.database.sqlite.SQLiteStatement;
+import android.os.ParcelFileDescriptor;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Copies blobs selected by a statement into buffers of the caller, used by the generated {@code @DeferredBlob} methods.
+ * The blob is passed through a shared memory file descriptor, unlike {@code Cursor.getBlob} no {@code byte[]} is
+ * allocated, a direct {@code ByteBuffer} keeps the blob off the heap entirely.
+ */
+public final class BlobBuffers {
+
+    private BlobBuffers() {
+    }
+
+    /**
+     * Copies the blob selected by the bound {@code statement} at the position of {@code target}
+     *
+     * @return length of the blob or {@code -1} if the value is null or there is no row
+     * @throws BufferOverflowException if the blob does not fit into the remaining {@code target},
+     *                                 which then contains its beginning
+     */
+    public static int copyTo(SQLiteStatement statement, ByteBuffer target) throws IOException {
+        final ParcelFileDescriptor descriptor;
+        try {
+            descriptor = statement.simpleQueryForBlobFileDescriptor();
+        } catch (SQLiteDoneException e) {
+            return -1;
+        }
+        if (descriptor == null) {
+            return -1;
+        }
+
+        final FileInputStream input = new ParcelFileDescriptor.AutoCloseInputStream(descriptor);
+        try {
+            final FileChannel channel = input.getChannel();
+            int length = 0;
+            int read;
+            while (target.hasRemaining() && (read = channel.read(target)) >= 0) {
+                length += read;
+            }
+            if (!target.hasRemaining() && input.read() >= 0) {
+                throw new BufferOverflowException();
+            }
+            return length;
+        } finally {
+            input.close();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.dominikschulz.slimorm;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Length prefixed strings and blobs shared by the generated snapshot codecs, null values are kept in the null bitmap
+ * of the row and never passed here
+ */
+public final class BufferCodecs {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private BufferCodecs() {
+    }
+
+    public static void putString(ByteBuffer buffer, String value) {
+        putBlob(buffer, value.getBytes(UTF_8));
+    }
+
+    /**
+     * @throws BufferUnderflowException if the length prefix does not fit into the remaining {@code buffer}
+     */
+    public static String getString(ByteBuffer buffer) {
+        return new String(getBlob(buffer), UTF_8);
+    }
+
+    public static void putBlob(ByteBuffer buffer, byte[] value) {
+        buffer.putInt(value.length);
+        buffer.put(value);
+    }
+
+    /**
+     * @throws BufferUnderflowException if the length prefix does not fit into the remaining {@code buffer}
+     */
+    public static byte[] getBlob(ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        // A corrupted prefix must not allocate more than the buffer can hold
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        final byte[] value = new byte[length];
+        buffer.get(value);
+        return value;
+    }
+}
@@ -0,0 +1,51 @@
+package io.dominikschulz.slimorm;
+
+import java.util.Arrays;
+
+/**
+ * Null safe comparisons used by the generated diff methods to find the changed columns
+ */
+public final class Changes {
+
+    private Changes() {
+    }
+
+    public static boolean changed(Object before, Object after) {
+        return before != after && (before == null || !before.equals(after));
+    }
+
+    /**
+     * Compares the content, not the reference, of the arrays
+     */
+    public static boolean changed(byte[] before, byte[] after) {
+        return before != after && !Arrays.equals(before, after);
+    }
+
+    /**
+     * Lazies of the same row are unchanged without loading them, other values are loaded and compared
+     */
+    public static boolean changed(Lazy<?> before, Lazy<?> after) {
+        if (before == after) {
+            return false;
+        } else if (before == null || after == null) {
+            return true;
+        } else if (before.isSameRow(after)) {
+            return false;
+        }
+
+        final Object beforeValue = before.get();
+        final Object afterValue = after.get();
+        if (beforeValue instanceof byte[] && afterValue instanceof byte[]) {
+            return changed((byte[]) beforeValue, (byte[]) afterValue);
+        }
+        return changed(beforeValue, afterValue);
+    }
+
+    public static boolean changed(float before, float after) {
+        return Float.compare(before, after) != 0;
+    }
+
+    public static boolean changed(double before, double after) {
+        return Double.compare(before, after) != 0;
+    }
+}
@@ -0,0 +1,162 @@
+package io.dominikschulz.slimorm;
+
+import android.database.Cursor;
+
+/**
+ * Read methods shared by all generated converters. A column index below zero means the column
+ * is missing in the cursor, primitives then read as {@code 0} or {@code false} and everything else as null.
+ * Converters used to declare these methods themselves, the column name variants replace calls like
+ * {@code PojoConverter.readString(cursor, "name")}.
+ */
+public final class CursorReads {
+
+    private CursorReads() {
+    }
+
+    /**
+     * Resolves the index of every column once, {@code -1} for columns missing in the {@code cursor}
+     */
+    public static int[] resolveColumnIndices(Cursor cursor, String[] columnNames) {
+        int[] columnIndices = new int[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            columnIndices[i] = cursor.getColumnIndex(columnNames[i]);
+        }
+        return columnIndices;
+    }
+
+    /**
+     * Checks once per cursor that it starts with the {@code columnNames} in the same order,
+     * converters of strict projections read the columns by their position afterwards
+     *
+     * @throws IllegalArgumentException if the column layout of the {@code cursor} differs
+     */
+    public static int[] requireColumnLayout(Cursor cursor, String[] columnNames) {
+        if (cursor.getColumnCount() < columnNames.length) {
+            throw new IllegalArgumentException("Expected at least " + columnNames.length + " columns but the cursor has " + cursor.getColumnCount());
+        }
+        int[] columnIndices = new int[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            if (!columnNames[i].equals(cursor.getColumnName(i))) {
+                throw new IllegalArgumentException("Expected column " + columnNames[i] + " at position " + i + " but was " + cursor.getColumnName(i));
+            }
+            columnIndices[i] = i;
+        }
+        return columnIndices;
+    }
+
+    public static int readInt(Cursor cursor, int columnIndex) {
+        return columnIndex >= 0 ? cursor.getInt(columnIndex) : 0;
+    }
+
+    public static float readFloat(Cursor cursor, int columnIndex) {
+        return columnIndex >= 0 ? cursor.getFloat(columnIndex) : 0;
+    }
+
+    public static double readDouble(Cursor cursor, int columnIndex) {
+        return columnIndex >= 0 ? cursor.getDouble(columnIndex) : 0;
+    }
+
+    public static short readShort(Cursor cursor, int columnIndex) {
+        return columnIndex >= 0 ? cursor.getShort(columnIndex) : 0;
+    }
+
+    public static long readLong(Cursor cursor, int columnIndex) {
+        return columnIndex >= 0 ? cursor.getLong(columnIndex) : 0;
+    }
+
+    public static boolean readBoolean(Cursor cursor, int columnIndex) {
+        return columnIndex >= 0 && cursor.getInt(columnIndex) == 1;
+    }
+
+    public static Integer readBoxedInt(Cursor cursor, int columnIndex) {
+        return isPresent(cursor, columnIndex) ? Integer.valueOf(cursor.getInt(columnIndex)) : null;
+    }
+
+    public static Float readBoxedFloat(Cursor cursor, int columnIndex) {
+        return isPresent(cursor, columnIndex) ? Float.valueOf(cursor.getFloat(columnIndex)) : null;
+    }
+
+    public static Double readBoxedDouble(Cursor cursor, int columnIndex) {
+        return isPresent(cursor, columnIndex) ? Double.valueOf(cursor.getDouble(columnIndex)) : null;
+    }
+
+    public static Short readBoxedShort(Cursor cursor, int columnIndex) {
+        return isPresent(cursor, columnIndex) ? Short.valueOf(cursor.getShort(columnIndex)) : null;
+    }
+
+    public static Long readBoxedLong(Cursor cursor, int columnIndex) {
+        return isPresent(cursor, columnIndex) ? Long.valueOf(cursor.getLong(columnIndex)) : null;
+    }
+
+    public static Boolean readBoxedBoolean(Cursor cursor, int columnIndex) {
+        return isPresent(cursor, columnIndex) ? Boolean.valueOf(cursor.getInt(columnIndex) == 1) : null;
+    }
+
+    public static String readString(Cursor cursor, int columnIndex) {
+        return isPresent(cursor, columnIndex) ? cursor.getString(columnIndex) : null;
+    }
+
+    public static byte[] readBlob(Cursor cursor, int columnIndex) {
+        return isPresent(cursor, columnIndex) ? cursor.getBlob(columnIndex) : null;
+    }
+
+    public static int readInt(Cursor cursor, String columnName) {
+        return readInt(cursor, cursor.getColumnIndex(columnName));
+    }
+
+    public static float readFloat(Cursor cursor, String columnName) {
+        return readFloat(cursor, cursor.getColumnIndex(columnName));
+    }
+
+    public static double readDouble(Cursor cursor, String columnName) {
+        return readDouble(cursor, cursor.getColumnIndex(columnName));
+    }
+
+    public static short readShort(Cursor cursor, String columnName) {
+        return readShort(cursor, cursor.getColumnIndex(columnName));
+    }
+
+    public static long readLong(Cursor cursor, String columnName) {
+        return readLong(cursor, cursor.getColumnIndex(columnName));
+    }
+
+    public static boolean readBoolean(Cursor cursor, String columnName) {
+        return readBoolean(cursor, cursor.getColumnIndex(columnName));
+    }
+
+    public static Integer readBoxedInt(Cursor cursor, String columnName) {
+        return readBoxedInt(cursor, cursor.getColumnIndex(columnName));
+    }
+
+    public static Float readBoxedFloat(Cursor cursor, String columnName) {
+        return readBoxedFloat(cursor, cursor.getColumnIndex(columnName));
+    }
+
+    public static Double readBoxedDouble(Cursor cursor, String columnName) {
+        return readBoxedDouble(cursor, cursor.getColumnIndex(columnName));
+    }
+
+    public static Short readBoxedShort(Cursor cursor, String columnName) {
+        return readBoxedShort(cursor, cursor.getColumnIndex(columnName));
+    }
+
+    public static Long readBoxedLong(Cursor cursor, String columnName) {
+        return readBoxedLong(cursor, cursor.getColumnIndex(columnName));
+    }
+
+    public static Boolean readBoxedBoolean(Cursor cursor, String columnName) {
+        return readBoxedBoolean(cursor, cursor.getColumnIndex(columnName));
+    }
+
+    public static String readString(Cursor cursor, String columnName) {
+        return readString(cursor, cursor.getColumnIndex(columnName));
+    }
+
+    public static byte[] readBlob(Cursor cursor, String columnName) {
+        return readBlob(cursor, cursor.getColumnIndex(columnName));
+    }
+
+    private static boolean isPresent(Cursor cursor, int columnIndex) {
+        return columnIndex >= 0 && !cursor.isNull(columnIndex);
+    }
+}
@@ -0,0 +1,88 @@
+package io.dominikschulz.slimorm;
+
+/**
+ * A large column value which is loaded by the primary key of its row the first time it is read.
+ * Converters fill {@code Lazy<byte[]>} and {@code Lazy<String>} members with {@link LazyColumn#forKey(long)},
+ * which captures the database and table the column is bound to at that time, new rows use {@link #of(Object)}.
+ */
+public final class Lazy<T> {
+
+    private final LazyColumn<T> column;
+    private final LazyColumn.Binding<T> binding;
+    private final long key;
+    private T value;
+    private boolean loaded;
+
+    Lazy(LazyColumn<T> column, LazyColumn.Binding<T> binding, long key) {
+        this.column = column;
+        this.binding = binding;
+        this.key = key;
+    }
+
+    private Lazy(T value) {
+        this.column = null;
+        this.binding = null;
+        this.key = 0;
+        this.value = value;
+        this.loaded = true;
+    }
+
+    /**
+     * @return loaded value which is not backed by a row, e.g. to insert it
+     */
+    public static <T> Lazy<T> of(T value) {
+        return new Lazy<>(value);
+    }
+
+    /**
+     * Used by the generated write methods
+     *
+     * @return the value of {@code lazy} or null if there is none
+     */
+    public static <T> T valueOf(Lazy<T> lazy) {
+        return lazy != null ? lazy.get() : null;
+    }
+
+    /**
+     * Loads the value with a single query if it is not loaded yet, {@link LazyColumn#loadAll(java.util.List)}
+     * loads the values of many rows at once
+     *
+     * @throws IllegalStateException if the column was not bound when the row was converted
+     */
+    public synchronized T get() {
+        if (!loaded) {
+            value = column.requireBinding(binding).load(key);
+            loaded = true;
+        }
+        return value;
+    }
+
+    public synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    public long getKey() {
+        return key;
+    }
+
+    synchronized void set(T value) {
+        this.value = value;
+        this.loaded = true;
+    }
+
+    LazyColumn.Binding<T> getBinding() {
+        return binding;
+    }
+
+    boolean isBackedBy(LazyColumn<?> column) {
+        return this.column == column;
+    }
+
+    /**
+     * @return true if both are backed by the same row, their values are the stored value
+     */
+    boolean isSameRow(Lazy<?> other) {
+        return column != null && column == other.column && key == other.key
+                && (binding == null ? other.binding == null : binding.isSameSource(other.binding));
+    }
+}
@@ -0,0 +1,247 @@
+package io.dominikschulz.slimorm;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteDoneException;
+import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteStatement;
+import android.os.ParcelFileDescriptor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads the values of a {@link Lazy} column, generated as {@code <Pojo>Converter.LAZY_<COLUMN>}.
+ * A column has to be bound to a database and table with {@link #bind(SQLiteDatabase, String)} before rows are converted,
+ * every {@link Lazy} keeps the binding of the time its row was converted.
+ * Single values are loaded with a compiled statement per binding which is reused until the column is bound again.
+ */
+public abstract class LazyColumn<T> {
+
+    /**
+     * Keys per batch query, below the limit of 999 variables of older SQLite versions
+     */
+    private static final int BATCH_SIZE = 500;
+
+    private final String columnName;
+    private final String keyColumnName;
+    private volatile Binding<T> binding;
+
+    protected LazyColumn(String columnName, String keyColumnName) {
+        this.columnName = columnName;
+        this.keyColumnName = keyColumnName;
+    }
+
+    public static LazyColumn<byte[]> blob(String columnName, String keyColumnName) {
+        return new LazyColumn<byte[]>(columnName, keyColumnName) {
+            @Override
+            protected byte[] query(SQLiteStatement statement) {
+                final ParcelFileDescriptor descriptor = statement.simpleQueryForBlobFileDescriptor();
+                if (descriptor == null) {
+                    return null;
+                }
+                final ByteArrayOutputStream output = new ByteArrayOutputStream();
+                final FileInputStream input = new ParcelFileDescriptor.AutoCloseInputStream(descriptor);
+                try {
+                    try {
+                        final byte[] buffer = new byte[8192];
+                        int read;
+                        while ((read = input.read(buffer)) >= 0) {
+                            output.write(buffer, 0, read);
+                        }
+                    } finally {
+                        input.close();
+                    }
+                } catch (IOException e) {
+                    throw new SQLiteException("Can not read the blob", e);
+                }
+                return output.toByteArray();
+            }
+
+            @Override
+            protected byte[] read(Cursor cursor, int columnIndex) {
+                return cursor.isNull(columnIndex) ? null : cursor.getBlob(columnIndex);
+            }
+        };
+    }
+
+    public static LazyColumn<String> text(String columnName, String keyColumnName) {
+        return new LazyColumn<String>(columnName, keyColumnName) {
+            @Override
+            protected String query(SQLiteStatement statement) {
+                return statement.simpleQueryForString();
+            }
+
+            @Override
+            protected String read(Cursor cursor, int columnIndex) {
+                return cursor.isNull(columnIndex) ? null : cursor.getString(columnIndex);
+            }
+        };
+    }
+
+    /**
+     * @return the value of the single column selected by the bound {@code statement}
+     * @throws SQLiteDoneException if there is no row
+     */
+    protected abstract T query(SQLiteStatement statement);
+
+    protected abstract T read(Cursor cursor, int columnIndex);
+
+    /**
+     * Lazies created before keep loading their values from the database and table they were created with
+     */
+    public synchronized void bind(SQLiteDatabase db, String table) {
+        if (db == null || table == null) {
+            throw new IllegalArgumentException("The lazy column " + columnName + " needs a database and a table");
+        }
+        final Binding<T> previous = binding;
+        binding = new Binding<>(this, db, table);
+        if (previous != null) {
+            previous.release();
+        }
+    }
+
+    /**
+     * @return the lazy value of the row with {@code key} in the database and table bound at the time of the call
+     */
+    public Lazy<T> forKey(long key) {
+        return new Lazy<>(this, binding, key);
+    }
+
+    /**
+     * Used by the generated converters
+     *
+     * @return the key of the current row
+     * @throws IllegalArgumentException if the key column is not selected, the lazy values could not be loaded
+     */
+    public static long readKey(Cursor cursor, int keyIndex) {
+        if (keyIndex < 0) {
+            throw new IllegalArgumentException("The key column has to be selected to read lazy columns");
+        }
+        return cursor.getLong(keyIndex);
+    }
+
+    /**
+     * Loads the values of all {@code lazies} of this column which are not loaded yet
+     * with one query per 500 rows of the same binding
+     */
+    public void loadAll(List<? extends Lazy<T>> lazies) {
+        final Map<Binding<T>, LongObjectMap<List<Lazy<T>>>> pendingByBinding = new IdentityHashMap<>(2);
+        for (Lazy<T> lazy : lazies) {
+            if (lazy == null || lazy.isLoaded() || !lazy.isBackedBy(this)) {
+                continue;
+            }
+            final Binding<T> lazyBinding = requireBinding(lazy.getBinding());
+            LongObjectMap<List<Lazy<T>>> pending = pendingByBinding.get(lazyBinding);
+            if (pending == null) {
+                pending = new LongObjectMap<>(lazies.size());
+                pendingByBinding.put(lazyBinding, pending);
+            }
+            List<Lazy<T>> sameKey = pending.get(lazy.getKey());
+            if (sameKey == null) {
+                sameKey = new ArrayList<>(1);
+                pending.put(lazy.getKey(), sameKey);
+            }
+            sameKey.add(lazy);
+        }
+
+        for (Map.Entry<Binding<T>, LongObjectMap<List<Lazy<T>>>> entry : pendingByBinding.entrySet()) {
+            loadAll(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void loadAll(Binding<T> binding, LongObjectMap<List<Lazy<T>>> pending) {
+        final SQLiteDatabase db = binding.db;
+        final String table = binding.table;
+        for (int start = 0; start < pending.size(); start += BATCH_SIZE) {
+            final int end = Math.min(start + BATCH_SIZE, pending.size());
+            final StringBuilder sql = new StringBuilder("SELECT ").append(keyColumnName).append(", ").append(columnName)
+                    .append(" FROM ").append(table).append(" WHERE ").append(keyColumnName).append(" IN (");
+            final String[] keys = new String[end - start];
+            for (int i = start; i < end; i++) {
+                sql.append(i == start ? "?" : ", ?");
+                keys[i - start] = String.valueOf(pending.keyAt(i));
+            }
+            sql.append(')');
+
+            final Cursor cursor = db.rawQuery(sql.toString(), keys);
+            try {
+                while (cursor.moveToNext()) {
+                    final List<Lazy<T>> sameKey = pending.get(cursor.getLong(0));
+                    if (sameKey != null) {
+                        final T value = read(cursor, 1);
+                        for (Lazy<T> lazy : sameKey) {
+                            lazy.set(value);
+                        }
+                    }
+                }
+            } finally {
+                cursor.close();
+            }
+
+            // Rows which were deleted in the meantime
+            for (int i = start; i < end; i++) {
+                for (Lazy<T> lazy : pending.valueAt(i)) {
+                    if (!lazy.isLoaded()) {
+                        lazy.set(null);
+                    }
+                }
+            }
+        }
+    }
+
+    Binding<T> requireBinding(Binding<T> binding) {
+        if (binding == null) {
+            throw new IllegalStateException("Bind the lazy column " + columnName + " to a database before converting the rows");
+        }
+        return binding;
+    }
+
+    /**
+     * Database and table which the lazies of a column were created with, it never changes
+     */
+    static final class Binding<T> {
+        private final LazyColumn<T> column;
+        private final SQLiteDatabase db;
+        private final String table;
+        private SQLiteStatement statement;
+
+        Binding(LazyColumn<T> column, SQLiteDatabase db, String table) {
+            this.column = column;
+            this.db = db;
+            this.table = table;
+        }
+
+        synchronized T load(long key) {
+            if (statement == null) {
+                statement = db.compileStatement("SELECT " + column.columnName + " FROM " + table + " WHERE " + column.keyColumnName + " = ?");
+            }
+            statement.bindLong(1, key);
+            try {
+                return column.query(statement);
+            } catch (SQLiteDoneException e) {
+                // The row was deleted
+                return null;
+            }
+        }
+
+        /**
+         * Closes the statement once the column is bound again, lazies created before compile it again when they are read
+         */
+        synchronized void release() {
+            if (statement != null) {
+                statement.close();
+                statement = null;
+            }
+        }
+
+        boolean isSameSource(Binding<?> other) {
+            return this == other || other != null && db == other.db && table.equals(other.table);
+        }
+    }
+}
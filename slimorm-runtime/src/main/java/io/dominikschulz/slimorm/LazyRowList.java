@@ -0,0 +1,76 @@
+package io.dominikschulz.slimorm;
+
+import android.database.Cursor;
+
+import java.io.Closeable;
+import java.util.AbstractList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Read only list over all rows of a cursor which converts a row when it is requested.
+ * Only the last {@code cacheSize} requested rows are kept in memory, the others are converted again when needed.
+ * The list owns the cursor, {@link #close()} closes it and the list can not be used afterwards.
+ */
+public abstract class LazyRowList<T> extends AbstractList<T> implements RandomAccess, Closeable {
+
+    public static final int DEFAULT_CACHE_SIZE = 64;
+
+    private final Cursor cursor;
+    private final int size;
+    private final Map<Integer, T> cache;
+    private boolean closed;
+
+    protected LazyRowList(Cursor cursor, final int cacheSize) {
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("cacheSize has to be positive but was " + cacheSize);
+        }
+        this.cursor = cursor;
+        this.size = cursor.getCount();
+        // Access ordered, the least recently requested row is evicted first
+        this.cache = new LinkedHashMap<Integer, T>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, T> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Converts the cursor in its current position
+     */
+    protected abstract T convert(Cursor cursor);
+
+    @Override
+    public T get(int index) {
+        if (closed) {
+            throw new IllegalStateException("LazyRowList is already closed");
+        }
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        T row = cache.get(index);
+        if (row == null) {
+            cursor.moveToPosition(index);
+            row = convert(cursor);
+            cache.put(index, row);
+        }
+        return row;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            cache.clear();
+            cursor.close();
+        }
+    }
+}
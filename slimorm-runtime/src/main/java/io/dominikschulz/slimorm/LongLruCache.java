@@ -0,0 +1,227 @@
+package io.dominikschulz.slimorm;
+
+/**
+ * Size bounded cache keyed by primitive {@code long} keys, the least recently used entry is evicted when it is full.
+ * The keys are stored in an open addressing table with linear probing, the entries are kept in preallocated arrays
+ * linked in access order, so neither keys nor entries are allocated per put. Not thread safe.
+ */
+public class LongLruCache<V> {
+
+    private static final int NONE = -1;
+
+    private final int maxSize;
+    private final int mask;
+    // Table slot to entry index + 1, 0 marks a free slot
+    private final int[] table;
+
+    private final long[] keys;
+    private final Object[] values;
+    private final int[] previous;
+    private final int[] next;
+
+    private int size;
+    // Most recently used entry
+    private int head = NONE;
+    // Least recently used entry, evicted first
+    private int tail = NONE;
+
+    public LongLruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize has to be positive but was " + maxSize);
+        }
+        this.maxSize = maxSize;
+
+        // At most half of the slots are used to keep the probe sequences short
+        int capacity = 4;
+        while (capacity < maxSize * 2) {
+            capacity <<= 1;
+        }
+        this.mask = capacity - 1;
+        this.table = new int[capacity];
+
+        this.keys = new long[maxSize];
+        this.values = new Object[maxSize];
+        this.previous = new int[maxSize];
+        this.next = new int[maxSize];
+    }
+
+    /**
+     * @return the cached value and marks it as most recently used, null if the key is not cached
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        final int slot = findSlot(key);
+        if (table[slot] == 0) {
+            return null;
+        }
+        final int entry = table[slot] - 1;
+        moveToHead(entry);
+        return (V) values[entry];
+    }
+
+    /**
+     * Caches the value, evicts the least recently used entry if the cache is full
+     */
+    public void put(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException("value == null");
+        }
+
+        final int slot = findSlot(key);
+        if (table[slot] != 0) {
+            final int entry = table[slot] - 1;
+            values[entry] = value;
+            moveToHead(entry);
+            return;
+        }
+
+        final int entry;
+        if (size < maxSize) {
+            entry = size++;
+        } else {
+            // Reuse the entry of the evicted key
+            entry = tail;
+            unlink(entry);
+            removeSlot(findSlot(keys[entry]));
+        }
+
+        keys[entry] = key;
+        values[entry] = value;
+        // The eviction can shift the slots, search again
+        table[findSlot(key)] = entry + 1;
+        linkAtHead(entry);
+    }
+
+    /**
+     * @return the removed value or null if the key was not cached
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        final int slot = findSlot(key);
+        if (table[slot] == 0) {
+            return null;
+        }
+        final int entry = table[slot] - 1;
+        final V value = (V) values[entry];
+
+        unlink(entry);
+        removeSlot(slot);
+
+        // Keep the entries dense by moving the last entry into the free one
+        final int last = size - 1;
+        if (entry != last) {
+            keys[entry] = keys[last];
+            values[entry] = values[last];
+            previous[entry] = previous[last];
+            next[entry] = next[last];
+            if (previous[entry] != NONE) {
+                next[previous[entry]] = entry;
+            } else {
+                head = entry;
+            }
+            if (next[entry] != NONE) {
+                previous[next[entry]] = entry;
+            } else {
+                tail = entry;
+            }
+            table[findSlot(keys[entry])] = entry + 1;
+        }
+        values[last] = null;
+        size--;
+
+        return value;
+    }
+
+    public boolean containsKey(long key) {
+        return table[findSlot(key)] != 0;
+    }
+
+    public void clear() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = 0;
+        }
+        for (int i = 0; i < size; i++) {
+            values[i] = null;
+        }
+        size = 0;
+        head = NONE;
+        tail = NONE;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return slot containing the key or the free slot where it would be inserted
+     */
+    private int findSlot(long key) {
+        int slot = hash(key) & mask;
+        while (table[slot] != 0 && keys[table[slot] - 1] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Frees the slot and shifts the following entries of the probe sequence back, so no tombstones are needed
+     */
+    private void removeSlot(int slot) {
+        int free = slot;
+        int current = (slot + 1) & mask;
+        while (table[current] != 0) {
+            final int home = hash(keys[table[current] - 1]) & mask;
+            // Move the entry if its home slot is not between the free slot and its current slot
+            if (free <= current ? (home <= free || home > current) : (home <= free && home > current)) {
+                table[free] = table[current];
+                free = current;
+            }
+            current = (current + 1) & mask;
+        }
+        table[free] = 0;
+    }
+
+    private void moveToHead(int entry) {
+        if (entry != head) {
+            unlink(entry);
+            linkAtHead(entry);
+        }
+    }
+
+    private void linkAtHead(int entry) {
+        previous[entry] = NONE;
+        next[entry] = head;
+        if (head != NONE) {
+            previous[head] = entry;
+        }
+        head = entry;
+        if (tail == NONE) {
+            tail = entry;
+        }
+    }
+
+    private void unlink(int entry) {
+        final int previousEntry = previous[entry];
+        final int nextEntry = next[entry];
+        if (previousEntry != NONE) {
+            next[previousEntry] = nextEntry;
+        } else {
+            head = nextEntry;
+        }
+        if (nextEntry != NONE) {
+            previous[nextEntry] = previousEntry;
+        } else {
+            tail = previousEntry;
+        }
+    }
+
+    private static int hash(long key) {
+        // Spread the bits, sequential ids would otherwise cluster
+        final long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
@@ -0,0 +1,138 @@
+package io.dominikschulz.slimorm;
+
+/**
+ * Map from primitive {@code long} keys to values which does not box the keys, the entries are kept in insertion order
+ * and can be iterated like an Android {@code LongSparseArray} with {@link #keyAt(int)} and {@link #valueAt(int)}.
+ * The keys are indexed by an open addressing table with linear probing. Not thread safe.
+ */
+public class LongObjectMap<V> {
+
+    private long[] keys;
+    private Object[] values;
+    // Table slot to entry index + 1, 0 marks a free slot
+    private int[] table;
+    private int mask;
+    private int size;
+
+    public LongObjectMap() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize number of entries which can be put without resizing
+     */
+    public LongObjectMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative but was " + expectedSize);
+        }
+        allocate(Math.max(expectedSize, 4));
+    }
+
+    /**
+     * @return the value of the key or null if the key is not contained
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        final int entry = table[findSlot(key)] - 1;
+        return entry < 0 ? null : (V) values[entry];
+    }
+
+    /**
+     * Adds the entry or replaces the value of an existing key, which keeps its position
+     */
+    public void put(long key, V value) {
+        int slot = findSlot(key);
+        if (table[slot] != 0) {
+            values[table[slot] - 1] = value;
+            return;
+        }
+
+        if (size == keys.length) {
+            grow();
+            slot = findSlot(key);
+        }
+
+        keys[size] = key;
+        values[size] = value;
+        table[slot] = ++size;
+    }
+
+    public boolean containsKey(long key) {
+        return table[findSlot(key)] != 0;
+    }
+
+    /**
+     * @return position of the key in insertion order or a negative value if it is not contained
+     */
+    public int indexOfKey(long key) {
+        return table[findSlot(key)] - 1;
+    }
+
+    public long keyAt(int index) {
+        checkIndex(index);
+        return keys[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    public V valueAt(int index) {
+        checkIndex(index);
+        return (V) values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private int findSlot(long key) {
+        int slot = hash(key) & mask;
+        while (table[slot] != 0 && keys[table[slot] - 1] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void allocate(int entryCapacity) {
+        // At most half of the slots are used to keep the probe sequences short
+        int tableCapacity = 8;
+        while (tableCapacity < entryCapacity * 2) {
+            tableCapacity <<= 1;
+        }
+        keys = new long[entryCapacity];
+        values = new Object[entryCapacity];
+        table = new int[tableCapacity];
+        mask = tableCapacity - 1;
+    }
+
+    private void grow() {
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        final int oldSize = size;
+
+        allocate(oldKeys.length * 2);
+        System.arraycopy(oldKeys, 0, keys, 0, oldSize);
+        System.arraycopy(oldValues, 0, values, 0, oldSize);
+        for (int entry = 0; entry < oldSize; entry++) {
+            int slot = hash(keys[entry]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = entry + 1;
+        }
+    }
+
+    private static int hash(long key) {
+        // Spread the bits, sequential ids would otherwise cluster
+        final long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
@@ -0,0 +1,32 @@
+package io.dominikschulz.slimorm;
+
+import java.util.List;
+
+/**
+ * Rows of a keyset page and the key to continue with the next page
+ */
+public final class Page<T> {
+
+    private final List<T> rows;
+    private final PageKey nextKey;
+
+    public Page(List<T> rows, PageKey nextKey) {
+        this.rows = rows;
+        this.nextKey = nextKey;
+    }
+
+    public List<T> getRows() {
+        return rows;
+    }
+
+    /**
+     * @return key to pass to the next page query, null if this is the last page
+     */
+    public PageKey getNextKey() {
+        return nextKey;
+    }
+
+    public boolean hasNext() {
+        return nextKey != null;
+    }
+}
@@ -0,0 +1,61 @@
+package io.dominikschulz.slimorm;
+
+/**
+ * Position after the last row of a keyset page, the sort value and the primary key of that row.
+ * The next page continues after it without skipping rows with an {@code OFFSET}.
+ */
+public final class PageKey {
+
+    private final String sortValue;
+    private final long key;
+
+    /**
+     * @param sortValue value of the sort column, null if it is NULL or for pages sorted by the primary key only
+     * @param key primary key of the row
+     */
+    public PageKey(String sortValue, long key) {
+        this.sortValue = sortValue;
+        this.key = key;
+    }
+
+    public String getSortValue() {
+        return sortValue;
+    }
+
+    public long getKey() {
+        return key;
+    }
+
+    /**
+     * @return the arguments of the generated {@code PAGE_<NAME>_AFTER} condition,
+     * or of {@code PAGE_<NAME>_AFTER_NULL} if the sort value is null
+     */
+    public String[] toSelectionArgs() {
+        if (sortValue == null) {
+            return new String[]{String.valueOf(key)};
+        }
+        return new String[]{sortValue, sortValue, String.valueOf(key)};
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PageKey)) {
+            return false;
+        }
+        final PageKey other = (PageKey) o;
+        return key == other.key && (sortValue == null ? other.sortValue == null : sortValue.equals(other.sortValue));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (sortValue != null ? sortValue.hashCode() : 0) + (int) (key ^ (key >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "PageKey{sortValue=" + sortValue + ", key=" + key + "}";
+    }
+}
@@ -0,0 +1,195 @@
+package io.dominikschulz.slimorm;
+
+import android.database.Cursor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a query and converts its rows into batches on a producer task of an {@link Executor} while the batches are
+ * consumed on another thread, so filling the cursor windows overlaps with consuming the rows. The batches are handed
+ * over through a queue of at most {@code maxQueuedBatches} batches, the producer waits while the queue is full.
+ * An executor which runs the producer on the calling thread, e.g. {@code Runnable::run}, converts all rows
+ * before {@link #start(Callable, Executor)} returns, the queue is not bounded then.
+ * A loader can only be started once, the cursor is closed by the producer.
+ */
+public abstract class PipelinedLoader<T> {
+
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final int batchSize;
+    private final BlockingQueue<List<T>> queue = new LinkedBlockingQueue<>();
+    // One permit per batch which fits into the queue, taken by the producer and released by the consumer
+    private final Semaphore freeSlots;
+    // Marks the end of the rows, compared by identity
+    private final List<T> end = new ArrayList<>(0);
+
+    private volatile boolean started;
+    private volatile boolean cancelled;
+    private volatile boolean produced;
+    private volatile Throwable failure;
+    // Set while the executor is called, a producer running on this thread must not wait for the consumer
+    private volatile Thread startingThread;
+
+    protected PipelinedLoader(int batchSize, int maxQueuedBatches) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize has to be positive but was " + batchSize);
+        }
+        if (maxQueuedBatches <= 0) {
+            throw new IllegalArgumentException("maxQueuedBatches has to be positive but was " + maxQueuedBatches);
+        }
+        this.batchSize = batchSize;
+        this.freeSlots = new Semaphore(maxQueuedBatches);
+    }
+
+    /**
+     * Resolves the column indices once for the cursor of the query
+     */
+    protected abstract int[] resolveColumnIndices(Cursor cursor);
+
+    /**
+     * Converts the cursor in its current position
+     */
+    protected abstract T convert(Cursor cursor, int[] columnIndices);
+
+    /**
+     * Runs the {@code query} and the conversion on the {@code executor}
+     *
+     * @return this loader to drain the batches from
+     */
+    public PipelinedLoader<T> start(final Callable<Cursor> query, Executor executor) {
+        if (started) {
+            throw new IllegalStateException("PipelinedLoader is already started");
+        }
+        started = true;
+
+        startingThread = Thread.currentThread();
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    produce(query, Thread.currentThread() == startingThread);
+                }
+            });
+        } finally {
+            startingThread = null;
+        }
+        return this;
+    }
+
+    /**
+     * Passes the converted batches to the {@code consumer} on the calling thread until all rows are consumed,
+     * failures of the query or the conversion are rethrown. The loader is cancelled if the consumer throws.
+     * Every batch is a new list, the consumer may keep it.
+     *
+     * @return number of consumed rows
+     */
+    public int drainTo(BatchConsumer<T> consumer) throws InterruptedException {
+        if (!started) {
+            throw new IllegalStateException("PipelinedLoader is not started");
+        }
+
+        int rows = 0;
+        boolean finished = false;
+        try {
+            List<T> batch;
+            while ((batch = queue.take()) != end) {
+                freeSlots.release();
+                consumer.accept(batch);
+                rows += batch.size();
+            }
+            finished = true;
+        } finally {
+            if (!finished) {
+                cancel();
+            }
+        }
+
+        final Throwable producerFailure = failure;
+        if (producerFailure instanceof RuntimeException) {
+            throw (RuntimeException) producerFailure;
+        } else if (producerFailure instanceof Error) {
+            throw (Error) producerFailure;
+        } else if (producerFailure != null) {
+            throw new IllegalStateException("Loading the rows failed", producerFailure);
+        }
+        return rows;
+    }
+
+    /**
+     * Stops the producer after the current row, the cursor is closed by the producer
+     */
+    public void cancel() {
+        cancelled = true;
+        queue.clear();
+        if (produced) {
+            // The end marker may have been cleared, a waiting consumer needs it
+            queue.add(end);
+        }
+    }
+
+    /**
+     * @return number of converted batches waiting for the consumer
+     */
+    public int queuedBatches() {
+        return queue.size();
+    }
+
+    /**
+     * @param inline true if the producer runs on the thread calling {@code start}, it queues all batches without waiting
+     */
+    private void produce(Callable<Cursor> query, boolean inline) {
+        Cursor cursor = null;
+        try {
+            cursor = query.call();
+            final int[] columnIndices = resolveColumnIndices(cursor);
+
+            List<T> batch = new ArrayList<>(batchSize);
+            while (!cancelled && cursor.moveToNext()) {
+                batch.add(convert(cursor, columnIndices));
+                if (batch.size() == batchSize) {
+                    if (!enqueue(batch, inline)) {
+                        return;
+                    }
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                enqueue(batch, inline);
+            }
+        } catch (InterruptedException e) {
+            failure = e;
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            failure = e;
+        } finally {
+            if (cursor != null) {
+                cursor.close();
+            }
+            // The consumer always needs the end marker, the queue takes it without waiting
+            produced = true;
+            queue.add(end);
+        }
+    }
+
+    /**
+     * Waits while the queue is full unless the producer runs {@code inline}, gives up once the loader is cancelled
+     *
+     * @return false if the loader was cancelled
+     */
+    private boolean enqueue(List<T> batch, boolean inline) throws InterruptedException {
+        while (!cancelled) {
+            if (inline || freeSlots.tryAcquire(OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                queue.add(batch);
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,238 @@
+package io.dominikschulz.slimorm;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caches converted query results keyed by the converter, the SQL and the bound arguments.
+ * Every entry remembers the {@link TableVersions} of the tables its query read, it is dropped as soon as one of these
+ * tables was written. The entries are spread over stripes which share the budget of {@code maxRows} rows, so any result
+ * of up to {@code maxRows} rows is cached. Once the budget is exceeded the least recently used entries of the stripe
+ * of the new entry are evicted first, then those of the following stripes.
+ * <p>
+ * The cached lists are shared between all callers, do not modify them or their rows.
+ */
+public final class QueryCache {
+
+    private static final int STRIPES = 16;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final int maxRows;
+    private final AtomicInteger cachedRows = new AtomicInteger();
+
+    /**
+     * @param maxRows maximum number of cached rows of all entries, an empty result counts as one row
+     */
+    public QueryCache(int maxRows) {
+        if (maxRows <= 0) {
+            throw new IllegalArgumentException("maxRows has to be positive but was " + maxRows);
+        }
+        this.maxRows = maxRows;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * @param owner class converting the rows, e.g. the generated converter
+     * @return the cached rows or null if there are none or one of their tables was written
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> get(Class<?> owner, String sql, String[] selectionArgs) {
+        final Key key = new Key(owner, sql, selectionArgs);
+        final Stripe stripe = stripes[stripeIndex(key)];
+
+        final CachedRows entry;
+        synchronized (stripe) {
+            entry = stripe.get(key);
+        }
+        if (entry == null) {
+            return null;
+        }
+
+        if (!entry.stamp.isCurrent()) {
+            synchronized (stripe) {
+                // Another thread may have stored a newer entry in the meantime
+                if (stripe.get(key) == entry) {
+                    stripe.remove(key);
+                    stripe.rows -= entry.weight;
+                    cachedRows.addAndGet(-entry.weight);
+                }
+            }
+            return null;
+        }
+        return (List<T>) entry.rows;
+    }
+
+    /**
+     * Takes the versions of the {@code tables} a query reads, call it before running the query so a write
+     * during the query leaves the stored entry outdated
+     */
+    public Stamp stamp(String... tables) {
+        final long[] versions = new long[tables.length];
+        for (int i = 0; i < tables.length; i++) {
+            versions[i] = TableVersions.version(tables[i]);
+        }
+        return new Stamp(tables.clone(), versions);
+    }
+
+    /**
+     * Stores the {@code rows} of a query, results with more than {@code maxRows} rows are not cached
+     *
+     * @param stamp taken with {@link #stamp(String...)} before the query
+     */
+    public <T> void put(Stamp stamp, Class<?> owner, String sql, String[] selectionArgs, List<T> rows) {
+        if (!stamp.isCurrent()) {
+            return;
+        }
+
+        final CachedRows entry = new CachedRows(stamp, rows);
+        if (entry.weight > maxRows) {
+            return;
+        }
+        final Key key = new Key(owner, sql, selectionArgs);
+        final int stripeIndex = stripeIndex(key);
+        final Stripe stripe = stripes[stripeIndex];
+        synchronized (stripe) {
+            final CachedRows previous = stripe.put(key, entry);
+            final int added = previous != null ? entry.weight - previous.weight : entry.weight;
+            stripe.rows += added;
+            cachedRows.addAndGet(added);
+        }
+        evict(stripeIndex);
+    }
+
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+                cachedRows.addAndGet(-stripe.rows);
+                stripe.rows = 0;
+            }
+        }
+    }
+
+    /**
+     * @return number of cached results, outdated results are counted until they are requested or evicted
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Evicts the least recently used entries until the rows fit into the budget, one stripe after the other
+     * so no two stripes are locked at once
+     */
+    private void evict(int firstStripeIndex) {
+        for (int i = 0; i < STRIPES && cachedRows.get() > maxRows; i++) {
+            final Stripe stripe = stripes[(firstStripeIndex + i) & (STRIPES - 1)];
+            synchronized (stripe) {
+                // Keeps the most recently used entry of the first stripe, the one just stored
+                final int keep = i == 0 ? 1 : 0;
+                final Iterator<CachedRows> iterator = stripe.values().iterator();
+                while (cachedRows.get() > maxRows && stripe.size() > keep && iterator.hasNext()) {
+                    final CachedRows evicted = iterator.next();
+                    iterator.remove();
+                    stripe.rows -= evicted.weight;
+                    cachedRows.addAndGet(-evicted.weight);
+                }
+            }
+        }
+    }
+
+    private static int stripeIndex(Key key) {
+        // Spreads the higher bits, the lower bits of String hashes are not well distributed
+        final int hash = key.hashCode;
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    /**
+     * Versions of the tables a query read, taken before the query
+     */
+    public static final class Stamp {
+        private final String[] tables;
+        private final long[] versions;
+
+        Stamp(String[] tables, long[] versions) {
+            this.tables = tables;
+            this.versions = versions;
+        }
+
+        boolean isCurrent() {
+            for (int i = 0; i < tables.length; i++) {
+                if (TableVersions.version(tables[i]) != versions[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Key {
+        private final Class<?> owner;
+        private final String sql;
+        private final String[] selectionArgs;
+        private final int hashCode;
+
+        Key(Class<?> owner, String sql, String[] selectionArgs) {
+            this.owner = owner;
+            this.sql = sql;
+            // Copied, the caller may reuse the array for the next query
+            this.selectionArgs = selectionArgs != null ? selectionArgs.clone() : null;
+            this.hashCode = 31 * (31 * owner.hashCode() + sql.hashCode()) + Arrays.hashCode(selectionArgs);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return hashCode == other.hashCode && owner == other.owner && sql.equals(other.sql)
+                    && Arrays.equals(selectionArgs, other.selectionArgs);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class CachedRows {
+        private final Stamp stamp;
+        private final List<?> rows;
+        private final int weight;
+
+        CachedRows(Stamp stamp, List<?> rows) {
+            this.stamp = stamp;
+            this.rows = rows;
+            this.weight = Math.max(1, rows.size());
+        }
+    }
+
+    /**
+     * Access ordered map of one stripe, guarded by itself
+     */
+    private static final class Stripe extends LinkedHashMap<Key, CachedRows> {
+        private static final long serialVersionUID = 1L;
+
+        // Rows of this stripe, counted in the shared budget as well
+        private int rows;
+
+        Stripe() {
+            super(16, 0.75f, true);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package io.dominikschulz.slimorm;
+
+/**
+ * Receives the rows of a cursor one by one, see {@code forEach} of the generated converters
+ */
+public interface RowConsumer<T> {
+    void accept(T row);
+}
@@ -0,0 +1,59 @@
+package io.dominikschulz.slimorm;
+
+import android.database.Cursor;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Converts one row at a time while iterating, the rows are not kept in memory.
+ * It can only be iterated once and {@link #close()} closes the underlying cursor.
+ */
+public abstract class RowIterator<T> implements Iterable<T>, Iterator<T>, Closeable {
+    private final Cursor cursor;
+    private boolean moved;
+    private boolean hasRow;
+
+    protected RowIterator(Cursor cursor) {
+        this.cursor = cursor;
+    }
+
+    /**
+     * Converts the cursor in its current position
+     */
+    protected abstract T convert(Cursor cursor);
+
+    @Override
+    public Iterator<T> iterator() {
+        return this;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!moved) {
+            hasRow = cursor.moveToNext();
+            moved = true;
+        }
+        return hasRow;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        moved = false;
+        return convert(cursor);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+        cursor.close();
+    }
+}
@@ -0,0 +1,26 @@
+package io.dominikschulz.slimorm;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary encoding of a pojo used by the {@link SnapshotStore}, generated as {@code <Pojo>Converter.SNAPSHOT_CODEC}
+ */
+public interface SnapshotCodec<T> {
+
+    /**
+     * @return hash of the encoded members, snapshots written with another layout are not read
+     */
+    int layout();
+
+    /**
+     * Writes at least one byte per row, the {@link SnapshotStore} checks the row count of a snapshot against its size
+     *
+     * @throws java.nio.BufferOverflowException if the row does not fit into the remaining {@code buffer}
+     */
+    void writeTo(ByteBuffer buffer, T row);
+
+    /**
+     * @throws java.nio.BufferUnderflowException if the {@code buffer} ends within the row or holds an invalid length
+     */
+    T readFrom(ByteBuffer buffer);
+}
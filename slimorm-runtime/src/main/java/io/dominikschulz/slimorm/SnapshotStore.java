@@ -0,0 +1,133 @@
+package io.dominikschulz.slimorm;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Persists converted rows in files of a directory and maps them back into memory on the next start,
+ * so startup critical tables can be loaded without a query and a cursor.
+ * A snapshot is a header with a magic number, the {@link SnapshotCodec#layout()} and the row count followed by the rows.
+ * Snapshots of another layout, truncated, corrupted or missing ones read as null, fall back to the database in that case.
+ * <p>
+ * A snapshot is not invalidated by writes to its table, write it again after changing the table.
+ */
+public final class SnapshotStore {
+
+    private static final int MAGIC = 0x534c534e;
+    private static final int HEADER_SIZE = 12;
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final File directory;
+
+    public SnapshotStore(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Writes the {@code rows} to a temporary file first and renames it, a reader never sees a partial snapshot
+     *
+     * @param name of the snapshot, used as file name
+     */
+    public <T> void write(String name, List<T> rows, SnapshotCodec<T> codec) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(codec.layout()).putInt(rows.size());
+        for (T row : rows) {
+            final int start = buffer.position();
+            try {
+                codec.writeTo(buffer, row);
+            } catch (BufferOverflowException e) {
+                buffer = grow(buffer, start);
+                // A single row may need more than twice the size
+                while (true) {
+                    try {
+                        codec.writeTo(buffer, row);
+                        break;
+                    } catch (BufferOverflowException again) {
+                        buffer = grow(buffer, start);
+                    }
+                }
+            }
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Can not create " + directory);
+        }
+        final File temporary = new File(directory, name + ".tmp");
+        final FileOutputStream output = new FileOutputStream(temporary);
+        try {
+            output.write(buffer.array(), 0, buffer.position());
+            output.getFD().sync();
+        } finally {
+            output.close();
+        }
+        if (!temporary.renameTo(file(name))) {
+            temporary.delete();
+            throw new IOException("Can not replace the snapshot " + name);
+        }
+    }
+
+    /**
+     * Maps the snapshot into memory and decodes all rows
+     *
+     * @return the rows or null if there is no readable snapshot of the {@code codec} layout
+     */
+    public <T> List<T> read(String name, SnapshotCodec<T> codec) throws IOException {
+        final File file = file(name);
+        if (!file.isFile() || file.length() < HEADER_SIZE) {
+            return null;
+        }
+
+        final FileInputStream input = new FileInputStream(file);
+        try {
+            final FileChannel channel = input.getChannel();
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != codec.layout()) {
+                return null;
+            }
+
+            // Every row takes at least one byte, a larger count is corrupted
+            final int rowCount = buffer.getInt();
+            if (rowCount < 0 || rowCount > buffer.remaining()) {
+                return null;
+            }
+            final List<T> rows = new ArrayList<>(rowCount);
+            for (int i = 0; i < rowCount; i++) {
+                rows.add(codec.readFrom(buffer));
+            }
+            // The rows end with the file
+            return buffer.hasRemaining() ? null : rows;
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            // Truncated or corrupted, e.g. by a full disk
+            return null;
+        } finally {
+            input.close();
+        }
+    }
+
+    public boolean delete(String name) {
+        return file(name).delete();
+    }
+
+    private File file(String name) {
+        return new File(directory, name + ".snapshot");
+    }
+
+    /**
+     * @return buffer with twice the capacity containing everything before {@code end}
+     */
+    private static ByteBuffer grow(ByteBuffer buffer, int end) {
+        final ByteBuffer grown = ByteBuffer.allocate(buffer.capacity() * 2).order(ByteOrder.LITTLE_ENDIAN);
+        grown.put(buffer.array(), 0, end);
+        return grown;
+    }
+}
@@ -0,0 +1,101 @@
+package io.dominikschulz.slimorm;
+
+import android.database.CharArrayBuffer;
+import android.database.Cursor;
+
+/**
+ * Bounded canonicalization table for the strings of a {@code @Dedupe} column, generated as
+ * {@code <Pojo>Converter.STRING_POOL_<COLUMN>}. The value is copied into a reused {@link CharArrayBuffer}
+ * and compared with the pooled strings before a {@code String} is allocated, a new {@code String} is only created
+ * for values which are not pooled yet. Every converting thread has its own table, no locks are taken.
+ */
+public final class StringPool {
+
+    private final int capacity;
+    private final ThreadLocal<Table> tables;
+
+    /**
+     * @param capacity distinct values kept per thread, values beyond it are returned without pooling them
+     */
+    public StringPool(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive but was " + capacity);
+        }
+        this.capacity = capacity;
+        this.tables = new ThreadLocal<Table>() {
+            @Override
+            protected Table initialValue() {
+                return new Table(StringPool.this.capacity);
+            }
+        };
+    }
+
+    /**
+     * Same as {@link CursorReads#readString(Cursor, int)} but returns pooled instances
+     */
+    public String readString(Cursor cursor, int columnIndex) {
+        if (columnIndex < 0 || cursor.isNull(columnIndex)) {
+            return null;
+        }
+        return tables.get().read(cursor, columnIndex);
+    }
+
+    private static final class Table {
+        private final CharArrayBuffer buffer = new CharArrayBuffer(64);
+        private final String[] strings;
+        private final int mask;
+        private final int capacity;
+        private int size;
+
+        Table(int capacity) {
+            // At most half of the slots are used to keep the probe sequences short
+            int slots = 2;
+            while (slots < capacity * 2) {
+                slots <<= 1;
+            }
+            this.strings = new String[slots];
+            this.mask = slots - 1;
+            this.capacity = capacity;
+        }
+
+        String read(Cursor cursor, int columnIndex) {
+            cursor.copyStringToBuffer(columnIndex, buffer);
+            final char[] chars = buffer.data;
+            final int length = buffer.sizeCopied;
+
+            // Same hash as String.hashCode, which the pooled strings have cached
+            int hash = 0;
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + chars[i];
+            }
+
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            String pooled;
+            while ((pooled = strings[slot]) != null) {
+                if (pooled.hashCode() == hash && contentEquals(pooled, chars, length)) {
+                    return pooled;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            final String value = new String(chars, 0, length);
+            if (size < capacity) {
+                strings[slot] = value;
+                size++;
+            }
+            return value;
+        }
+
+        private static boolean contentEquals(String pooled, char[] chars, int length) {
+            if (pooled.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (pooled.charAt(i) != chars[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.dominikschulz.slimorm;
+
+import android.database.sqlite.SQLiteDatabase;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process wide write counter per table. The generated insert, update and delete methods count up the counter of their
+ * table after writing, a {@link QueryCache} entry is only returned while the counters of its tables are unchanged.
+ * Counting up is lock free, call {@link #invalidate(String)} after writing a table without the generated methods.
+ * <p>
+ * Inside an outer transaction the written rows are not visible to other connections before the commit, a query of
+ * another thread in the meantime would cache the old rows with the new version. The generated methods therefore remember
+ * the tables they wrote inside a transaction, end the outer transaction with {@link #endTransaction(SQLiteDatabase)}
+ * instead of {@code db.endTransaction()} to count them up again once it is committed or rolled back.
+ */
+public final class TableVersions {
+
+    private static final ConcurrentMap<String, AtomicLong> VERSIONS = new ConcurrentHashMap<>();
+
+    // Transactions are confined to the thread which began them
+    private static final ThreadLocal<Set<String>> WRITTEN_IN_TRANSACTION = new ThreadLocal<Set<String>>() {
+        @Override
+        protected Set<String> initialValue() {
+            return new LinkedHashSet<>();
+        }
+    };
+
+    private TableVersions() {
+    }
+
+    public static void invalidate(String table) {
+        final String name = normalize(table);
+        AtomicLong version = VERSIONS.get(name);
+        if (version == null) {
+            final AtomicLong created = new AtomicLong();
+            version = VERSIONS.putIfAbsent(name, created);
+            if (version == null) {
+                version = created;
+            }
+        }
+        version.incrementAndGet();
+    }
+
+    /**
+     * Used by the generated write methods, counts up the version of the {@code table} now
+     * and again at the end of the outer transaction of {@code db} if there is one
+     */
+    public static void invalidate(SQLiteDatabase db, String table) {
+        invalidate(table);
+        if (db.inTransaction()) {
+            WRITTEN_IN_TRANSACTION.get().add(normalize(table));
+        }
+    }
+
+    /**
+     * Ends the transaction like {@code db.endTransaction()}, once the outermost transaction ended the tables written
+     * inside it by the generated methods are invalidated again
+     */
+    public static void endTransaction(SQLiteDatabase db) {
+        try {
+            db.endTransaction();
+        } finally {
+            if (!db.inTransaction()) {
+                final Set<String> tables = WRITTEN_IN_TRANSACTION.get();
+                for (String table : tables) {
+                    invalidate(table);
+                }
+                tables.clear();
+            }
+        }
+    }
+
+    /**
+     * @return number of writes to the {@code table} so far
+     */
+    public static long version(String table) {
+        final AtomicLong version = VERSIONS.get(normalize(table));
+        return version != null ? version.get() : 0;
+    }
+
+    /**
+     * SQLite table names are case insensitive
+     */
+    private static String normalize(String table) {
+        return table.toLowerCase(Locale.US);
+    }
+}
@@ -0,0 +1,55 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Test;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class BufferCodecsTest {
+
+    @Test
+    public void stringsAndBlobsRoundTrip() {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        BufferCodecs.putString(buffer, "Gr\u00fc\u00dfe \u2603");
+        BufferCodecs.putBlob(buffer, new byte[]{1, 2, 3});
+        BufferCodecs.putString(buffer, "");
+        buffer.flip();
+
+        assertEquals("Gr\u00fc\u00dfe \u2603", BufferCodecs.getString(buffer));
+        assertArrayEquals(new byte[]{1, 2, 3}, BufferCodecs.getBlob(buffer));
+        assertEquals("", BufferCodecs.getString(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test(expected = BufferUnderflowException.class)
+    public void lengthBeyondTheBufferIsRejected() {
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.putInt(Integer.MAX_VALUE).putInt(0);
+        buffer.flip();
+
+        BufferCodecs.getBlob(buffer);
+    }
+
+    @Test(expected = BufferUnderflowException.class)
+    public void negativeLengthIsRejected() {
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.putInt(-1).putInt(0);
+        buffer.flip();
+
+        BufferCodecs.getString(buffer);
+    }
+
+    @Test(expected = BufferUnderflowException.class)
+    public void truncatedValueIsRejected() {
+        final ByteBuffer buffer = ByteBuffer.allocate(8);
+        BufferCodecs.putBlob(buffer, new byte[]{1, 2, 3, 4});
+        buffer.flip();
+        buffer.limit(6);
+
+        BufferCodecs.getBlob(buffer);
+    }
+}
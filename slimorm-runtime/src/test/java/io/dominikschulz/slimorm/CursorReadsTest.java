@@ -0,0 +1,58 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CursorReadsTest {
+
+    private ArrayCursor cursor;
+
+    @Before
+    public void setUp() {
+        cursor = new ArrayCursor(new String[]{"count", "price", "flag", "name", "data"}, new Object[][]{
+                {7L, 2.5, 1L, "tea", new byte[]{1, 2}},
+                {null, null, null, null, null}});
+        cursor.moveToFirst();
+    }
+
+    @Test
+    public void columnNamesReadLikeTheirIndex() {
+        assertEquals(7, CursorReads.readInt(cursor, "count"));
+        assertEquals(7L, CursorReads.readLong(cursor, "count"));
+        assertEquals((short) 7, CursorReads.readShort(cursor, "count"));
+        assertEquals(2.5, CursorReads.readDouble(cursor, "price"), 0);
+        assertEquals(2.5f, CursorReads.readFloat(cursor, "price"), 0);
+        assertTrue(CursorReads.readBoolean(cursor, "flag"));
+        assertEquals(Integer.valueOf(7), CursorReads.readBoxedInt(cursor, "count"));
+        assertEquals(Boolean.TRUE, CursorReads.readBoxedBoolean(cursor, "flag"));
+        assertEquals("tea", CursorReads.readString(cursor, "name"));
+        assertArrayEquals(new byte[]{1, 2}, CursorReads.readBlob(cursor, "data"));
+    }
+
+    @Test
+    public void nullValuesReadAsDefaults() {
+        cursor.moveToNext();
+
+        assertEquals(0, CursorReads.readInt(cursor, "count"));
+        assertFalse(CursorReads.readBoolean(cursor, "flag"));
+        assertNull(CursorReads.readBoxedLong(cursor, "count"));
+        assertNull(CursorReads.readBoxedDouble(cursor, "price"));
+        assertNull(CursorReads.readString(cursor, "name"));
+        assertNull(CursorReads.readBlob(cursor, "data"));
+    }
+
+    @Test
+    public void missingColumnsReadAsDefaults() {
+        assertEquals(0, CursorReads.readInt(cursor, "missing"));
+        assertEquals(0, CursorReads.readDouble(cursor, "missing"), 0);
+        assertFalse(CursorReads.readBoolean(cursor, "missing"));
+        assertNull(CursorReads.readBoxedShort(cursor, "missing"));
+        assertNull(CursorReads.readString(cursor, "missing"));
+    }
+}
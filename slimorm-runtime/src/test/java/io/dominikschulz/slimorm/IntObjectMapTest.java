@@ -0,0 +1,83 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class IntObjectMapTest {
+
+    @Test
+    public void entriesKeepTheirInsertionOrder() {
+        final IntObjectMap<String> map = new IntObjectMap<>();
+        map.put(30, "c");
+        map.put(10, "a");
+        map.put(20, "b");
+        map.put(10, "a2");
+
+        assertEquals(3, map.size());
+        assertEquals(30, map.keyAt(0));
+        assertEquals(10, map.keyAt(1));
+        assertEquals("a2", map.valueAt(1));
+        assertEquals(20, map.keyAt(2));
+        assertEquals(1, map.indexOfKey(10));
+        assertTrue(map.indexOfKey(40) < 0);
+    }
+
+    @Test
+    public void missingKeysAreNull() {
+        final IntObjectMap<String> map = new IntObjectMap<>(0);
+        assertTrue(map.isEmpty());
+        assertNull(map.get(0));
+
+        map.put(Integer.MIN_VALUE, "min");
+        assertEquals("min", map.get(Integer.MIN_VALUE));
+        assertFalse(map.containsKey(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void growsBeyondTheExpectedSize() {
+        final IntObjectMap<Integer> map = new IntObjectMap<>(2);
+        for (int key = 0; key < 1000; key++) {
+            map.put(key << 16, key);
+        }
+
+        assertEquals(1000, map.size());
+        for (int key = 0; key < 1000; key++) {
+            assertEquals(Integer.valueOf(key), map.get(key << 16));
+            assertEquals(key << 16, map.keyAt(key));
+        }
+    }
+
+    @Test
+    public void behavesLikeAHashMap() {
+        final IntObjectMap<Integer> map = new IntObjectMap<>();
+        final Map<Integer, Integer> expected = new HashMap<>();
+
+        final Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            final int key = random.nextBoolean() ? random.nextInt(500) : random.nextInt();
+            map.put(key, i);
+            expected.put(key, i);
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Integer, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        for (int i = 0; i < map.size(); i++) {
+            assertEquals(expected.get(map.keyAt(i)), map.valueAt(i));
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void negativeIndexIsRejected() {
+        new IntObjectMap<String>().valueAt(-1);
+    }
+}
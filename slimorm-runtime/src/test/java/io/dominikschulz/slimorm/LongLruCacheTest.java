@@ -0,0 +1,173 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LongLruCacheTest {
+
+    @Test
+    public void leastRecentlyUsedEntryIsEvicted() {
+        final LongLruCache<String> cache = new LongLruCache<>(3);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+
+        // Reading 1 makes 2 the least recently used entry
+        assertEquals("a", cache.get(1));
+        cache.put(4, "d");
+
+        assertNull(cache.get(2));
+        assertEquals("a", cache.get(1));
+        assertEquals("c", cache.get(3));
+        assertEquals("d", cache.get(4));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void replacingAValueMarksItAsRecentlyUsed() {
+        final LongLruCache<String> cache = new LongLruCache<>(2);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(1, "a2");
+        cache.put(3, "c");
+
+        assertEquals("a2", cache.get(1));
+        assertFalse(cache.containsKey(2));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void removeFreesTheEntry() {
+        final LongLruCache<String> cache = new LongLruCache<>(3);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+
+        assertEquals("a", cache.remove(1));
+        assertNull(cache.remove(1));
+        assertEquals(2, cache.size());
+
+        // The freed entry is used before anything is evicted
+        cache.put(4, "d");
+        assertEquals("b", cache.get(2));
+        assertEquals("c", cache.get(3));
+        assertEquals("d", cache.get(4));
+    }
+
+    @Test
+    public void removeKeepsTheAccessOrderOfTheMovedEntry() {
+        final LongLruCache<String> cache = new LongLruCache<>(3);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+        cache.get(1);
+
+        // Moves the last entry, 3, into the entry of 2
+        cache.remove(2);
+        cache.put(4, "d");
+        cache.put(5, "e");
+
+        assertFalse(cache.containsKey(3));
+        assertTrue(cache.containsKey(1));
+        assertTrue(cache.containsKey(4));
+        assertTrue(cache.containsKey(5));
+    }
+
+    @Test
+    public void probeChainsStayIntactAfterRemovals() {
+        final LongLruCache<Long> cache = new LongLruCache<>(64);
+        for (long key = 0; key < 64; key++) {
+            cache.put(key * 1024, key);
+        }
+
+        for (long key = 0; key < 64; key += 2) {
+            assertEquals(Long.valueOf(key), cache.remove(key * 1024));
+        }
+
+        for (long key = 0; key < 64; key++) {
+            assertEquals(key % 2 == 1, cache.containsKey(key * 1024));
+            assertEquals(key % 2 == 1 ? Long.valueOf(key) : null, cache.get(key * 1024));
+        }
+        assertEquals(32, cache.size());
+    }
+
+    @Test
+    public void behavesLikeAnAccessOrderedMap() {
+        final int maxSize = 8;
+        final LongLruCache<Long> cache = new LongLruCache<>(maxSize);
+        final Map<Long, Long> expected = new LinkedHashMap<Long, Long>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        final Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            // Few keys, so most operations hit long probe sequences and cached entries
+            final long key = random.nextInt(24) - 8;
+            switch (random.nextInt(4)) {
+                case 0:
+                    assertEquals(expected.remove(key), cache.remove(key));
+                    break;
+                case 1:
+                    assertEquals(expected.get(key), cache.get(key));
+                    break;
+                default:
+                    expected.put(key, (long) i);
+                    cache.put(key, (long) i);
+                    break;
+            }
+            assertEquals(expected.size(), cache.size());
+        }
+
+        for (long key = -8; key < 16; key++) {
+            assertEquals(expected.containsKey(key), cache.containsKey(key));
+        }
+    }
+
+    @Test
+    public void clearRemovesAllEntries() {
+        final LongLruCache<String> cache = new LongLruCache<>(2);
+        cache.put(1, "a");
+        cache.put(2, "b");
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertNull(cache.get(1));
+        cache.put(3, "c");
+        cache.put(4, "d");
+        assertEquals("c", cache.get(3));
+        assertEquals("d", cache.get(4));
+    }
+
+    @Test
+    public void singleEntryCache() {
+        final LongLruCache<String> cache = new LongLruCache<>(1);
+        cache.put(Long.MIN_VALUE, "a");
+        cache.put(Long.MAX_VALUE, "b");
+
+        assertNull(cache.get(Long.MIN_VALUE));
+        assertEquals("b", cache.get(Long.MAX_VALUE));
+        assertEquals(1, cache.maxSize());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void nullValuesAreRejected() {
+        new LongLruCache<String>(1).put(1, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxSizeHasToBePositive() {
+        new LongLruCache<String>(0);
+    }
+}
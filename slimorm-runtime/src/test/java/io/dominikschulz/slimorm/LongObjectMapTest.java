@@ -0,0 +1,103 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LongObjectMapTest {
+
+    @Test
+    public void entriesKeepTheirInsertionOrder() {
+        final LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(30, "c");
+        map.put(10, "a");
+        map.put(20, "b");
+        map.put(10, "a2");
+
+        assertEquals(3, map.size());
+        assertEquals(30, map.keyAt(0));
+        assertEquals(10, map.keyAt(1));
+        assertEquals("a2", map.valueAt(1));
+        assertEquals(20, map.keyAt(2));
+        assertEquals(1, map.indexOfKey(10));
+        assertTrue(map.indexOfKey(40) < 0);
+    }
+
+    @Test
+    public void missingKeysAreNull() {
+        final LongObjectMap<String> map = new LongObjectMap<>(0);
+        assertTrue(map.isEmpty());
+        assertNull(map.get(0));
+
+        map.put(0, "zero");
+        assertFalse(map.isEmpty());
+        assertEquals("zero", map.get(0));
+        assertFalse(map.containsKey(-1));
+    }
+
+    @Test
+    public void nullValuesAreContained() {
+        final LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(1, null);
+
+        assertTrue(map.containsKey(1));
+        assertNull(map.get(1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void growsBeyondTheExpectedSize() {
+        final LongObjectMap<Long> map = new LongObjectMap<>(2);
+        for (long key = 0; key < 1000; key++) {
+            map.put(key << 32, key);
+        }
+
+        assertEquals(1000, map.size());
+        for (long key = 0; key < 1000; key++) {
+            assertEquals(Long.valueOf(key), map.get(key << 32));
+            assertEquals(key << 32, map.keyAt((int) key));
+        }
+        assertFalse(map.containsKey(1000L << 32));
+    }
+
+    @Test
+    public void behavesLikeAHashMap() {
+        final LongObjectMap<Integer> map = new LongObjectMap<>();
+        final Map<Long, Integer> expected = new HashMap<>();
+
+        final Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            final long key = random.nextBoolean() ? random.nextInt(500) : random.nextLong();
+            map.put(key, i);
+            expected.put(key, i);
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        for (int i = 0; i < map.size(); i++) {
+            assertEquals(expected.get(map.keyAt(i)), map.valueAt(i));
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void indexBeyondTheSizeIsRejected() {
+        final LongObjectMap<String> map = new LongObjectMap<>(8);
+        map.put(1, "a");
+
+        map.keyAt(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeExpectedSizeIsRejected() {
+        new LongObjectMap<String>(-1);
+    }
+}
@@ -0,0 +1,229 @@
+package io.dominikschulz.slimorm;
+
+import android.database.Cursor;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PipelinedLoaderTest {
+
+    private static final Executor INLINE = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private final ExecutorService producerThread = Executors.newSingleThreadExecutor();
+    private final CountDownLatch cursorClosed = new CountDownLatch(1);
+
+    @After
+    public void tearDown() {
+        producerThread.shutdownNow();
+    }
+
+    @Test
+    public void batchesAreDrainedInOrder() throws InterruptedException {
+        final List<List<Long>> batches = new ArrayList<>();
+
+        final int rows = loader(3, 1).start(query(10), producerThread).drainTo(collect(batches));
+
+        assertEquals(10, rows);
+        assertEquals(Arrays.asList(Arrays.asList(0L, 1L, 2L), Arrays.asList(3L, 4L, 5L), Arrays.asList(6L, 7L, 8L),
+                Arrays.asList(9L)), batches);
+        assertTrue(cursorClosed.await(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void everyBatchIsANewList() throws InterruptedException {
+        final List<List<Long>> batches = new ArrayList<>();
+
+        loader(2, 2).start(query(4), producerThread).drainTo(collect(batches));
+
+        assertNotSame(batches.get(0), batches.get(1));
+        assertEquals(Arrays.asList(0L, 1L), batches.get(0));
+    }
+
+    @Test
+    public void inlineExecutorQueuesAllBatchesBeforeStartReturns() throws InterruptedException {
+        final PipelinedLoader<Long> loader = loader(2, 1).start(query(10), INLINE);
+
+        assertTrue(cursorClosed.await(0, TimeUnit.MILLISECONDS));
+        // Five batches and the end marker, more than maxQueuedBatches
+        assertEquals(6, loader.queuedBatches());
+
+        final List<List<Long>> batches = new ArrayList<>();
+        assertEquals(10, loader.drainTo(collect(batches)));
+        assertEquals(5, batches.size());
+    }
+
+    @Test
+    public void conversionFailureIsRethrown() throws InterruptedException {
+        final IllegalStateException conversionFailure = new IllegalStateException("broken row");
+        final PipelinedLoader<Long> loader = new TestLoader(2, 1) {
+            @Override
+            protected Long convert(Cursor cursor, int[] columnIndices) {
+                if (cursor.getPosition() == 5) {
+                    throw conversionFailure;
+                }
+                return super.convert(cursor, columnIndices);
+            }
+        };
+
+        final List<List<Long>> batches = new ArrayList<>();
+        try {
+            loader.start(query(10), producerThread).drainTo(collect(batches));
+            fail("the failure of the producer is not rethrown");
+        } catch (IllegalStateException e) {
+            assertSame(conversionFailure, e);
+        }
+        assertEquals(2, batches.size());
+        assertTrue(cursorClosed.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void checkedQueryFailureIsWrapped() throws InterruptedException {
+        final IOException queryFailure = new IOException("no database");
+        final Callable<Cursor> query = new Callable<Cursor>() {
+            @Override
+            public Cursor call() throws IOException {
+                throw queryFailure;
+            }
+        };
+
+        try {
+            loader(2, 1).start(query, INLINE).drainTo(collect(new ArrayList<List<Long>>()));
+            fail("the failure of the query is not rethrown");
+        } catch (IllegalStateException e) {
+            assertSame(queryFailure, e.getCause());
+        }
+    }
+
+    @Test
+    public void consumerFailureCancelsTheProducer() throws InterruptedException {
+        final PipelinedLoader<Long> loader = loader(1, 1).start(query(1000), producerThread);
+
+        try {
+            loader.drainTo(new BatchConsumer<Long>() {
+                @Override
+                public void accept(List<Long> batch) {
+                    throw new UnsupportedOperationException("consumer failed");
+                }
+            });
+            fail("the failure of the consumer is not rethrown");
+        } catch (UnsupportedOperationException e) {
+            assertEquals("consumer failed", e.getMessage());
+        }
+        // The producer stops instead of waiting for a consumer which is gone
+        assertTrue(cursorClosed.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void cancelReleasesAWaitingProducerAndConsumer() throws InterruptedException {
+        final PipelinedLoader<Long> loader = loader(1, 1).start(query(1000), producerThread);
+        while (loader.queuedBatches() == 0) {
+            Thread.sleep(1);
+        }
+
+        loader.cancel();
+
+        assertTrue(cursorClosed.await(1, TimeUnit.SECONDS));
+        assertTrue(loader.drainTo(collect(new ArrayList<List<Long>>())) < 1000);
+    }
+
+    @Test
+    public void cancelAfterTheLastRowKeepsTheEnd() throws InterruptedException {
+        final PipelinedLoader<Long> loader = loader(2, 1).start(query(10), INLINE);
+
+        loader.cancel();
+
+        assertEquals(0, loader.drainTo(collect(new ArrayList<List<Long>>())));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void startingTwiceFails() {
+        final PipelinedLoader<Long> loader = loader(2, 1).start(query(1), INLINE);
+        loader.start(query(1), INLINE);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void drainingBeforeStartFails() throws InterruptedException {
+        loader(2, 1).drainTo(collect(new ArrayList<List<Long>>()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void batchSizeHasToBePositive() {
+        loader(0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxQueuedBatchesHasToBePositive() {
+        loader(1, 0);
+    }
+
+    private static PipelinedLoader<Long> loader(int batchSize, int maxQueuedBatches) {
+        return new TestLoader(batchSize, maxQueuedBatches);
+    }
+
+    private Callable<Cursor> query(final int rowCount) {
+        return new Callable<Cursor>() {
+            @Override
+            public Cursor call() {
+                final Object[][] rows = new Object[rowCount][];
+                for (int i = 0; i < rowCount; i++) {
+                    rows[i] = new Object[]{(long) i};
+                }
+                return new ArrayCursor(new String[]{"id"}, rows) {
+                    @Override
+                    public void close() {
+                        super.close();
+                        cursorClosed.countDown();
+                    }
+                };
+            }
+        };
+    }
+
+    private static BatchConsumer<Long> collect(final List<List<Long>> batches) {
+        return new BatchConsumer<Long>() {
+            @Override
+            public void accept(List<Long> batch) {
+                batches.add(batch);
+            }
+        };
+    }
+
+    private static class TestLoader extends PipelinedLoader<Long> {
+
+        TestLoader(int batchSize, int maxQueuedBatches) {
+            super(batchSize, maxQueuedBatches);
+        }
+
+        @Override
+        protected int[] resolveColumnIndices(Cursor cursor) {
+            return new int[]{cursor.getColumnIndexOrThrow("id")};
+        }
+
+        @Override
+        protected Long convert(Cursor cursor, int[] columnIndices) {
+            return cursor.getLong(columnIndices[0]);
+        }
+    }
+}
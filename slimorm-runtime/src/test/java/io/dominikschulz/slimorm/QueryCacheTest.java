@@ -0,0 +1,178 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class QueryCacheTest {
+
+    private static final String SQL = "SELECT * FROM notes WHERE title = ?";
+
+    private static int tables;
+
+    @Test
+    public void rowsAreCachedUntilTheirTableIsWritten() {
+        final QueryCache cache = new QueryCache(100);
+        final String table = uniqueTable();
+        final List<String> rows = Arrays.asList("a", "b");
+
+        cache.put(cache.stamp(table), QueryCacheTest.class, SQL, new String[]{"x"}, rows);
+        assertSame(rows, cache.get(QueryCacheTest.class, SQL, new String[]{"x"}));
+
+        TableVersions.invalidate(table.toUpperCase(Locale.US));
+        assertNull(cache.get(QueryCacheTest.class, SQL, new String[]{"x"}));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void rowsReadDuringAWriteAreNotCached() {
+        final QueryCache cache = new QueryCache(100);
+        final String table = uniqueTable();
+
+        final QueryCache.Stamp stamp = cache.stamp(table);
+        TableVersions.invalidate(table);
+        cache.put(stamp, QueryCacheTest.class, SQL, null, Arrays.asList("a"));
+
+        assertNull(cache.get(QueryCacheTest.class, SQL, null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void writesToOtherTablesKeepTheRows() {
+        final QueryCache cache = new QueryCache(100);
+        final List<String> rows = Arrays.asList("a");
+
+        cache.put(cache.stamp(uniqueTable()), QueryCacheTest.class, SQL, null, rows);
+        TableVersions.invalidate(uniqueTable());
+
+        assertSame(rows, cache.get(QueryCacheTest.class, SQL, null));
+    }
+
+    @Test
+    public void keyHoldsTheOwnerSqlAndArguments() {
+        final QueryCache cache = new QueryCache(100);
+        final String[] selectionArgs = {"x"};
+
+        cache.put(cache.stamp(uniqueTable()), QueryCacheTest.class, SQL, selectionArgs, Arrays.asList("a"));
+        // The caller may reuse its array
+        selectionArgs[0] = "y";
+
+        assertNotNull(cache.get(QueryCacheTest.class, SQL, new String[]{"x"}));
+        assertNull(cache.get(QueryCacheTest.class, SQL, new String[]{"y"}));
+        assertNull(cache.get(QueryCacheTest.class, SQL, null));
+        assertNull(cache.get(String.class, SQL, new String[]{"x"}));
+        assertNull(cache.get(QueryCacheTest.class, SQL + " LIMIT 1", new String[]{"x"}));
+    }
+
+    @Test
+    public void resultOfMaxRowsIsCached() {
+        final QueryCache cache = new QueryCache(100);
+        final List<Integer> rows = rows(100);
+
+        cache.put(cache.stamp(uniqueTable()), QueryCacheTest.class, SQL, null, rows);
+
+        assertSame(rows, cache.get(QueryCacheTest.class, SQL, null));
+    }
+
+    @Test
+    public void resultAboveMaxRowsIsNotCached() {
+        final QueryCache cache = new QueryCache(100);
+
+        cache.put(cache.stamp(uniqueTable()), QueryCacheTest.class, SQL, null, rows(101));
+
+        assertNull(cache.get(QueryCacheTest.class, SQL, null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void rowsOfAllStripesStayWithinTheBudget() {
+        final QueryCache cache = new QueryCache(10);
+        final QueryCache.Stamp stamp = cache.stamp(uniqueTable());
+
+        for (int i = 0; i < 50; i++) {
+            cache.put(stamp, QueryCacheTest.class, SQL, new String[]{String.valueOf(i)}, rows(4));
+            assertNotNull(cache.get(QueryCacheTest.class, SQL, new String[]{String.valueOf(i)}));
+            assertTrue(String.valueOf(cache.size()), cache.size() <= 2);
+        }
+    }
+
+    @Test
+    public void replacedEntryFreesItsRows() {
+        final QueryCache cache = new QueryCache(10);
+        final QueryCache.Stamp stamp = cache.stamp(uniqueTable());
+
+        cache.put(stamp, QueryCacheTest.class, SQL, new String[]{"a"}, rows(6));
+        cache.put(stamp, QueryCacheTest.class, SQL, new String[]{"a"}, rows(6));
+        cache.put(stamp, QueryCacheTest.class, SQL, new String[]{"b"}, rows(4));
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void emptyResultCountsAsOneRow() {
+        final QueryCache cache = new QueryCache(2);
+        final QueryCache.Stamp stamp = cache.stamp(uniqueTable());
+
+        for (int i = 0; i < 3; i++) {
+            cache.put(stamp, QueryCacheTest.class, SQL, new String[]{String.valueOf(i)}, Collections.emptyList());
+        }
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(QueryCacheTest.class, SQL, new String[]{"2"}));
+    }
+
+    @Test
+    public void clearDropsAllRows() {
+        final QueryCache cache = new QueryCache(10);
+        final QueryCache.Stamp stamp = cache.stamp(uniqueTable());
+        cache.put(stamp, QueryCacheTest.class, SQL, new String[]{"a"}, rows(10));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+
+        // The budget is free again
+        cache.put(stamp, QueryCacheTest.class, SQL, new String[]{"b"}, rows(10));
+        assertNotNull(cache.get(QueryCacheTest.class, SQL, new String[]{"b"}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxRowsHasToBePositive() {
+        new QueryCache(0);
+    }
+
+    @Test
+    public void versionCountsTheWritesOfATable() {
+        final String table = uniqueTable();
+        assertEquals(0, TableVersions.version(table));
+
+        TableVersions.invalidate(table);
+        TableVersions.invalidate(table.toUpperCase(Locale.US));
+
+        assertEquals(2, TableVersions.version(table));
+    }
+
+    private static List<Integer> rows(int count) {
+        final List<Integer> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(i);
+        }
+        return rows;
+    }
+
+    /**
+     * The versions are process wide, every test writes its own tables
+     */
+    private static String uniqueTable() {
+        return "query_cache_test_" + tables++;
+    }
+}
@@ -0,0 +1,200 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SnapshotStoreTest {
+
+    // Header of magic number, layout and row count
+    private static final int HEADER_SIZE = 12;
+
+    private static final SnapshotCodec<String> TEXT_CODEC = new TextCodec(1);
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File directory;
+    private SnapshotStore store;
+
+    @Before
+    public void setUp() {
+        directory = new File(temporaryFolder.getRoot(), "snapshots");
+        store = new SnapshotStore(directory);
+    }
+
+    @Test
+    public void rowsRoundTrip() throws IOException {
+        store.write("texts", Arrays.asList("a", "", "third row"), TEXT_CODEC);
+
+        assertEquals(Arrays.asList("a", "", "third row"), store.read("texts", TEXT_CODEC));
+        assertFalse(new File(directory, "texts.tmp").exists());
+    }
+
+    @Test
+    public void emptySnapshotRoundTrips() throws IOException {
+        store.write("texts", Collections.<String>emptyList(), TEXT_CODEC);
+
+        assertEquals(Collections.emptyList(), store.read("texts", TEXT_CODEC));
+    }
+
+    @Test
+    public void rowsLargerThanTheBufferAreWritten() throws IOException {
+        final char[] large = new char[300 * 1024];
+        Arrays.fill(large, 'x');
+        final List<String> rows = Arrays.asList("small", new String(large), "after");
+
+        store.write("texts", rows, TEXT_CODEC);
+
+        assertEquals(rows, store.read("texts", TEXT_CODEC));
+    }
+
+    @Test
+    public void writeReplacesTheSnapshot() throws IOException {
+        store.write("texts", Arrays.asList("old"), TEXT_CODEC);
+        store.write("texts", Arrays.asList("new", "rows"), TEXT_CODEC);
+
+        assertEquals(Arrays.asList("new", "rows"), store.read("texts", TEXT_CODEC));
+    }
+
+    @Test
+    public void missingSnapshotIsNull() throws IOException {
+        assertNull(store.read("texts", TEXT_CODEC));
+    }
+
+    @Test
+    public void deletedSnapshotIsNull() throws IOException {
+        store.write("texts", Arrays.asList("a"), TEXT_CODEC);
+
+        assertTrue(store.delete("texts"));
+        assertNull(store.read("texts", TEXT_CODEC));
+    }
+
+    @Test
+    public void otherLayoutIsNull() throws IOException {
+        store.write("texts", Arrays.asList("a"), TEXT_CODEC);
+
+        assertNull(store.read("texts", new TextCodec(2)));
+    }
+
+    @Test
+    public void otherFileIsNull() throws IOException {
+        store.write("texts", Arrays.asList("a"), TEXT_CODEC);
+        overwrite(0, 0);
+
+        assertNull(store.read("texts", TEXT_CODEC));
+    }
+
+    @Test
+    public void truncatedSnapshotIsNull() throws IOException {
+        store.write("texts", Arrays.asList("first", "second"), TEXT_CODEC);
+        truncate(3);
+
+        assertNull(store.read("texts", TEXT_CODEC));
+    }
+
+    @Test
+    public void truncatedHeaderIsNull() throws IOException {
+        store.write("texts", Arrays.asList("first"), TEXT_CODEC);
+        final RandomAccessFile file = new RandomAccessFile(new File(directory, "texts.snapshot"), "rw");
+        try {
+            file.setLength(HEADER_SIZE - 1);
+        } finally {
+            file.close();
+        }
+
+        assertNull(store.read("texts", TEXT_CODEC));
+    }
+
+    @Test
+    public void corruptedRowCountIsNull() throws IOException {
+        store.write("texts", Arrays.asList("a"), TEXT_CODEC);
+
+        // Would allocate a list of this size if the count was trusted
+        overwrite(8, Integer.MAX_VALUE);
+        assertNull(store.read("texts", TEXT_CODEC));
+
+        overwrite(8, -1);
+        assertNull(store.read("texts", TEXT_CODEC));
+    }
+
+    @Test
+    public void rowCountBelowTheRowsIsNull() throws IOException {
+        store.write("texts", Arrays.asList("a", "b"), TEXT_CODEC);
+        overwrite(8, 1);
+
+        assertNull(store.read("texts", TEXT_CODEC));
+    }
+
+    @Test
+    public void corruptedLengthIsNull() throws IOException {
+        store.write("texts", Arrays.asList("a", "b"), TEXT_CODEC);
+
+        // Would allocate an array of this size if the length was trusted
+        overwrite(HEADER_SIZE, Integer.MAX_VALUE - 8);
+        assertNull(store.read("texts", TEXT_CODEC));
+
+        overwrite(HEADER_SIZE, -5);
+        assertNull(store.read("texts", TEXT_CODEC));
+    }
+
+    private void overwrite(int position, int value) throws IOException {
+        final RandomAccessFile file = new RandomAccessFile(new File(directory, "texts.snapshot"), "rw");
+        try {
+            file.seek(position);
+            // Snapshots are little endian
+            file.writeInt(Integer.reverseBytes(value));
+        } finally {
+            file.close();
+        }
+    }
+
+    private void truncate(int bytes) throws IOException {
+        final RandomAccessFile file = new RandomAccessFile(new File(directory, "texts.snapshot"), "rw");
+        try {
+            file.setLength(file.length() - bytes);
+        } finally {
+            file.close();
+        }
+    }
+
+    /**
+     * Writes every string with its length prefix
+     */
+    private static class TextCodec implements SnapshotCodec<String> {
+        private final int layout;
+
+        TextCodec(int layout) {
+            this.layout = layout;
+        }
+
+        @Override
+        public int layout() {
+            return layout;
+        }
+
+        @Override
+        public void writeTo(ByteBuffer buffer, String row) {
+            BufferCodecs.putString(buffer, row);
+        }
+
+        @Override
+        public String readFrom(ByteBuffer buffer) {
+            return BufferCodecs.getString(buffer);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.dominikschulz.slimorm;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class StringPoolTest {
+
+    @Test
+    public void equalValuesArePooled() {
+        final StringPool pool = new StringPool(8);
+        final ArrayCursor cursor = cursor("berlin", "paris", "berlin");
+
+        final String first = read(pool, cursor);
+        read(pool, cursor);
+        final String third = read(pool, cursor);
+
+        assertEquals("berlin", first);
+        assertSame(first, third);
+    }
+
+    @Test
+    public void valuesBeyondTheCapacityAreNotPooled() {
+        final StringPool pool = new StringPool(2);
+        final ArrayCursor cursor = cursor("a", "b", "c", "c", "a", "b");
+
+        final String a = read(pool, cursor);
+        final String b = read(pool, cursor);
+        final String c = read(pool, cursor);
+        final String secondC = read(pool, cursor);
+
+        assertEquals("c", secondC);
+        assertNotSame(c, secondC);
+        // The pooled values stay pooled
+        assertSame(a, read(pool, cursor));
+        assertSame(b, read(pool, cursor));
+    }
+
+    @Test
+    public void fullTableStillReadsEveryValue() {
+        final StringPool pool = new StringPool(3);
+        final Object[][] rows = new Object[200][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[]{"value " + (i % 50)};
+        }
+        final ArrayCursor cursor = new ArrayCursor(new String[]{"city"}, rows);
+
+        for (int i = 0; i < rows.length; i++) {
+            cursor.moveToNext();
+            assertEquals(rows[i][0], pool.readString(cursor, 0));
+        }
+    }
+
+    @Test
+    public void valuesLongerThanTheBufferAreRead() {
+        final StringPool pool = new StringPool(4);
+        final char[] chars = new char[1000];
+        Arrays.fill(chars, 'x');
+        final String large = new String(chars);
+        final ArrayCursor cursor = cursor("short", large, "", large);
+
+        assertEquals("short", read(pool, cursor));
+        final String first = read(pool, cursor);
+        assertEquals("", read(pool, cursor));
+        assertEquals(large, first);
+        assertSame(first, read(pool, cursor));
+    }
+
+    @Test
+    public void nullAndMissingColumnsAreNull() {
+        final StringPool pool = new StringPool(4);
+        final ArrayCursor cursor = cursor((String) null);
+        cursor.moveToFirst();
+
+        assertNull(pool.readString(cursor, 0));
+        assertNull(pool.readString(cursor, -1));
+    }
+
+    @Test
+    public void everyThreadHasItsOwnTable() throws Exception {
+        final StringPool pool = new StringPool(4);
+        final String pooled = read(pool, cursor("berlin"));
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final String other = executor.submit(new Callable<String>() {
+                @Override
+                public String call() {
+                    return read(pool, cursor("berlin"));
+                }
+            }).get();
+
+            assertEquals(pooled, other);
+            assertNotSame(pooled, other);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void capacityHasToBePositive() {
+        new StringPool(0);
+    }
+
+    private static ArrayCursor cursor(String... values) {
+        final Object[][] rows = new Object[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            rows[i] = new Object[]{values[i]};
+        }
+        return new ArrayCursor(new String[]{"city"}, rows);
+    }
+
+    /**
+     * @return the value of the next row
+     */
+    private static String read(StringPool pool, ArrayCursor cursor) {
+        cursor.moveToNext();
+        return pool.readString(cursor, 0);
+    }
+}
@@ -0,0 +1,17 @@
+package android.database;
+
+/**
+ * JVM stand-in for the Android class whose stub only throws, used by the {@code StringPool} of deduplicated columns
+ */
+public final class CharArrayBuffer {
+    public char[] data;
+    public int sizeCopied;
+
+    public CharArrayBuffer(int size) {
+        data = new char[size];
+    }
+
+    public CharArrayBuffer(char[] buf) {
+        data = buf;
+    }
+}
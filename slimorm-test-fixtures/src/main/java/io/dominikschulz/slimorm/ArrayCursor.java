@@ -0,0 +1,289 @@
+package io.dominikschulz.slimorm;
+
+import android.content.ContentResolver;
+import android.database.CharArrayBuffer;
+import android.database.ContentObserver;
+import android.database.Cursor;
+import android.database.DataSetObserver;
+import android.net.Uri;
+import android.os.Bundle;
+
+/**
+ * Pure JVM {@link Cursor} over rows held in memory, reading a column which is not selected fails like the {@code CursorWindow}.
+ * The values are stored boxed so reading them does not allocate, the tests check the counted lookups and reads
+ */
+public class ArrayCursor implements Cursor {
+    private final String[] columnNames;
+    private final Object[][] rows;
+    private final int[] reads;
+    private int columnLookups;
+    private int position = -1;
+    private boolean closed;
+
+    public ArrayCursor(String[] columnNames, Object[][] rows) {
+        this.columnNames = columnNames;
+        this.rows = rows;
+        reads = new int[columnNames.length];
+    }
+
+    /**
+     * @return number of values read from the column on all rows
+     */
+    public int getReads(String columnName) {
+        return reads[getColumnIndexOrThrow(columnName)];
+    }
+
+    /**
+     * @return number of {@link #getColumnIndex(String)} calls
+     */
+    public int getColumnLookups() {
+        return columnLookups;
+    }
+
+    private Object value(int columnIndex) {
+        if (position < 0 || position >= rows.length) {
+            throw new IllegalStateException("the cursor is not on a row: " + position);
+        }
+        if (columnIndex < 0 || columnIndex >= columnNames.length) {
+            throw new IllegalStateException("Couldn't read row " + position + ", col " + columnIndex + " from CursorWindow");
+        }
+        reads[columnIndex]++;
+        return rows[position][columnIndex];
+    }
+
+    @Override
+    public int getCount() {
+        return rows.length;
+    }
+
+    @Override
+    public int getPosition() {
+        return position;
+    }
+
+    @Override
+    public boolean move(int offset) {
+        return moveToPosition(position + offset);
+    }
+
+    @Override
+    public boolean moveToPosition(int position) {
+        if (position < -1) {
+            this.position = -1;
+            return false;
+        } else if (position >= rows.length) {
+            this.position = rows.length;
+            return false;
+        }
+        this.position = position;
+        return position >= 0;
+    }
+
+    @Override
+    public boolean moveToFirst() {
+        return moveToPosition(0);
+    }
+
+    @Override
+    public boolean moveToLast() {
+        return moveToPosition(rows.length - 1);
+    }
+
+    @Override
+    public boolean moveToNext() {
+        return moveToPosition(position + 1);
+    }
+
+    @Override
+    public boolean moveToPrevious() {
+        return moveToPosition(position - 1);
+    }
+
+    @Override
+    public boolean isFirst() {
+        return position == 0;
+    }
+
+    @Override
+    public boolean isLast() {
+        return position == rows.length - 1;
+    }
+
+    @Override
+    public boolean isBeforeFirst() {
+        return position < 0;
+    }
+
+    @Override
+    public boolean isAfterLast() {
+        return position >= rows.length;
+    }
+
+    @Override
+    public int getColumnIndex(String columnName) {
+        columnLookups++;
+        return indexOf(columnName);
+    }
+
+    @Override
+    public int getColumnIndexOrThrow(String columnName) {
+        final int columnIndex = indexOf(columnName);
+        if (columnIndex < 0) {
+            throw new IllegalArgumentException("column '" + columnName + "' does not exist");
+        }
+        return columnIndex;
+    }
+
+    private int indexOf(String columnName) {
+        for (int i = 0; i < columnNames.length; i++) {
+            if (columnNames[i].equals(columnName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String getColumnName(int columnIndex) {
+        return columnNames[columnIndex];
+    }
+
+    @Override
+    public String[] getColumnNames() {
+        return columnNames;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public byte[] getBlob(int columnIndex) {
+        return (byte[]) value(columnIndex);
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+        final Object value = value(columnIndex);
+        return value == null ? null : value.toString();
+    }
+
+    @Override
+    public void copyStringToBuffer(int columnIndex, CharArrayBuffer buffer) {
+        // Grows the buffer like the CursorWindow does, null values are copied as an empty string
+        final String value = getString(columnIndex);
+        final int length = value == null ? 0 : value.length();
+        if (buffer.data == null || buffer.data.length < length) {
+            buffer.data = new char[length];
+        }
+        if (value != null) {
+            value.getChars(0, length, buffer.data, 0);
+        }
+        buffer.sizeCopied = length;
+    }
+
+    @Override
+    public short getShort(int columnIndex) {
+        final Object value = value(columnIndex);
+        return value == null ? 0 : ((Number) value).shortValue();
+    }
+
+    @Override
+    public int getInt(int columnIndex) {
+        final Object value = value(columnIndex);
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    @Override
+    public long getLong(int columnIndex) {
+        final Object value = value(columnIndex);
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    @Override
+    public float getFloat(int columnIndex) {
+        final Object value = value(columnIndex);
+        return value == null ? 0 : ((Number) value).floatValue();
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        final Object value = value(columnIndex);
+        return value == null ? 0 : ((Number) value).doubleValue();
+    }
+
+    @Override
+    public int getType(int columnIndex) {
+        final Object value = value(columnIndex);
+        if (value == null) {
+            return FIELD_TYPE_NULL;
+        } else if (value instanceof String) {
+            return FIELD_TYPE_STRING;
+        } else if (value instanceof byte[]) {
+            return FIELD_TYPE_BLOB;
+        } else if (value instanceof Double || value instanceof Float) {
+            return FIELD_TYPE_FLOAT;
+        }
+        return FIELD_TYPE_INTEGER;
+    }
+
+    @Override
+    public boolean isNull(int columnIndex) {
+        return value(columnIndex) == null;
+    }
+
+    @Override
+    public void deactivate() {
+    }
+
+    @Override
+    public boolean requery() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void registerContentObserver(ContentObserver observer) {
+    }
+
+    @Override
+    public void unregisterContentObserver(ContentObserver observer) {
+    }
+
+    @Override
+    public void registerDataSetObserver(DataSetObserver observer) {
+    }
+
+    @Override
+    public void unregisterDataSetObserver(DataSetObserver observer) {
+    }
+
+    @Override
+    public void setNotificationUri(ContentResolver resolver, Uri uri) {
+    }
+
+    @Override
+    public boolean getWantsAllOnMoveCalls() {
+        return false;
+    }
+
+    @Override
+    public Bundle getExtras() {
+        return null;
+    }
+
+    @Override
+    public Bundle respond(Bundle extras) {
+        return null;
+    }
+}